@@ -0,0 +1,23 @@
+package com.richardmogou.loadtest;
+
+import java.util.Random;
+
+/**
+ * Reads the agreement workflow statistics and approval queue and, now and then, downloads the
+ * internship export.
+ */
+final class AdminJourney implements Journey {
+
+    private static final int EXPORT_EVERY = 5;
+
+    private int iterations;
+
+    @Override
+    public void iterate(ApiClient api, Random random) {
+        api.get("/api/agreements/admin/workflow-stats", "/api/agreements/admin/workflow-stats");
+        api.get("/api/agreements/admin/pending", "/api/agreements/admin/pending?page=0&size=10");
+        if (iterations++ % EXPORT_EVERY == 0) {
+            api.download("/api/admin/reports/internships/export", "/api/admin/reports/internships/export");
+        }
+    }
+}
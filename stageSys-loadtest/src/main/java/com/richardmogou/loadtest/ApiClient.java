@@ -0,0 +1,154 @@
+package com.richardmogou.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * REST calls of one virtual user. Every call is recorded under its endpoint template
+ * (e.g. {@code GET /api/offers/{offerId}}); failed calls return null instead of throwing, so a journey
+ * keeps going the way a real client would retry later.
+ */
+final class ApiClient {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient http;
+    private final URI baseUrl;
+    private final LatencyRecorder recorder;
+    private String token;
+    private long userId;
+
+    ApiClient(HttpClient http, URI baseUrl, LatencyRecorder recorder) {
+        this.http = http;
+        this.baseUrl = baseUrl;
+        this.recorder = recorder;
+    }
+
+    boolean login(String email, String password) {
+        JsonNode response = postJson("/api/auth/login", "/api/auth/login", Map.of("email", email, "password", password));
+        if (response == null) {
+            return false;
+        }
+        token = response.path("token").asText();
+        userId = response.path("userId").asLong();
+        return true;
+    }
+
+    String token() {
+        return token;
+    }
+
+    long userId() {
+        return userId;
+    }
+
+    JsonNode get(String template, String path) {
+        return json(send(template, request(path).GET()));
+    }
+
+    /**
+     * GET of a binary download (exports); only the size is kept.
+     */
+    long download(String template, String path) {
+        HttpResponse<byte[]> response = send(template, request(path).GET());
+        return response != null ? response.body().length : -1;
+    }
+
+    JsonNode postJson(String template, String path, Object body) {
+        return json(send(template, request(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(write(body)))));
+    }
+
+    JsonNode putJson(String template, String path, Object body) {
+        return json(send(template, request(path)
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(write(body)))));
+    }
+
+    /**
+     * Multipart POST with text parts and one file part.
+     */
+    JsonNode postMultipart(String template, String path, Map<String, String> fields,
+                           String fileField, String fileName, String fileType, byte[] file) {
+        String boundary = "----loadtest" + UUID.randomUUID();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        fields.forEach((name, value) -> writePart(body, boundary,
+                "Content-Disposition: form-data; name=\"" + name + "\"\r\nContent-Type: text/plain; charset=UTF-8",
+                value.getBytes(StandardCharsets.UTF_8)));
+        writePart(body, boundary,
+                "Content-Disposition: form-data; name=\"" + fileField + "\"; filename=\"" + fileName + "\"\r\nContent-Type: " + fileType,
+                file);
+        body.writeBytes(("--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return json(send(template, request(path)
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))));
+    }
+
+    private HttpRequest.Builder request(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUrl.resolve(path)).timeout(TIMEOUT);
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private HttpResponse<byte[]> send(String template, HttpRequest.Builder builder) {
+        HttpRequest request = builder.build();
+        String endpoint = request.method() + " " + template;
+        long started = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            boolean error = response.statusCode() >= 400;
+            recorder.record(endpoint, System.nanoTime() - started, error);
+            return error ? null : response;
+        } catch (IOException e) {
+            recorder.record(endpoint, System.nanoTime() - started, true);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private static JsonNode json(HttpResponse<byte[]> response) {
+        if (response == null) {
+            return null;
+        }
+        if (response.body().length == 0) {
+            return MAPPER.nullNode();
+        }
+        try {
+            return MAPPER.readTree(response.body());
+        } catch (IOException e) {
+            // Plain-text success bodies (e.g. messages) carry nothing the journeys need
+            return MAPPER.nullNode();
+        }
+    }
+
+    private static byte[] write(Object body) {
+        try {
+            return MAPPER.writeValueAsBytes(body);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot serialize request body", e);
+        }
+    }
+
+    private static void writePart(ByteArrayOutputStream body, String boundary, String headers, byte[] content) {
+        body.writeBytes(("--" + boundary + "\r\n" + headers + "\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(content);
+        body.writeBytes("\r\n".getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,35 @@
+package com.richardmogou.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Reviews received applications and moves one of them forward: PENDING to VIEWED, VIEWED to
+ * ACCEPTED or REJECTED.
+ */
+final class CompanyJourney implements Journey {
+
+    @Override
+    public void iterate(ApiClient api, Random random) {
+        JsonNode page = api.get("/api/companies/me/applications", "/api/companies/me/applications?page=0&size=20");
+        JsonNode applications = page != null ? page.path("content") : null;
+        if (applications == null) {
+            return;
+        }
+        for (JsonNode application : applications) {
+            String next = switch (application.path("status").asText()) {
+                case "PENDING" -> "VIEWED";
+                case "VIEWED" -> random.nextBoolean() ? "ACCEPTED" : "REJECTED";
+                default -> null;
+            };
+            if (next != null) {
+                long applicationId = application.path("id").asLong();
+                api.putJson("/api/applications/{applicationId}/status", "/api/applications/" + applicationId + "/status",
+                        Map.of("status", next, "feedback", "Reviewed during load test"));
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.richardmogou.loadtest;
+
+import java.util.Random;
+
+/**
+ * Polls the faculty validation queue the way the dashboard does.
+ */
+final class FacultyJourney implements Journey {
+
+    @Override
+    public void iterate(ApiClient api, Random random) {
+        api.get("/api/agreements/faculty/pending/count", "/api/agreements/faculty/pending/count");
+        api.get("/api/agreements/faculty/pending", "/api/agreements/faculty/pending?page=0&size=10");
+    }
+}
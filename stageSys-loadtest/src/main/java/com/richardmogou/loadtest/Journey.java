@@ -0,0 +1,12 @@
+package com.richardmogou.loadtest;
+
+import java.util.Random;
+
+/**
+ * One iteration of what a user of a given role does between two think times. Implementations keep
+ * per-user state (e.g. offers already applied to) and are only ever driven by their own virtual thread.
+ */
+interface Journey {
+
+    void iterate(ApiClient api, Random random);
+}
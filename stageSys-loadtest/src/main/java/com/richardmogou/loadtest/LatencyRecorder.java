@@ -0,0 +1,91 @@
+package com.richardmogou.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Latencies and errors per endpoint. Samples taken before {@link #startMeasuring()} (warm-up) are dropped.
+ */
+final class LatencyRecorder {
+
+    record EndpointReport(String endpoint, long requests, long errors, double throughput,
+                          double p50Millis, double p90Millis, double p95Millis, double p99Millis, double maxMillis) {
+
+        double errorRate() {
+            return requests > 0 ? (double) errors / requests : 0;
+        }
+    }
+
+    private static final class Samples {
+        private long[] nanos = new long[1024];
+        private int count;
+        private long errors;
+
+        synchronized void add(long elapsedNanos, boolean error) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = elapsedNanos;
+            if (error) {
+                errors++;
+            }
+        }
+
+        synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(nanos, count);
+            Arrays.sort(copy);
+            return copy;
+        }
+
+        synchronized long errors() {
+            return errors;
+        }
+    }
+
+    private final Map<String, Samples> endpoints = new ConcurrentHashMap<>();
+    private volatile boolean measuring;
+    private volatile long measuringSince;
+    private volatile long measuringUntil;
+
+    void startMeasuring() {
+        measuringSince = System.nanoTime();
+        measuring = true;
+    }
+
+    void stopMeasuring() {
+        measuringUntil = System.nanoTime();
+        measuring = false;
+    }
+
+    void record(String endpoint, long elapsedNanos, boolean error) {
+        if (measuring) {
+            endpoints.computeIfAbsent(endpoint, key -> new Samples()).add(elapsedNanos, error);
+        }
+    }
+
+    List<EndpointReport> report() {
+        double seconds = Math.max(measuringUntil - measuringSince, 1) / 1e9;
+        List<EndpointReport> reports = new ArrayList<>();
+        endpoints.forEach((endpoint, samples) -> {
+            long[] sorted = samples.sorted();
+            reports.add(new EndpointReport(endpoint, sorted.length, samples.errors(), sorted.length / seconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                    sorted.length > 0 ? sorted[sorted.length - 1] / 1e6 : 0));
+        });
+        reports.sort(Comparator.comparing(EndpointReport::endpoint));
+        return reports;
+    }
+
+    // Nearest-rank percentile, in milliseconds
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(rank - 1, 0)] / 1e6;
+    }
+}
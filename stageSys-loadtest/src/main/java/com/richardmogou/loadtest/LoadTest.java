@@ -0,0 +1,219 @@
+package com.richardmogou.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Drives a running stageSys instance with student, company, faculty and admin virtual users, each on its
+ * own virtual thread, and reports throughput and latency percentiles per endpoint.
+ * <p>
+ * Start the backend with the {@code h2} profile (seeded demo accounts, in-memory database), then run
+ * {@code mvn -q exec:java -Dexec.args="--duration=60 --students=100 --max-p95-ms=250"}. The process exits
+ * with status 1 when the p95 of any endpoint or the overall error rate exceeds its threshold.
+ */
+public final class LoadTest {
+
+    private static final String[] COMPANY_ACCOUNTS = {
+            "jane.mogou@techcorp.com", "peter.jones@innovate.io", "mark.chief@financeplus.com"};
+    private static final String[] FACULTY_ACCOUNTS = {"alice.prof@university.edu", "bob.lect@university.edu"};
+    private static final String[] ADMIN_ACCOUNTS = {"richardmogou@app.com"};
+
+    private record VirtualUser(String email, Journey journey, long seed) {
+    }
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        LatencyRecorder recorder = new LatencyRecorder();
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        List<VirtualUser> users = new ArrayList<>();
+        registerStudents(http, options, recorder).forEach(email ->
+                users.add(new VirtualUser(email, new StudentJourney(), users.size())));
+        addAccounts(users, COMPANY_ACCOUNTS, options.companies(), CompanyJourney::new);
+        addAccounts(users, FACULTY_ACCOUNTS, options.faculty(), FacultyJourney::new);
+        addAccounts(users, ADMIN_ACCOUNTS, options.admins(), AdminJourney::new);
+        System.out.printf("Running %d virtual users against %s: %ds warm-up, %ds measured%n",
+                users.size(), options.baseUrl(), options.warmupSeconds(), options.durationSeconds());
+
+        long warmupEnds = System.nanoTime() + Duration.ofSeconds(options.warmupSeconds()).toNanos();
+        long runEnds = warmupEnds + Duration.ofSeconds(options.durationSeconds()).toNanos();
+        AtomicLong notifications = new AtomicLong();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (VirtualUser user : users) {
+                executor.submit(() -> notifications.addAndGet(run(http, options, recorder, user, runEnds)));
+            }
+            sleepUntil(warmupEnds);
+            recorder.startMeasuring();
+            sleepUntil(runEnds);
+            recorder.stopMeasuring();
+        }
+
+        List<LatencyRecorder.EndpointReport> report = recorder.report();
+        print(report, notifications.get());
+        write(report, options);
+        System.exit(passes(report, options) & notificationsDelivered(notifications.get(), options) ? 0 : 1);
+    }
+
+    /**
+     * Registers fresh students, spread over the seeded schools and faculties, so every run applies to
+     * offers without colliding with applications of a previous run.
+     */
+    private static List<String> registerStudents(HttpClient http, LoadTestOptions options, LatencyRecorder recorder) {
+        ApiClient setup = new ApiClient(http, options.baseUrl(), recorder);
+        List<long[]> faculties = new ArrayList<>();
+        JsonNode schools = setup.get("/api/schools", "/api/schools");
+        if (schools != null) {
+            for (JsonNode school : schools) {
+                long schoolId = school.path("id").asLong();
+                JsonNode schoolFaculties = setup.get("/api/schools/{schoolId}/faculties", "/api/schools/" + schoolId + "/faculties");
+                if (schoolFaculties != null) {
+                    schoolFaculties.forEach(faculty -> faculties.add(new long[]{schoolId, faculty.path("id").asLong()}));
+                }
+            }
+        }
+        if (faculties.isEmpty()) {
+            throw new IllegalStateException("No school/faculty found at " + options.baseUrl() + "; is the h2 profile seeded?");
+        }
+
+        String run = Long.toString(System.currentTimeMillis(), 36);
+        List<String> emails = new ArrayList<>(options.students());
+        for (int i = 0; i < options.students(); i++) {
+            long[] faculty = faculties.get(i % faculties.size());
+            String email = "loadtest-" + run + "-" + i + "@loadtest.stagesys.test";
+            JsonNode registered = setup.postJson("/api/auth/register/student", "/api/auth/register/student", Map.of(
+                    "firstName", "Load", "lastName", "Student " + i, "email", email, "password", options.password(),
+                    "schoolId", faculty[0], "facultyId", faculty[1]));
+            if (registered != null) {
+                emails.add(email);
+            }
+        }
+        return emails;
+    }
+
+    private static void addAccounts(List<VirtualUser> users, String[] accounts, int count,
+                                    Supplier<Journey> journey) {
+        for (int i = 0; i < count; i++) {
+            users.add(new VirtualUser(accounts[i % accounts.length], journey.get(), users.size()));
+        }
+    }
+
+    /**
+     * Logs in, keeps a STOMP session open for the notification pushes and loops over the journey until
+     * the run ends; returns the number of notifications received.
+     */
+    private static long run(HttpClient http, LoadTestOptions options, LatencyRecorder recorder, VirtualUser user, long runEnds) {
+        ApiClient api = new ApiClient(http, options.baseUrl(), recorder);
+        Random random = new Random(user.seed());
+        // Spread logins so the run does not start with every user hitting the auth endpoint at once
+        sleep(random.nextLong(Math.max(options.thinkMillis(), 1)));
+        if (!api.login(user.email(), options.password())) {
+            return 0;
+        }
+        StompSession stomp = StompSession.open(http, options.baseUrl(), options.origin(), api.token(), recorder);
+        try {
+            while (System.nanoTime() < runEnds && !Thread.currentThread().isInterrupted()) {
+                user.journey().iterate(api, random);
+                sleep(options.thinkMillis() / 2 + random.nextLong(options.thinkMillis() + 1));
+            }
+        } finally {
+            if (stomp != null) {
+                stomp.close();
+            }
+        }
+        return stomp != null ? stomp.messagesReceived() : 0;
+    }
+
+    private static boolean passes(List<LatencyRecorder.EndpointReport> report, LoadTestOptions options) {
+        long requests = report.stream().mapToLong(LatencyRecorder.EndpointReport::requests).sum();
+        long errors = report.stream().mapToLong(LatencyRecorder.EndpointReport::errors).sum();
+        double errorRate = requests > 0 ? (double) errors / requests : 1;
+        boolean passes = true;
+        if (errorRate > options.maxErrorRate()) {
+            System.out.printf("FAIL: error rate %.2f%% exceeds %.2f%%%n", errorRate * 100, options.maxErrorRate() * 100);
+            passes = false;
+        }
+        if (options.maxP95Millis() > 0) {
+            for (LatencyRecorder.EndpointReport endpoint : report) {
+                if (endpoint.p95Millis() > options.maxP95Millis()) {
+                    System.out.printf("FAIL: p95 of %s is %.1f ms (max %.1f ms)%n",
+                            endpoint.endpoint(), endpoint.p95Millis(), options.maxP95Millis());
+                    passes = false;
+                }
+            }
+        }
+        return passes;
+    }
+
+    /**
+     * Every application a student submits notifies the offer's company contact over STOMP, so a run with
+     * both roles that receives nothing means the pushes are not reaching the sessions.
+     */
+    private static boolean notificationsDelivered(long notifications, LoadTestOptions options) {
+        if (notifications == 0 && options.students() > 0 && options.companies() > 0) {
+            System.out.println("FAIL: no STOMP notification received; check that CONNECT frames are authenticated");
+            return false;
+        }
+        return true;
+    }
+
+    private static void print(List<LatencyRecorder.EndpointReport> report, long notifications) {
+        System.out.printf("%-52s %8s %7s %8s %8s %8s %8s %8s %8s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p95 ms", "p99 ms", "max ms");
+        for (LatencyRecorder.EndpointReport r : report) {
+            System.out.printf(Locale.ROOT, "%-52s %8d %7d %8.1f %8.1f %8.1f %8.1f %8.1f %8.1f%n",
+                    r.endpoint(), r.requests(), r.errors(), r.throughput(),
+                    r.p50Millis(), r.p90Millis(), r.p95Millis(), r.p99Millis(), r.maxMillis());
+        }
+        System.out.println("STOMP notifications received: " + notifications);
+    }
+
+    private static void write(List<LatencyRecorder.EndpointReport> report, LoadTestOptions options) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("endpoint,requests,errors,throughput,p50_ms,p90_ms,p95_ms,p99_ms,max_ms");
+        for (LatencyRecorder.EndpointReport r : report) {
+            lines.add(String.format(Locale.ROOT, "\"%s\",%d,%d,%.2f,%.2f,%.2f,%.2f,%.2f,%.2f",
+                    r.endpoint(), r.requests(), r.errors(), r.throughput(),
+                    r.p50Millis(), r.p90Millis(), r.p95Millis(), r.p99Millis(), r.maxMillis()));
+        }
+        if (options.report().getParent() != null) {
+            Files.createDirectories(options.report().getParent());
+        }
+        Files.write(options.report(), lines);
+        System.out.println("Report written to " + options.report().toAbsolutePath());
+    }
+
+    private static void sleepUntil(long deadlineNanos) throws InterruptedException {
+        long remaining = deadlineNanos - System.nanoTime();
+        if (remaining > 0) {
+            Thread.sleep(Duration.ofNanos(remaining));
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.richardmogou.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command line options, given as {@code --name=value}.
+ */
+record LoadTestOptions(
+        URI baseUrl,
+        String origin,
+        int durationSeconds,
+        int warmupSeconds,
+        int students,
+        int companies,
+        int faculty,
+        int admins,
+        long thinkMillis,
+        String password,
+        Path report,
+        double maxP95Millis,
+        double maxErrorRate) {
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        return new LoadTestOptions(
+                URI.create(values.getOrDefault("base-url", "http://localhost:8080")),
+                values.getOrDefault("origin", "http://localhost:4200"),
+                Integer.parseInt(values.getOrDefault("duration", "60")),
+                Integer.parseInt(values.getOrDefault("warmup", "10")),
+                Integer.parseInt(values.getOrDefault("students", "50")),
+                Integer.parseInt(values.getOrDefault("companies", "3")),
+                Integer.parseInt(values.getOrDefault("faculty", "2")),
+                Integer.parseInt(values.getOrDefault("admins", "1")),
+                Long.parseLong(values.getOrDefault("think-ms", "200")),
+                values.getOrDefault("password", "password"),
+                Path.of(values.getOrDefault("report", "target/loadtest-report.csv")),
+                Double.parseDouble(values.getOrDefault("max-p95-ms", "0")),
+                Double.parseDouble(values.getOrDefault("max-error-rate", "0.01")));
+    }
+}
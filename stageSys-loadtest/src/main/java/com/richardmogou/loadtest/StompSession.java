@@ -0,0 +1,90 @@
+package com.richardmogou.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Minimal STOMP 1.2 client over the raw WebSocket transport of the SockJS endpoint ({@code /ws/websocket}):
+ * connects, subscribes to the user's notification queue and counts the messages pushed to it.
+ * The CONNECT round trip is recorded as {@code STOMP CONNECT}.
+ */
+final class StompSession implements WebSocket.Listener {
+
+    static final String CONNECT_ENDPOINT = "STOMP CONNECT";
+    private static final long CONNECT_TIMEOUT_SECONDS = 10;
+
+    private final CompletableFuture<Void> connected = new CompletableFuture<>();
+    private final StringBuilder buffer = new StringBuilder();
+    private final AtomicLong messages = new AtomicLong();
+    private WebSocket webSocket;
+
+    static StompSession open(HttpClient http, URI baseUrl, String origin, String token, LatencyRecorder recorder) {
+        URI uri = URI.create(baseUrl.toString().replaceFirst("^http", "ws").replaceAll("/$", "") + "/ws/websocket");
+        StompSession session = new StompSession();
+        long started = System.nanoTime();
+        try {
+            session.webSocket = http.newWebSocketBuilder()
+                    .header("Origin", origin)
+                    .buildAsync(uri, session)
+                    .get(CONNECT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            session.send("CONNECT\naccept-version:1.2\nhost:" + baseUrl.getHost() + "\nAuthorization:Bearer " + token + "\n\n");
+            session.connected.get(CONNECT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            recorder.record(CONNECT_ENDPOINT, System.nanoTime() - started, false);
+            session.send("SUBSCRIBE\nid:notifications\ndestination:/user/queue/notifications\n\n");
+            return session;
+        } catch (Exception e) {
+            recorder.record(CONNECT_ENDPOINT, System.nanoTime() - started, true);
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }
+    }
+
+    long messagesReceived() {
+        return messages.get();
+    }
+
+    void close() {
+        try {
+            send("DISCONNECT\n\n");
+            webSocket.sendClose(WebSocket.NORMAL_CLOSURE, "done").get(CONNECT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            webSocket.abort();
+        }
+    }
+
+    @Override
+    public CompletionStage<?> onText(WebSocket socket, CharSequence data, boolean last) {
+        buffer.append(data);
+        // Frames end with a NUL octet; a WebSocket message may carry a partial frame or several
+        int end;
+        while ((end = buffer.indexOf("\0")) >= 0) {
+            String frame = buffer.substring(0, end).stripLeading();
+            buffer.delete(0, end + 1);
+            if (frame.startsWith("CONNECTED")) {
+                connected.complete(null);
+            } else if (frame.startsWith("MESSAGE")) {
+                messages.incrementAndGet();
+            } else if (frame.startsWith("ERROR")) {
+                connected.completeExceptionally(new IllegalStateException(frame));
+            }
+        }
+        socket.request(1);
+        return null;
+    }
+
+    @Override
+    public void onError(WebSocket socket, Throwable error) {
+        connected.completeExceptionally(error);
+    }
+
+    private void send(String frame) throws Exception {
+        webSocket.sendText(frame + "\0", true).get(CONNECT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+}
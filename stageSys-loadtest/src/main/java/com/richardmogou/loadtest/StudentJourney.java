@@ -0,0 +1,39 @@
+package com.richardmogou.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Browses the first offer pages, opens an offer, applies to it once, then checks notifications and
+ * its own applications.
+ */
+final class StudentJourney implements Journey {
+
+    private static final int BROWSED_PAGES = 5;
+    private static final byte[] CV = ("%PDF-1.4\n1 0 obj<</Type/Catalog>>endobj\ntrailer<</Root 1 0 R>>\n%%EOF\n")
+            .getBytes(StandardCharsets.US_ASCII);
+
+    private final Set<Long> appliedOffers = new HashSet<>();
+
+    @Override
+    public void iterate(ApiClient api, Random random) {
+        JsonNode page = api.get("/api/offers", "/api/offers?page=" + random.nextInt(BROWSED_PAGES) + "&size=10");
+        JsonNode offers = page != null ? page.path("content") : null;
+        if (offers != null && !offers.isEmpty()) {
+            long offerId = offers.get(random.nextInt(offers.size())).path("id").asLong();
+            api.get("/api/offers/{offerId}", "/api/offers/" + offerId);
+            if (appliedOffers.add(offerId)) {
+                api.postMultipart("/api/offers/{offerId}/apply", "/api/offers/" + offerId + "/apply",
+                        Map.of("coverLetter", "Load test application to offer " + offerId),
+                        "cv", "cv.pdf", "application/pdf", CV);
+            }
+        }
+        api.get("/api/notifications/unread-count", "/api/notifications/unread-count");
+        api.get("/api/students/me/applications", "/api/students/me/applications?page=0&size=10");
+    }
+}
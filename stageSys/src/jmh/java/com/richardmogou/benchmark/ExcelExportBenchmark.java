@@ -0,0 +1,66 @@
+package com.richardmogou.benchmark;
+
+import com.richardmogou.entity.InternshipAgreement;
+import com.richardmogou.entity.enums.InternshipAgreementStatus;
+import com.richardmogou.repository.InternshipAgreementRepository;
+import com.richardmogou.service.ExcelExportService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Internship report generation: header, one row per approved agreement, column sizing and XLSX encoding.
+ * The repository is a stub returning generated agreements, so only the workbook work is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ExcelExportBenchmark {
+
+    @Param({"100", "1000"})
+    private int rows;
+
+    private ExcelExportService excelExportService;
+
+    @Setup
+    public void setUp() {
+        Fixtures fixtures = new Fixtures();
+        List<InternshipAgreement> agreements = fixtures.agreements(
+                fixtures.applications(rows, fixtures.offers(50, fixtures.companies(20))));
+        InternshipAgreementRepository repository = (InternshipAgreementRepository) Proxy.newProxyInstance(
+                InternshipAgreementRepository.class.getClassLoader(),
+                new Class<?>[]{InternshipAgreementRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findAllByStatus") && args[0] == InternshipAgreementStatus.APPROVED) {
+                        return agreements;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        excelExportService = new ExcelExportService(repository);
+    }
+
+    @Benchmark
+    public int generateInternshipReport() throws IOException {
+        try (ByteArrayInputStream report = excelExportService.generateInternshipReport(Map.of())) {
+            return report.available();
+        }
+    }
+}
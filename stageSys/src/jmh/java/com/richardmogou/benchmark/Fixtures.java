@@ -0,0 +1,125 @@
+package com.richardmogou.benchmark;
+
+import com.richardmogou.entity.Application;
+import com.richardmogou.entity.Company;
+import com.richardmogou.entity.InternshipAgreement;
+import com.richardmogou.entity.InternshipOffer;
+import com.richardmogou.entity.User;
+import com.richardmogou.entity.enums.ApplicationStatus;
+import com.richardmogou.entity.enums.InternshipAgreementStatus;
+import com.richardmogou.entity.enums.InternshipOfferStatus;
+import com.richardmogou.entity.enums.Role;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Detached entity graphs generated from a fixed seed, so every run of a benchmark maps the same data.
+ */
+final class Fixtures {
+
+    static final long SEED = 42L;
+
+    private static final String[] FIRST_NAMES = {"Amina", "Paul", "Chloé", "Yannick", "Fatou", "Lucas", "Inès", "Boris"};
+    private static final String[] LAST_NAMES = {"Mbarga", "Dupont", "Nguyen", "Kamga", "Diallo", "Martin", "Fotso", "Bernard"};
+    private static final String[] DOMAINS = {"Computer Science", "Marketing", "Finance", "Graphic Design"};
+    private static final String[] LOCATIONS = {"Paris", "Douala", "Yaoundé", "Lyon", "Remote"};
+    private static final String[] SKILLS = {"Java", "Spring Boot", "SQL", "React", "Angular", "Python", "Communication"};
+
+    private final Random random = new Random(SEED);
+    private final LocalDateTime now = LocalDateTime.of(2025, 1, 15, 9, 30);
+    private long ids;
+
+    List<Company> companies(int count) {
+        List<Company> companies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Company company = new Company();
+            company.setId(++ids);
+            company.setName("Company " + i);
+            company.setWebsite("https://company" + i + ".example.com");
+            company.setPrimaryContactUser(user(Role.COMPANY));
+            company.setCreatedAt(now);
+            company.setUpdatedAt(now);
+            companies.add(company);
+        }
+        return companies;
+    }
+
+    List<InternshipOffer> offers(int count, List<Company> companies) {
+        List<InternshipOffer> offers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            InternshipOffer offer = new InternshipOffer();
+            offer.setId(++ids);
+            offer.setTitle("Internship " + i + " - " + pick(DOMAINS));
+            offer.setDescription("Generated offer " + i + " ".repeat(random.nextInt(200)));
+            offer.setRequiredSkills(pick(SKILLS) + ", " + pick(SKILLS));
+            offer.setDomain(pick(DOMAINS));
+            offer.setLocation(pick(LOCATIONS));
+            offer.setDuration((2 + random.nextInt(5)) + " Months");
+            offer.setStartDate(LocalDate.of(2025, 3, 1).plusDays(random.nextInt(120)));
+            offer.setStatus(InternshipOfferStatus.OPEN);
+            offer.setCompany(companies.get(random.nextInt(companies.size())));
+            offer.setCreatedAt(now.minusDays(random.nextInt(60)));
+            offer.setUpdatedAt(now);
+            offers.add(offer);
+        }
+        return offers;
+    }
+
+    List<Application> applications(int count, List<InternshipOffer> offers) {
+        List<Application> applications = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Application application = new Application();
+            application.setId(++ids);
+            application.setStudent(user(Role.STUDENT));
+            application.setInternshipOffer(offers.get(random.nextInt(offers.size())));
+            application.setCvPath("cv-" + i + ".pdf");
+            application.setCoverLetter("Cover letter " + i);
+            application.setStatus(ApplicationStatus.ACCEPTED);
+            application.setApplicationDate(now.minusDays(random.nextInt(30)));
+            application.setCreatedAt(application.getApplicationDate());
+            application.setUpdatedAt(now);
+            applications.add(application);
+        }
+        return applications;
+    }
+
+    List<InternshipAgreement> agreements(List<Application> applications) {
+        User validator = user(Role.FACULTY);
+        User approver = user(Role.ADMIN);
+        List<InternshipAgreement> agreements = new ArrayList<>(applications.size());
+        for (Application application : applications) {
+            InternshipAgreement agreement = new InternshipAgreement();
+            agreement.setId(++ids);
+            agreement.setApplication(application);
+            agreement.setAgreementPdfPath("agreement-" + application.getId() + ".pdf");
+            agreement.setStatus(InternshipAgreementStatus.APPROVED);
+            agreement.setFacultyValidator(validator);
+            agreement.setAdminApprover(approver);
+            agreement.setFacultyValidationDate(now.minusDays(3));
+            agreement.setAdminApprovalDate(now.minusDays(1));
+            agreement.setCreatedAt(now.minusDays(5));
+            agreement.setUpdatedAt(now);
+            agreements.add(agreement);
+        }
+        return agreements;
+    }
+
+    private User user(Role role) {
+        User user = new User();
+        user.setId(++ids);
+        user.setFirstName(pick(FIRST_NAMES));
+        user.setLastName(pick(LAST_NAMES));
+        user.setEmail(role.name().toLowerCase() + ids + "@bench.example.com");
+        user.setPassword("{noop}password");
+        user.setRole(role);
+        return user;
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,80 @@
+package com.richardmogou.benchmark;
+
+import com.richardmogou.entity.InternshipOffer;
+import com.richardmogou.service.specification.InternshipOfferSpecification;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Criteria building of {@link InternshipOfferSpecification#filterBy} for the public listing and for a fully
+ * filtered search. Runs against the real entity metamodel on an empty in-memory H2 database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OfferSpecificationBenchmark {
+
+    private static final Map<String, Map<String, String>> FILTER_SETS = Map.of(
+            "public", Map.of("status", "OPEN"),
+            "search", Map.of("status", "OPEN", "domain", "Computer Science", "location", "paris",
+                    "duration", "3 Months", "companyId", "12", "skill", "java", "search", "backend"));
+
+    @Param({"public", "search"})
+    private String filterSet;
+
+    private LocalContainerEntityManagerFactoryBean factoryBean;
+    private EntityManager entityManager;
+    private CriteriaBuilder criteriaBuilder;
+    private Map<String, String> filters;
+
+    @Setup
+    public void setUp() {
+        factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(new DriverManagerDataSource("jdbc:h2:mem:jmh-spec;MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", ""));
+        factoryBean.setPackagesToScan("com.richardmogou.entity");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "none"));
+        factoryBean.afterPropertiesSet();
+        EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+        entityManager = entityManagerFactory.createEntityManager();
+        criteriaBuilder = entityManager.getCriteriaBuilder();
+        filters = FILTER_SETS.get(filterSet);
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        factoryBean.destroy();
+    }
+
+    @Benchmark
+    public Object buildPredicate() {
+        CriteriaQuery<InternshipOffer> query = criteriaBuilder.createQuery(InternshipOffer.class);
+        Root<InternshipOffer> root = query.from(InternshipOffer.class);
+        return InternshipOfferSpecification.filterBy(filters).toPredicate(root, query, criteriaBuilder);
+    }
+}
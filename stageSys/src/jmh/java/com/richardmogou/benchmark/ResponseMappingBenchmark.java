@@ -0,0 +1,73 @@
+package com.richardmogou.benchmark;
+
+import com.richardmogou.dto.ApplicationResponse;
+import com.richardmogou.dto.InternshipAgreementResponse;
+import com.richardmogou.dto.InternshipOfferResponse;
+import com.richardmogou.entity.Application;
+import com.richardmogou.entity.Company;
+import com.richardmogou.entity.InternshipAgreement;
+import com.richardmogou.entity.InternshipOffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping of one listing page, the per-row cost of the offer, application and agreement endpoints.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseMappingBenchmark {
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private List<InternshipOffer> offers;
+    private List<Application> applications;
+    private List<InternshipAgreement> agreements;
+
+    @Setup
+    public void setUp() {
+        Fixtures fixtures = new Fixtures();
+        List<Company> companies = fixtures.companies(20);
+        offers = fixtures.offers(pageSize, companies);
+        applications = fixtures.applications(pageSize, offers);
+        agreements = fixtures.agreements(applications);
+    }
+
+    @Benchmark
+    public void offerResponses(Blackhole blackhole) {
+        for (InternshipOffer offer : offers) {
+            blackhole.consume(InternshipOfferResponse.fromEntity(offer));
+        }
+    }
+
+    @Benchmark
+    public void applicationResponses(Blackhole blackhole) {
+        for (Application application : applications) {
+            blackhole.consume(ApplicationResponse.fromEntity(application));
+        }
+    }
+
+    @Benchmark
+    public void agreementResponses(Blackhole blackhole) {
+        for (InternshipAgreement agreement : agreements) {
+            blackhole.consume(InternshipAgreementResponse.fromEntity(agreement));
+        }
+    }
+}
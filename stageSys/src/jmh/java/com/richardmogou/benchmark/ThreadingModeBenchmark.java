@@ -0,0 +1,121 @@
+package com.richardmogou.benchmark;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request throughput of platform threads (a 200-thread pool, as Tomcat's default) against one virtual thread
+ * per request. Each simulated request reads a row through a Hikari pool on H2, then blocks for
+ * {@code blockingMillis} the way a PostgreSQL round trip or a file read would.
+ * <p>
+ * {@code virtual-pinned} does the same blocking work inside {@code synchronized}, which pins the carrier
+ * thread on Java 21 and shows what the pinning monitor reports.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ThreadingModeBenchmark {
+
+    private static final int REQUESTS = 2_000;
+    private static final int PLATFORM_THREADS = 200;
+    private static final int ROWS = 1_000;
+    private static final int LOCK_STRIPES = 64;
+
+    @Param({"platform", "virtual", "virtual-pinned"})
+    private String mode;
+
+    @Param({"5"})
+    private int blockingMillis;
+
+    @Param({"50"})
+    private int poolSize;
+
+    private HikariDataSource dataSource;
+    private ExecutorService executor;
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    @Setup
+    public void setUp() throws SQLException {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:jmh-threads;MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        config.setMaximumPoolSize(poolSize);
+        dataSource = new HikariDataSource(config);
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS offers (id BIGINT PRIMARY KEY, title VARCHAR(255))");
+            statement.execute("DELETE FROM offers");
+            statement.execute("INSERT INTO offers SELECT x, 'Offer ' || x FROM SYSTEM_RANGE(1, " + ROWS + ")");
+        }
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        executor = mode.equals("platform")
+                ? Executors.newFixedThreadPool(PLATFORM_THREADS)
+                : Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+        dataSource.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public long handleRequests() throws Exception {
+        List<Future<String>> responses = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            long offerId = 1 + (i % ROWS);
+            responses.add(executor.submit(mode.equals("virtual-pinned")
+                    ? () -> { synchronized (locks[(int) (offerId % LOCK_STRIPES)]) { return handle(offerId); } }
+                    : () -> handle(offerId)));
+        }
+        long length = 0;
+        for (Future<String> response : responses) {
+            length += response.get().length();
+        }
+        return length;
+    }
+
+    private String handle(long offerId) throws SQLException, InterruptedException {
+        String title;
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT title FROM offers WHERE id = ?")) {
+            statement.setLong(1, offerId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                title = resultSet.getString(1);
+            }
+        }
+        Thread.sleep(blockingMillis);
+        return title;
+    }
+}
@@ -0,0 +1,55 @@
+package com.richardmogou.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Enables {@code @Async} and defines the executors used for work taken off the request thread.
+ * With {@code spring.threads.virtual.enabled=true} each executor runs its tasks on virtual threads.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    /**
+     * Executor for CV text extraction and indexing. Bounded queue so a burst of uploads
+     * cannot exhaust memory; overflow runs on the caller (the after-commit thread).
+     */
+    @Bean(name = "cvProcessingExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public AsyncTaskExecutor cvProcessingExecutor(
+            @Value("${cv.processing.pool-size:2}") int poolSize,
+            @Value("${cv.processing.queue-capacity:500}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("cv-processing-");
+        executor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Virtual-thread variant of the CV executor. Extraction is CPU and memory heavy, so the pool size
+     * still caps how many run at once; callers over the limit wait instead of queueing.
+     */
+    @Bean(name = "cvProcessingExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public AsyncTaskExecutor virtualCvProcessingExecutor(
+            @Value("${cv.processing.pool-size:2}") int poolSize) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("cv-processing-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(poolSize);
+        executor.setTaskTerminationTimeout(30_000);
+        return executor;
+    }
+}
@@ -11,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,6 +21,7 @@ import java.time.LocalDateTime;
 
 @Component
 @RequiredArgsConstructor
+@Order(1) // Before SyntheticDataGenerator: seeding is skipped once any user exists
 //@Profile("dev")
 public class DataInitializer implements CommandLineRunner {
 
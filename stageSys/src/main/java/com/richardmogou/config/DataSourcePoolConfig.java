@@ -0,0 +1,47 @@
+package com.richardmogou.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Sizes the Hikari pool from the core count when {@code spring.datasource.hikari.maximum-pool-size} is not set
+ * and {@code datasource.pool.connections-per-core} is: {@code cores * connections-per-core + spare-connections},
+ * the usual starting point for PostgreSQL ({@code cores * 2 + 1}). {@code datasource.pool.database-cores}
+ * names the core count of the database host; the local count is used when it is 0.
+ */
+@Configuration
+public class DataSourcePoolConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(DataSourcePoolConfig.class);
+
+    static final String MAXIMUM_POOL_SIZE = "spring.datasource.hikari.maximum-pool-size";
+
+    @Bean
+    public static BeanPostProcessor hikariPoolSizer(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource && !environment.containsProperty(MAXIMUM_POOL_SIZE)) {
+                    double perCore = environment.getProperty("datasource.pool.connections-per-core", Double.class, 0d);
+                    if (perCore > 0) {
+                        int cores = environment.getProperty("datasource.pool.database-cores", Integer.class, 0);
+                        if (cores <= 0) {
+                            cores = Runtime.getRuntime().availableProcessors();
+                        }
+                        int spare = environment.getProperty("datasource.pool.spare-connections", Integer.class, 1);
+                        int size = Math.max((int) Math.ceil(cores * perCore) + spare, 2);
+                        dataSource.setMaximumPoolSize(size);
+                        log.info("Connection pool '{}' sized to {} connections ({} cores x {} + {})",
+                                dataSource.getPoolName(), size, cores, perCore, spare);
+                    }
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,60 @@
+package com.richardmogou.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Exposes second-level and query cache hits, misses and hit ratio per region
+ * ({@code stagesys.hibernate.cache.requests}, {@code stagesys.hibernate.cache.hit.ratio}).
+ * Requires {@code hibernate.generate_statistics=true}.
+ */
+@Component
+@RequiredArgsConstructor
+public class HibernateCacheMetrics implements MeterBinder {
+
+    static final String QUERY_REGION = "query";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            bindRegion(registry, statistics, region,
+                    stats -> regionStatistics(stats, region).getHitCount(),
+                    stats -> regionStatistics(stats, region).getMissCount());
+        }
+        bindRegion(registry, statistics, QUERY_REGION, Statistics::getQueryCacheHitCount, Statistics::getQueryCacheMissCount);
+    }
+
+    private void bindRegion(MeterRegistry registry, Statistics statistics, String region,
+                            ToDoubleFunction<Statistics> hits, ToDoubleFunction<Statistics> misses) {
+        FunctionCounter.builder("stagesys.hibernate.cache.requests", statistics, hits)
+                .tags("region", region, "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("stagesys.hibernate.cache.requests", statistics, misses)
+                .tags("region", region, "result", "miss")
+                .register(registry);
+        Gauge.builder("stagesys.hibernate.cache.hit.ratio", statistics, stats -> {
+                    double hit = hits.applyAsDouble(stats);
+                    double total = hit + misses.applyAsDouble(stats);
+                    return total > 0 ? hit / total : Double.NaN;
+                })
+                .tag("region", region)
+                .register(registry);
+    }
+
+    private static CacheRegionStatistics regionStatistics(Statistics statistics, String region) {
+        return statistics.getDomainDataRegionStatistics(region);
+    }
+}
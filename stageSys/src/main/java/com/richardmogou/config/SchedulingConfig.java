@@ -0,0 +1,12 @@
+package com.richardmogou.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs (file collection, maintenance tasks).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
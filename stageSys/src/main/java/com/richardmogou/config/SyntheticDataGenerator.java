@@ -0,0 +1,327 @@
+package com.richardmogou.config;
+
+import com.richardmogou.entity.enums.ApplicationStatus;
+import com.richardmogou.entity.enums.InternshipAgreementStatus;
+import com.richardmogou.entity.enums.InternshipOfferStatus;
+import com.richardmogou.entity.enums.Role;
+import com.richardmogou.enums.CompanyStatus;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Bulk fixture generator for performance testing, active with the {@code synthetic} profile.
+ * <p>
+ * Runs after {@link DataInitializer} (whose demo accounts stay usable) and adds schools, faculties, students,
+ * companies, offers, applications and agreements in the volumes of {@code synthetic.*}. Rows are written with
+ * batched JDBC inserts (on PostgreSQL, {@code reWriteBatchedInserts} turns each batch into multi-row inserts),
+ * never through the persistence context. Every value derives from {@code synthetic.seed} and
+ * {@code synthetic.reference-time}, so two runs on empty databases produce the same data.
+ * Synthetic users have {@value #EMAIL_DOMAIN} addresses; the generator does nothing if any exists.
+ */
+@Component
+@Profile("synthetic")
+@Order(2)
+@RequiredArgsConstructor
+public class SyntheticDataGenerator implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+    static final String EMAIL_DOMAIN = "@synthetic.stagesys.test";
+
+    private static final String[] FIRST_NAMES = {"Amina", "Paul", "Chloé", "Yannick", "Fatou", "Lucas", "Inès", "Boris",
+            "Mariam", "Hugo", "Aïcha", "Thomas", "Sandrine", "Kevin", "Nadia", "Eric"};
+    private static final String[] LAST_NAMES = {"Mbarga", "Dupont", "Nguyen", "Kamga", "Diallo", "Martin", "Fotso",
+            "Bernard", "Tchoumi", "Laurent", "Ndiaye", "Petit", "Essomba", "Moreau", "Sow", "Fontaine"};
+    private static final String[] FACULTY_NAMES = {"Informatique", "Mathématiques", "Gestion", "Génie Civil",
+            "Économie", "Droit", "Médecine", "Lettres"};
+    private static final String[] DOMAINS = {"Computer Science", "Marketing", "Finance", "Graphic Design"};
+    private static final String[] SECTORS = {"Technology", "Finance", "Marketing Agency", "Energy", "Health"};
+    private static final String[] LOCATIONS = {"Paris", "Lyon", "Douala", "Yaoundé", "Dakar", "Remote"};
+    private static final String[] SKILLS = {"Java", "Spring Boot", "SQL", "React", "Angular", "Python", "Communication",
+            "Problem Solving"};
+    private static final String[] DURATIONS = {"6 Weeks", "2 Months", "3 Months", "4 Months", "6 Months"};
+    // Each student applies to offers base, base + step, base + 2 * step... modulo the offer count. With a step
+    // coprime to that count a student goes through every offer before applying twice to any.
+    private static final int OFFER_STEP = 7919;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+
+    @Value("${synthetic.seed:42}")
+    private long seed;
+
+    @Value("${synthetic.reference-time:2025-01-01T00:00:00}")
+    private LocalDateTime referenceTime;
+
+    @Value("${synthetic.schools:50}")
+    private int schools;
+
+    @Value("${synthetic.faculties-per-school:4}")
+    private int facultiesPerSchool;
+
+    @Value("${synthetic.students:100000}")
+    private int students;
+
+    @Value("${synthetic.companies:5000}")
+    private int companies;
+
+    @Value("${synthetic.offers:50000}")
+    private int offers;
+
+    @Value("${synthetic.applications:1000000}")
+    private int applications;
+
+    @Value("${synthetic.agreements:200000}")
+    private int agreements;
+
+    @Value("${synthetic.batch-size:5000}")
+    private int batchSize;
+
+    @Override
+    public void run(String... args) {
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE email LIKE ?", Long.class, "%" + EMAIL_DOMAIN);
+        if (existing != null && existing > 0) {
+            log.info("Synthetic dataset already present ({} users), skipping generation", existing);
+            return;
+        }
+        if (agreements > applications || applications > (long) students * offers) {
+            throw new IllegalStateException("Inconsistent synthetic volumes: applications must fit students x offers and agreements must fit applications");
+        }
+
+        long started = System.nanoTime();
+        Random random = new Random(seed);
+        // One hash for every synthetic account, encoding 100k passwords would dominate the run
+        String password = passwordEncoder.encode("password");
+
+        long[] schoolIds = insertSchools();
+        long[] facultyIds = insertFaculties(schoolIds);
+        int[] studentFaculty = new int[students];
+        long[] studentIds = insertStudents(random, password, schoolIds, facultyIds, studentFaculty);
+        long[] companyIds = insertCompanies(random, password);
+        long[] offerIds = insertOffers(random, companyIds);
+        long[] applicationIds = insertApplications(random, studentIds, offerIds);
+        insertAgreements(random, applicationIds, schoolIds, facultyIds, studentFaculty);
+
+        log.info("Synthetic dataset generated in {} s: {} schools, {} faculties, {} students, {} companies, {} offers, {} applications, {} agreements",
+                (System.nanoTime() - started) / 1_000_000_000, schools, facultyIds.length, students, companies, offers, applications, agreements);
+    }
+
+    private long[] insertSchools() {
+        List<Object[]> rows = new ArrayList<>(schools);
+        for (int i = 0; i < schools; i++) {
+            rows.add(new Object[]{"Synthetic School " + i, "Generated school " + i, i + " Avenue du Campus", "https://school" + i + ".example.com"});
+        }
+        batchInsert("schools", "INSERT INTO schools (name, description, address, website) VALUES (?, ?, ?, ?)", rows);
+        return ids("SELECT id FROM schools WHERE name LIKE 'Synthetic School %' ORDER BY id");
+    }
+
+    private long[] insertFaculties(long[] schoolIds) {
+        List<Object[]> rows = new ArrayList<>(schoolIds.length * facultiesPerSchool);
+        for (long schoolId : schoolIds) {
+            for (int f = 0; f < facultiesPerSchool; f++) {
+                rows.add(new Object[]{FACULTY_NAMES[f % FACULTY_NAMES.length], schoolId, "Generated faculty"});
+            }
+        }
+        batchInsert("faculties", "INSERT INTO faculties (name, school_id, description) VALUES (?, ?, ?)", rows);
+        return ids("SELECT f.id FROM faculties f JOIN schools s ON s.id = f.school_id WHERE s.name LIKE 'Synthetic School %' ORDER BY f.id");
+    }
+
+    private long[] insertStudents(Random random, String password, long[] schoolIds, long[] facultyIds, int[] studentFaculty) {
+        String sql = "INSERT INTO users (first_name, last_name, email, password, role, enabled, created_at, updated_at, school_id, faculty_id) " +
+                "VALUES (?, ?, ?, ?, ?, TRUE, ?, ?, ?, ?)";
+        List<Object[]> rows = new ArrayList<>(batchSize);
+        for (int i = 0; i < students; i++) {
+            int faculty = random.nextInt(facultyIds.length);
+            studentFaculty[i] = faculty;
+            Timestamp createdAt = timestamp(random.nextInt(365 * 24 * 60));
+            rows.add(new Object[]{pick(random, FIRST_NAMES), pick(random, LAST_NAMES), "student" + i + EMAIL_DOMAIN, password,
+                    Role.STUDENT.name(), createdAt, createdAt, schoolIds[faculty / facultiesPerSchool], facultyIds[faculty]});
+            rows = flushIfFull("users", sql, rows);
+        }
+        batchInsert("users", sql, rows);
+        return ids("SELECT id FROM users WHERE role = 'STUDENT' AND email LIKE '%" + EMAIL_DOMAIN + "' ORDER BY id");
+    }
+
+    private long[] insertCompanies(Random random, String password) {
+        String userSql = "INSERT INTO users (first_name, last_name, email, password, role, enabled, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, TRUE, ?, ?)";
+        List<Object[]> rows = new ArrayList<>(batchSize);
+        for (int i = 0; i < companies; i++) {
+            Timestamp createdAt = timestamp(random.nextInt(365 * 24 * 60));
+            rows.add(new Object[]{pick(random, FIRST_NAMES), pick(random, LAST_NAMES), "company" + i + EMAIL_DOMAIN, password,
+                    Role.COMPANY.name(), createdAt, createdAt});
+            rows = flushIfFull("users", userSql, rows);
+        }
+        batchInsert("users", userSql, rows);
+        long[] contactIds = ids("SELECT id FROM users WHERE role = 'COMPANY' AND email LIKE '%" + EMAIL_DOMAIN + "' ORDER BY id");
+
+        String sql = "INSERT INTO companies (name, description, website, address, industry_sector, status, primary_contact_user_id, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        rows = new ArrayList<>(batchSize);
+        for (int i = 0; i < companies; i++) {
+            Timestamp createdAt = timestamp(random.nextInt(365 * 24 * 60));
+            // A few companies are awaiting approval or suspended, as in production
+            CompanyStatus status = random.nextInt(50) == 0 ? CompanyStatus.PENDING
+                    : random.nextInt(100) == 0 ? CompanyStatus.SUSPENDED : CompanyStatus.ACTIVE;
+            rows.add(new Object[]{"Synthetic Company " + i, "Generated company " + i, "https://company" + i + ".example.com",
+                    pick(random, LOCATIONS), pick(random, SECTORS), status.name(), contactIds[i], createdAt, createdAt});
+            rows = flushIfFull("companies", sql, rows);
+        }
+        batchInsert("companies", sql, rows);
+        return ids("SELECT id FROM companies WHERE name LIKE 'Synthetic Company %' ORDER BY id");
+    }
+
+    private long[] insertOffers(Random random, long[] companyIds) {
+        String sql = "INSERT INTO internship_offers (title, description, required_skills, domain, location, duration, start_date, status, company_id, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        List<Object[]> rows = new ArrayList<>(batchSize);
+        for (int i = 0; i < offers; i++) {
+            // Squaring skews offers towards the first companies: a few large recruiters, a long tail of small ones
+            double r = random.nextDouble();
+            long companyId = companyIds[(int) (r * r * companyIds.length)];
+            String domain = pick(random, DOMAINS);
+            Timestamp createdAt = timestamp(random.nextInt(365 * 24 * 60));
+            int statusRoll = random.nextInt(10);
+            InternshipOfferStatus status = statusRoll < 7 ? InternshipOfferStatus.OPEN
+                    : statusRoll < 9 ? InternshipOfferStatus.CLOSED : InternshipOfferStatus.FILLED;
+            rows.add(new Object[]{domain + " Intern #" + i, "Generated internship " + i + " in " + domain.toLowerCase() + ".",
+                    pick(random, SKILLS) + ", " + pick(random, SKILLS), domain, pick(random, LOCATIONS), pick(random, DURATIONS),
+                    Date.valueOf(referenceTime.toLocalDate().plusDays(random.nextInt(365))), status.name(),
+                    companyId, createdAt, createdAt});
+            rows = flushIfFull("internship_offers", sql, rows);
+        }
+        batchInsert("internship_offers", sql, rows);
+        return ids("SELECT o.id FROM internship_offers o JOIN companies c ON c.id = o.company_id " +
+                "WHERE c.name LIKE 'Synthetic Company %' ORDER BY o.id");
+    }
+
+    private long[] insertApplications(Random random, long[] studentIds, long[] offerIds) {
+        String sql = "INSERT INTO applications (student_user_id, internship_offer_id, cv_path, cover_letter, status, application_date, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        int step = offerStep(offerIds.length);
+        int[] offerBase = new int[studentIds.length];
+        for (int s = 0; s < offerBase.length; s++) {
+            offerBase[s] = random.nextInt(offerIds.length);
+        }
+        // Every agreementInterval-th application is ACCEPTED and gets an agreement
+        int agreementInterval = agreements > 0 ? applications / agreements : Integer.MAX_VALUE;
+        ApplicationStatus[] otherStatuses = {ApplicationStatus.PENDING, ApplicationStatus.PENDING, ApplicationStatus.VIEWED,
+                ApplicationStatus.REJECTED, ApplicationStatus.AWAITING_AGREEMENT};
+        List<Object[]> rows = new ArrayList<>(batchSize);
+        for (int n = 0; n < applications; n++) {
+            int student = n % studentIds.length;
+            int round = n / studentIds.length;
+            long offerId = offerIds[(int) ((offerBase[student] + (long) round * step) % offerIds.length)];
+            ApplicationStatus status = n % agreementInterval == 0 && n / agreementInterval < agreements
+                    ? ApplicationStatus.ACCEPTED : otherStatuses[random.nextInt(otherStatuses.length)];
+            Timestamp appliedAt = timestamp(random.nextInt(365 * 24 * 60));
+            rows.add(new Object[]{studentIds[student], offerId, "synthetic-cv-" + n + ".pdf", "Generated cover letter " + n,
+                    status.name(), appliedAt, appliedAt, appliedAt});
+            rows = flushIfFull("applications", sql, rows);
+        }
+        batchInsert("applications", sql, rows);
+        return ids("SELECT a.id FROM applications a WHERE a.status = 'ACCEPTED' AND a.cv_path LIKE 'synthetic-cv-%' ORDER BY a.id");
+    }
+
+    /**
+     * The first step from {@link #OFFER_STEP} up that is coprime to the offer count.
+     */
+    static int offerStep(int offerCount) {
+        int step = OFFER_STEP;
+        while (offerCount > 0 && gcd(step, offerCount) != 1) {
+            step++;
+        }
+        return step;
+    }
+
+    private static int gcd(int a, int b) {
+        while (b != 0) {
+            int r = a % b;
+            a = b;
+            b = r;
+        }
+        return a;
+    }
+
+    private void insertAgreements(Random random, long[] acceptedApplicationIds, long[] schoolIds, long[] facultyIds, int[] studentFaculty) {
+        // Accepted applications were inserted in order, so the k-th one is application k * interval, of student (k * interval) % students
+        int agreementInterval = agreements > 0 ? applications / agreements : Integer.MAX_VALUE;
+        String sql = "INSERT INTO internship_agreements (application_id, agreement_pdf_path, status, status_changed_at, version, " +
+                "student_faculty_id, student_school_id, faculty_validation_date, admin_approval_date, signed_by_student, signed_by_company, " +
+                "signed_by_faculty, created_at, updated_at) VALUES (?, ?, ?, ?, 0, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        List<Object[]> rows = new ArrayList<>(batchSize);
+        for (int k = 0; k < acceptedApplicationIds.length && k < agreements; k++) {
+            int student = (int) (((long) k * agreementInterval) % students);
+            InternshipAgreementStatus status = agreementStatus(random.nextInt(100));
+            int createdMinutes = random.nextInt(365 * 24 * 60);
+            Timestamp createdAt = timestamp(createdMinutes);
+            Timestamp changedAt = status == InternshipAgreementStatus.PENDING_FACULTY_VALIDATION
+                    ? createdAt : timestamp(createdMinutes + random.nextInt(14 * 24 * 60));
+            boolean validated = status != InternshipAgreementStatus.PENDING_FACULTY_VALIDATION;
+            boolean approved = status == InternshipAgreementStatus.APPROVED || status == InternshipAgreementStatus.SIGNED;
+            boolean signed = status == InternshipAgreementStatus.SIGNED;
+            rows.add(new Object[]{acceptedApplicationIds[k], "synthetic-agreement-" + k + ".pdf", status.name(), changedAt,
+                    facultyIds[studentFaculty[student]], schoolIds[studentFaculty[student] / facultiesPerSchool],
+                    validated ? changedAt : null, approved ? changedAt : null,
+                    signed, signed, signed, createdAt, changedAt});
+            rows = flushIfFull("internship_agreements", sql, rows);
+        }
+        batchInsert("internship_agreements", sql, rows);
+    }
+
+    // Rough funnel: most agreements are done, a steady share waits on faculty or admin review
+    private static InternshipAgreementStatus agreementStatus(int roll) {
+        if (roll < 15) {
+            return InternshipAgreementStatus.PENDING_FACULTY_VALIDATION;
+        }
+        if (roll < 25) {
+            return InternshipAgreementStatus.PENDING_ADMIN_APPROVAL;
+        }
+        if (roll < 45) {
+            return InternshipAgreementStatus.APPROVED;
+        }
+        return roll < 92 ? InternshipAgreementStatus.SIGNED : InternshipAgreementStatus.REJECTED;
+    }
+
+    private List<Object[]> flushIfFull(String table, String sql, List<Object[]> rows) {
+        if (rows.size() < batchSize) {
+            return rows;
+        }
+        batchInsert(table, sql, rows);
+        return new ArrayList<>(batchSize);
+    }
+
+    private void batchInsert(String table, String sql, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(sql, rows);
+        log.debug("Inserted {} rows into {}", rows.size(), table);
+    }
+
+    private long[] ids(String sql) {
+        return jdbcTemplate.queryForList(sql, Long.class).stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private Timestamp timestamp(long minutesAfterReference) {
+        return Timestamp.valueOf(referenceTime.plusMinutes(minutesAfterReference));
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
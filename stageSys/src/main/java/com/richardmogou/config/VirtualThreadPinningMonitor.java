@@ -0,0 +1,123 @@
+package com.richardmogou.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Streams JFR {@code jdk.VirtualThreadPinned} events while virtual threads are enabled. A virtual thread
+ * that blocks inside {@code synchronized} (or a native frame) holds its carrier thread; when that happens
+ * around JDBC, a handful of slow queries can stall every request.
+ * <p>
+ * Each pinning is counted in {@code stagesys.threads.virtual.pinned}, tagged {@code jdbc=true} when the stack
+ * goes through JDBC, the pool or Hibernate's JDBC layer. Each distinct call site is logged once with its stack.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(name = "threads.pinning.monitor-enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final List<String> JDBC_PACKAGES = List.of(
+            "java.sql.", "javax.sql.", "org.postgresql.", "org.h2.", "com.zaxxer.hikari.", "org.hibernate.engine.jdbc.",
+            "org.hibernate.resource.jdbc.");
+    private static final String APPLICATION_PACKAGE = "com.richardmogou.";
+    private static final int LOGGED_FRAMES = 25;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${threads.pinning.threshold:20ms}")
+    private Duration threshold;
+
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private volatile RecordingStream stream;
+
+    @Override
+    public void start() {
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::onPinned);
+        recording.startAsync();
+        stream = recording;
+        log.info("Watching for virtual threads pinned longer than {}", threshold);
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() != null
+                ? event.getStackTrace().getFrames()
+                : List.of();
+        boolean jdbc = frames.stream().anyMatch(frame -> isIn(frame, JDBC_PACKAGES));
+        meterRegistry.counter("stagesys.threads.virtual.pinned", "jdbc", Boolean.toString(jdbc)).increment();
+
+        String site = frames.stream()
+                .filter(frame -> isIn(frame, List.of(APPLICATION_PACKAGE)))
+                .findFirst()
+                .or(() -> frames.stream().findFirst())
+                .map(VirtualThreadPinningMonitor::describe)
+                .orElse("unknown");
+        if (reportedSites.add(site)) {
+            String message = "Virtual thread pinned for {} ms at {}{}\n{}";
+            Object[] args = {event.getDuration().toMillis(), site, jdbc ? " (inside JDBC)" : "", format(event.getStackTrace())};
+            if (jdbc) {
+                log.warn(message, args);
+            } else {
+                log.info(message, args);
+            }
+        }
+    }
+
+    private static boolean isIn(RecordedFrame frame, List<String> packages) {
+        if (!frame.isJavaFrame()) {
+            return false;
+        }
+        String type = frame.getMethod().getType().getName();
+        return packages.stream().anyMatch(type::startsWith);
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    private static String format(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\t(no stack trace)";
+        }
+        StringBuilder text = new StringBuilder();
+        stackTrace.getFrames().stream().limit(LOGGED_FRAMES)
+                .forEach(frame -> text.append("\tat ").append(describe(frame)).append('\n'));
+        return text.toString();
+    }
+}
@@ -1,6 +1,11 @@
 package com.richardmogou.config;
 
+import com.richardmogou.config.security.StompAuthenticationInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
@@ -8,8 +13,14 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 
 @Configuration
 @EnableWebSocketMessageBroker // Enables WebSocket message handling, backed by a message broker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final StompAuthenticationInterceptor stompAuthenticationInterceptor;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         // Configure a simple message broker for destinations prefixed with "/topic" and "/queue"
@@ -37,7 +48,16 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .withSockJS(); // Enable SockJS fallback
     }
 
-    // TODO: Add WebSocket Security Configuration (e.g., using Spring Security)
-    // This is crucial to ensure only authenticated users can connect and subscribe/publish messages.
-    // Typically involves intercepting CONNECT messages and validating JWT tokens.
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // CONNECT frames carry the JWT; the interceptor sets the session user that /user/** destinations resolve
+        registration.interceptors(stompAuthenticationInterceptor);
+        // Inbound STOMP frames are handled on a small platform pool by default; in virtual-thread mode
+        // each frame gets its own virtual thread so blocking handlers cannot starve the channel
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("stomp-inbound-");
+            executor.setVirtualThreads(true);
+            registration.executor(executor);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+package com.richardmogou.config.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Primary/replica data sources, active when {@code datasource.replica.jdbc-url} is set. The replica pool
+ * inherits driver and credentials from {@code spring.datasource.*}; any Hikari setting can be overridden under
+ * {@code datasource.replica.*}. Without a replica URL, Boot's single data source is used unchanged.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.jdbc-url")
+public class DataSourceRoutingConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(DataSourceRoutingConfig.class);
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties) {
+        HikariDataSource replica = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        replica.setPoolName("stagesys-replica");
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${datasource.replica.read-your-writes-window:5s}") Duration window) {
+        return new ReadYourWritesTracker(window, Clock.systemUTC());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReadYourWritesTracker readYourWritesTracker) {
+        log.info("Routing read-only transactions to the replica data source");
+        return routingDataSource(primary, replica, readYourWritesTracker);
+    }
+
+    /**
+     * Routing data source wrapped in the lazy proxy it depends on. Defaults are given so the proxy does not
+     * borrow a connection at startup to find them out.
+     */
+    public static DataSource routingDataSource(DataSource primary, DataSource replica, ReadYourWritesTracker tracker) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(tracker);
+        routing.setTargetDataSources(Map.of(
+                ReadWriteRoutingDataSource.Route.PRIMARY, primary,
+                ReadWriteRoutingDataSource.Route.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(routing);
+        proxy.setDefaultAutoCommit(true);
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        return proxy;
+    }
+}
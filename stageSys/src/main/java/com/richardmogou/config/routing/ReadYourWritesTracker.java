@@ -0,0 +1,82 @@
+package com.richardmogou.config.routing;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which users committed a read-write transaction recently, so their next reads go to the primary
+ * until the replica has had time to catch up. Users are identified by the authenticated principal's name;
+ * anonymous traffic is never pinned to the primary.
+ */
+public class ReadYourWritesTracker {
+
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final Duration window;
+    private final Clock clock;
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration window, Clock clock) {
+        this.window = window;
+        this.clock = clock;
+    }
+
+    /**
+     * Records a write by the current user once the current transaction commits.
+     */
+    public void onReadWriteTransaction() {
+        String user = currentUser();
+        if (user == null || window.isZero()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recordWrite(user);
+                }
+            });
+        } else {
+            recordWrite(user);
+        }
+    }
+
+    /**
+     * Whether the current user committed a write within the window.
+     */
+    public boolean currentUserWroteRecently() {
+        String user = currentUser();
+        if (user == null) {
+            return false;
+        }
+        Long writtenAt = lastWrites.get(user);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (clock.millis() - writtenAt < window.toMillis()) {
+            return true;
+        }
+        lastWrites.remove(user, writtenAt);
+        return false;
+    }
+
+    void recordWrite(String user) {
+        long now = clock.millis();
+        lastWrites.put(user, now);
+        if (lastWrites.size() > PURGE_THRESHOLD) {
+            lastWrites.values().removeIf(writtenAt -> now - writtenAt >= window.toMillis());
+        }
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+}
@@ -1,5 +1,7 @@
 package com.richardmogou.config.security;
 
+import com.richardmogou.config.tenant.TenantRateLimitFilter;
+import com.richardmogou.config.tenant.TenantRateLimiter;
 import com.richardmogou.entity.enums.Role;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -34,6 +36,7 @@ public class SecurityConfiguration {
 
     private final JwtAuthenticationFilter jwtAuthFilter;
     private final UserDetailsService userDetailsService; // Spring injects UserDetailsServiceImpl
+    private final TenantRateLimiter tenantRateLimiter;
 
     // Define public endpoints that don't require authentication
     private static final String[] PUBLIC_MATCHERS = {
@@ -67,6 +70,8 @@ public class SecurityConfiguration {
 
                         // Role-based restrictions (examples, adjust based on final API design)
                         .requestMatchers("/api/admin/**").hasRole(Role.ADMIN.name())
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole(Role.ADMIN.name())
                         .requestMatchers(HttpMethod.POST, "/api/offers").hasRole(Role.COMPANY.name())
                         .requestMatchers(HttpMethod.PUT, "/api/offers/{offerId:\\d+}/**").hasRole(Role.COMPANY.name())
                         .requestMatchers(HttpMethod.DELETE, "/api/offers/{offerId:\\d+}").hasRole(Role.COMPANY.name())
@@ -82,7 +87,8 @@ public class SecurityConfiguration {
                 )
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)) // Use stateless sessions
                 .authenticationProvider(authenticationProvider()) // Set the custom authentication provider
-                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class); // Add JWT filter before the standard auth filter
+                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class) // Add JWT filter before the standard auth filter
+                .addFilterAfter(new TenantRateLimitFilter(tenantRateLimiter), JwtAuthenticationFilter.class); // Per-school budget once the user is known
 
         return http.build();
     }
@@ -0,0 +1,70 @@
+package com.richardmogou.config.security;
+
+import com.richardmogou.entity.User;
+import com.richardmogou.repository.UserRepository;
+import com.richardmogou.service.security.JwtService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+
+/**
+ * Authenticates STOMP sessions from the {@code Authorization: Bearer <jwt>} header of the CONNECT frame.
+ * <p>
+ * The session principal is named after the user ID, which is what {@code convertAndSendToUser} is called
+ * with, so {@code /user/queue/...} subscriptions receive the user's pushes. A CONNECT without a token stays
+ * anonymous (the handshake on {@code /ws/**} is public); a CONNECT with an invalid token is refused.
+ */
+@Component
+@RequiredArgsConstructor
+public class StompAuthenticationInterceptor implements ChannelInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(StompAuthenticationInterceptor.class);
+    private static final String BEARER = "Bearer ";
+
+    private final JwtService jwtService;
+    private final UserDetailsService userDetailsService;
+    private final UserRepository userRepository;
+
+    @Override
+    public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || !StompCommand.CONNECT.equals(accessor.getCommand())) {
+            return message;
+        }
+        String authHeader = accessor.getFirstNativeHeader("Authorization");
+        if (authHeader == null || !authHeader.startsWith(BEARER)) {
+            return message;
+        }
+        String jwt = authHeader.substring(BEARER.length());
+        try {
+            String email = jwtService.extractUsername(jwt);
+            UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+            if (!jwtService.isTokenValid(jwt, userDetails)) {
+                throw new BadCredentialsException("Invalid STOMP token");
+            }
+            User user = userRepository.findByEmail(email)
+                    .orElseThrow(() -> new BadCredentialsException("Unknown STOMP user"));
+            // A plain principal makes the authentication name the user ID rather than the email
+            accessor.setUser(new UsernamePasswordAuthenticationToken(user.getId().toString(), null, userDetails.getAuthorities()));
+            log.debug("STOMP session {} authenticated as user ID {}", accessor.getSessionId(), user.getId());
+        } catch (BadCredentialsException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("Rejected STOMP CONNECT for session {}: {}", accessor.getSessionId(), e.getMessage());
+            throw new BadCredentialsException("Invalid STOMP token", e);
+        }
+        return message;
+    }
+}
@@ -0,0 +1,47 @@
+package com.richardmogou.config.sql;
+
+import com.richardmogou.service.EndpointSqlStatsService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Tracks the SQL activity of each request and hands it to {@link EndpointSqlStatsService}, keyed by
+ * HTTP method and handler pattern (e.g. {@code GET /api/offers/{offerId}}).
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class RequestSqlInstrumentationFilter extends OncePerRequestFilter {
+
+    private final EndpointSqlStatsService endpointSqlStatsService;
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        RequestSqlStats stats = RequestSqlStats.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestSqlStats.stop();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            // Requests that matched no handler (static resources, 404s) are not worth an endpoint of their own
+            if (pattern != null) {
+                endpointSqlStatsService.record(request.getMethod() + " " + pattern, stats);
+            }
+        }
+    }
+}
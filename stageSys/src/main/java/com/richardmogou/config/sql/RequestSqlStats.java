@@ -0,0 +1,85 @@
+package com.richardmogou.config.sql;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SQL activity of the HTTP request handled by the current thread: statements prepared (per SQL text),
+ * time spent executing them and entities loaded. Fed by the Hibernate hooks of {@link SqlInstrumentationConfig}
+ * and collected by {@link RequestSqlInstrumentationFilter}; work done on other threads is not attributed.
+ */
+public final class RequestSqlStats {
+
+    private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Integer> statementsBySql = new HashMap<>();
+    private int statements;
+    private long executionNanos;
+    private long executionStartedAt;
+    private int entitiesLoaded;
+
+    static RequestSqlStats start() {
+        RequestSqlStats stats = new RequestSqlStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void stop() {
+        CURRENT.remove();
+    }
+
+    static void statementPrepared(String sql) {
+        RequestSqlStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+            stats.statementsBySql.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    static void executionStarted() {
+        RequestSqlStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.executionStartedAt = System.nanoTime();
+        }
+    }
+
+    static void executionEnded() {
+        RequestSqlStats stats = CURRENT.get();
+        if (stats != null && stats.executionStartedAt != 0) {
+            stats.executionNanos += System.nanoTime() - stats.executionStartedAt;
+            stats.executionStartedAt = 0;
+        }
+    }
+
+    static void entityLoaded() {
+        RequestSqlStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.entitiesLoaded++;
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getExecutionNanos() {
+        return executionNanos;
+    }
+
+    public int getEntitiesLoaded() {
+        return entitiesLoaded;
+    }
+
+    /**
+     * The SQL text prepared the most times in this request, or null if no statement ran.
+     */
+    public Map.Entry<String, Integer> getMostRepeatedStatement() {
+        Map.Entry<String, Integer> top = null;
+        for (Map.Entry<String, Integer> entry : statementsBySql.entrySet()) {
+            if (top == null || entry.getValue() > top.getValue()) {
+                top = entry;
+            }
+        }
+        return top;
+    }
+}
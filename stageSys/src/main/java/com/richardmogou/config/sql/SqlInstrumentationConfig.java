@@ -0,0 +1,80 @@
+package com.richardmogou.config.sql;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Hibernate hooks feeding {@link RequestSqlStats}: a statement inspector sees the SQL of every prepared
+ * statement, a session event listener times JDBC executions and a post-load listener counts entities.
+ * They replace SQL and bind-parameter logging as the way to see what a request does to the database.
+ */
+@Configuration
+public class SqlInstrumentationConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlInstrumentationCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> {
+                RequestSqlStats.statementPrepared(sql);
+                return sql;
+            });
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, ExecutionTimingListener.class.getName());
+            properties.put("hibernate.integrator_provider", (IntegratorProvider) () -> List.of(new EntityLoadCountingIntegrator()));
+        };
+    }
+
+    /**
+     * Instantiated by Hibernate for every session.
+     */
+    public static class ExecutionTimingListener extends BaseSessionEventListener {
+
+        @Override
+        public void jdbcExecuteStatementStart() {
+            RequestSqlStats.executionStarted();
+        }
+
+        @Override
+        public void jdbcExecuteStatementEnd() {
+            RequestSqlStats.executionEnded();
+        }
+
+        @Override
+        public void jdbcExecuteBatchStart() {
+            RequestSqlStats.executionStarted();
+        }
+
+        @Override
+        public void jdbcExecuteBatchEnd() {
+            RequestSqlStats.executionEnded();
+        }
+    }
+
+    static class EntityLoadCountingIntegrator implements Integrator {
+
+        @Override
+        public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+            sessionFactory.getServiceRegistry().requireService(EventListenerRegistry.class)
+                    .appendListeners(EventType.POST_LOAD, (PostLoadEventListener) event -> RequestSqlStats.entityLoaded());
+        }
+
+        @Override
+        public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+            // Nothing to release
+        }
+    }
+}
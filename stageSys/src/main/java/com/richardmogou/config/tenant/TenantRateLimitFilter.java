@@ -0,0 +1,61 @@
+package com.richardmogou.config.tenant;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Applies {@link TenantRateLimiter} to authenticated requests, answering 429 with {@code Retry-After} when
+ * the user's school is over its budget. Runs in the security chain right after the JWT filter, so it is not
+ * a {@code @Component} (that would also register it ahead of authentication in the servlet chain).
+ */
+@RequiredArgsConstructor
+public class TenantRateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantRateLimitFilter.class);
+
+    private final TenantRateLimiter rateLimiter;
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        Long schoolId = currentSchoolId();
+        TenantRateLimiter.Rejection rejection = rateLimiter.tryAcquire(schoolId);
+        if (rejection != null) {
+            log.debug("Rejected {} {} for school {} ({})", request.getMethod(), request.getRequestURI(), schoolId, rejection);
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(rateLimiter.retryAfterSeconds()));
+            response.setContentType("text/plain;charset=UTF-8");
+            response.getWriter().write("Too many requests for your school, please retry shortly.");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            rateLimiter.release(schoolId);
+        }
+    }
+
+    private static Long currentSchoolId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof TenantUserDetails user) {
+            return user.getSchoolId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,117 @@
+package com.richardmogou.config.tenant;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-school request budget: a token bucket caps a school's request rate and a concurrency cap bounds how many
+ * of its requests hold a worker (and a pooled connection) at once. A school's term-start rush then queues
+ * behind its own budget instead of the shared pool; users without a school are not limited here.
+ */
+@Component
+public class TenantRateLimiter {
+
+    public enum Rejection { RATE, CONCURRENCY }
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final double requestsPerSecond;
+    private final double burst;
+    private final int maxConcurrent;
+    private final Clock clock;
+
+    private final Map<Long, Budget> budgets = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TenantRateLimiter(MeterRegistry meterRegistry,
+                             @Value("${tenants.rate-limit.enabled:true}") boolean enabled,
+                             @Value("${tenants.rate-limit.requests-per-second:50}") double requestsPerSecond,
+                             @Value("${tenants.rate-limit.burst:100}") double burst,
+                             @Value("${tenants.rate-limit.max-concurrent:20}") int maxConcurrent) {
+        this(meterRegistry, enabled, requestsPerSecond, burst, maxConcurrent, Clock.systemUTC());
+    }
+
+    TenantRateLimiter(MeterRegistry meterRegistry, boolean enabled, double requestsPerSecond, double burst,
+                      int maxConcurrent, Clock clock) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.requestsPerSecond = requestsPerSecond;
+        this.burst = burst;
+        this.maxConcurrent = maxConcurrent;
+        this.clock = clock;
+    }
+
+    /**
+     * Admits one request of a school, or tells why it is rejected. An admitted request must be
+     * {@link #release(Long) released} when it completes; a rejected one must not.
+     */
+    public Rejection tryAcquire(Long schoolId) {
+        if (!enabled || schoolId == null) {
+            return null;
+        }
+        Budget budget = budgets.computeIfAbsent(schoolId, id -> new Budget(burst, clock.millis()));
+        Rejection rejection = budget.tryAcquire(requestsPerSecond, burst, maxConcurrent, clock.millis());
+        if (rejection != null) {
+            meterRegistry.counter("stagesys.tenant.requests.rejected", "reason", rejection.name().toLowerCase()).increment();
+        }
+        return rejection;
+    }
+
+    public void release(Long schoolId) {
+        if (!enabled || schoolId == null) {
+            return;
+        }
+        Budget budget = budgets.get(schoolId);
+        if (budget != null) {
+            budget.inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * Seconds a client of the school should wait before retrying.
+     */
+    public long retryAfterSeconds() {
+        return Math.max(1, (long) Math.ceil(1 / requestsPerSecond));
+    }
+
+    int inFlight(Long schoolId) {
+        Budget budget = budgets.get(schoolId);
+        return budget != null ? budget.inFlight.get() : 0;
+    }
+
+    private static final class Budget {
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private double tokens;
+        private long refilledAt;
+
+        Budget(double tokens, long now) {
+            this.tokens = tokens;
+            this.refilledAt = now;
+        }
+
+        Rejection tryAcquire(double ratePerSecond, double capacity, int maxConcurrent, long now) {
+            if (inFlight.incrementAndGet() > maxConcurrent) {
+                inFlight.decrementAndGet();
+                return Rejection.CONCURRENCY;
+            }
+            synchronized (this) {
+                tokens = Math.min(capacity, tokens + Math.max(now - refilledAt, 0) / 1000.0 * ratePerSecond);
+                refilledAt = Math.max(now, refilledAt);
+                if (tokens >= 1) {
+                    tokens--;
+                    return null;
+                }
+            }
+            inFlight.decrementAndGet();
+            return Rejection.RATE;
+        }
+    }
+}
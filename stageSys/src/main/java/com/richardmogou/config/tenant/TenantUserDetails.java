@@ -0,0 +1,21 @@
+package com.richardmogou.config.tenant;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * Authenticated principal that also carries the user's school, so per-tenant limits need no lookup per request.
+ */
+@Getter
+public class TenantUserDetails extends User {
+
+    private final Long schoolId; // null for companies and admins
+
+    public TenantUserDetails(String username, String password, Collection<? extends GrantedAuthority> authorities, Long schoolId) {
+        super(username, password, authorities);
+        this.schoolId = schoolId;
+    }
+}
@@ -0,0 +1,24 @@
+package com.richardmogou.config.tenant;
+
+import com.richardmogou.entity.School;
+import com.richardmogou.entity.User;
+
+/**
+ * The tenant of this deployment is the school: a user belongs to their own school, or else to their faculty's.
+ * Companies and admins belong to no school.
+ */
+public final class Tenants {
+
+    private Tenants() {
+    }
+
+    public static School schoolOf(User user) {
+        if (user == null) {
+            return null;
+        }
+        if (user.getSchool() != null) {
+            return user.getSchool();
+        }
+        return user.getFaculty() != null ? user.getFaculty().getSchool() : null;
+    }
+}
@@ -0,0 +1,69 @@
+package com.richardmogou.controller;
+
+import com.richardmogou.dto.AgreementHistoryEntry;
+import com.richardmogou.dto.ArchiveRunReport;
+import com.richardmogou.entity.enums.InternshipAgreementStatus;
+import com.richardmogou.service.ColdArchiveService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/admin")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+public class AdminArchiveController {
+
+    private static final Logger log = LoggerFactory.getLogger(AdminArchiveController.class);
+    private final ColdArchiveService coldArchiveService;
+
+    /**
+     * GET /api/admin/history/agreements : Agreements of current and archived academic years, newest first.
+     * Optional filters: status and a creation date range [from, to).
+     */
+    @GetMapping("/history/agreements")
+    public ResponseEntity<?> getAgreementHistory(
+            @RequestParam(required = false) InternshipAgreementStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @PageableDefault(size = 20) Pageable pageable) {
+        try {
+            Page<AgreementHistoryEntry> history = coldArchiveService.getAgreementHistory(status, from, to, pageable);
+            return ResponseEntity.ok(history);
+        } catch (Exception e) {
+            log.error("Error fetching agreement history", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("An error occurred while fetching the agreement history.");
+        }
+    }
+
+    /**
+     * POST /api/admin/archive/run : Archive past academic years now instead of waiting for the weekly run.
+     */
+    @PostMapping("/archive/run")
+    public ResponseEntity<?> runArchive() {
+        log.info("Admin request to run the cold archive");
+        if (!coldArchiveService.isAvailable()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("The cold archive is not available on this database.");
+        }
+        try {
+            ArchiveRunReport report = coldArchiveService.archive();
+            if (report == null) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body("An archive run is already in progress.");
+            }
+            return ResponseEntity.ok(report);
+        } catch (Exception e) {
+            log.error("Error running the cold archive", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("An error occurred while archiving.");
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.richardmogou.controller;
+
+import com.richardmogou.service.EntityCacheEvictionService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/cache")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+public class AdminCacheController {
+
+    private static final Logger log = LoggerFactory.getLogger(AdminCacheController.class);
+    private final EntityCacheEvictionService cacheEvictionService;
+
+    /**
+     * DELETE /api/admin/cache : Clear the Hibernate second-level and query caches,
+     * e.g. after editing reference data directly in the database.
+     */
+    @DeleteMapping
+    public ResponseEntity<Void> clearCaches() {
+        log.info("Admin request to clear the second-level cache");
+        cacheEvictionService.evictEverything();
+        return ResponseEntity.noContent().build();
+    }
+}
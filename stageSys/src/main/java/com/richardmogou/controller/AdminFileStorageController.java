@@ -0,0 +1,75 @@
+package com.richardmogou.controller;
+
+import com.richardmogou.dto.FileMigrationStatus;
+import com.richardmogou.dto.FileSweepReport;
+import com.richardmogou.service.FileLayoutMigrationService;
+import com.richardmogou.service.OrphanedFileCollectorService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/files")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+public class AdminFileStorageController {
+
+    private static final Logger log = LoggerFactory.getLogger(AdminFileStorageController.class);
+    private final OrphanedFileCollectorService orphanedFileCollectorService;
+    private final FileLayoutMigrationService fileLayoutMigrationService;
+
+    /**
+     * POST /api/admin/files/gc : Run one bounded orphaned-file sweep over the CV and agreement stores.
+     * Defaults to dry-run, which only reports what would be reclaimed.
+     */
+    @PostMapping("/gc")
+    public ResponseEntity<?> sweepOrphanedFiles(@RequestParam(defaultValue = "true") boolean dryRun) {
+        log.info("Admin request to sweep orphaned files (dryRun={})", dryRun);
+        try {
+            List<FileSweepReport> reports = orphanedFileCollectorService.sweep(dryRun);
+            if (reports.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body("A sweep is already in progress.");
+            }
+            return ResponseEntity.ok(reports);
+        } catch (Exception e) {
+            log.error("Error sweeping orphaned files", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("An error occurred while sweeping orphaned files.");
+        }
+    }
+
+    /**
+     * GET /api/admin/files/migration : Progress of the flat-to-sharded CV store migration.
+     */
+    @GetMapping("/migration")
+    public ResponseEntity<FileMigrationStatus> getMigrationStatus() {
+        return ResponseEntity.ok(fileLayoutMigrationService.getStatus());
+    }
+
+    /**
+     * POST /api/admin/files/migration/start : Start or resume the background layout migration.
+     */
+    @PostMapping("/migration/start")
+    public ResponseEntity<?> startMigration() {
+        log.info("Admin request to start file layout migration");
+        if (!fileLayoutMigrationService.start()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("Migration is already running.");
+        }
+        return ResponseEntity.accepted().body(fileLayoutMigrationService.getStatus());
+    }
+
+    /**
+     * POST /api/admin/files/migration/pause : Pause the background layout migration after the current batch.
+     */
+    @PostMapping("/migration/pause")
+    public ResponseEntity<FileMigrationStatus> pauseMigration() {
+        log.info("Admin request to pause file layout migration");
+        fileLayoutMigrationService.pause();
+        return ResponseEntity.ok(fileLayoutMigrationService.getStatus());
+    }
+}
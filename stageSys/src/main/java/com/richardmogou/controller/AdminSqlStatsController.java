@@ -0,0 +1,45 @@
+package com.richardmogou.controller;
+
+import com.richardmogou.dto.EndpointSqlStats;
+import com.richardmogou.service.EndpointSqlStatsService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/sql-stats")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+public class AdminSqlStatsController {
+
+    private static final Logger log = LoggerFactory.getLogger(AdminSqlStatsController.class);
+    private final EndpointSqlStatsService endpointSqlStatsService;
+
+    /**
+     * GET /api/admin/sql-stats : Statements, database time, entity loads and suspected N+1 per endpoint,
+     * heaviest endpoints first.
+     */
+    @GetMapping
+    public ResponseEntity<List<EndpointSqlStats>> getSqlStats() {
+        log.debug("Admin request for endpoint SQL statistics");
+        return ResponseEntity.ok(endpointSqlStatsService.getStats());
+    }
+
+    /**
+     * DELETE /api/admin/sql-stats : Reset the accumulated figures, e.g. before measuring a change.
+     */
+    @DeleteMapping
+    public ResponseEntity<Void> resetSqlStats() {
+        log.info("Admin request to reset endpoint SQL statistics");
+        endpointSqlStatsService.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
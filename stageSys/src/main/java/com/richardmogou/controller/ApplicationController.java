@@ -2,6 +2,8 @@ package com.richardmogou.controller;
 
 import com.richardmogou.dto.ApplicationResponse;
 import com.richardmogou.dto.ApplicationStatusUpdateRequest;
+import com.richardmogou.dto.BulkApplicationStatusUpdateRequest;
+import com.richardmogou.dto.BulkOperationResponse;
 import com.richardmogou.exception.BadRequestException;
 import com.richardmogou.exception.FileStorageException;
 import com.richardmogou.exception.ResourceNotFoundException;
@@ -99,7 +101,7 @@ public class ApplicationController {
 
     /**
      * GET /api/companies/me/applications : List applications received for the logged-in company's offers.
-     * Requires COMPANY role. Can optionally filter by offerId.
+     * Requires COMPANY role. Can optionally filter by offerId. Use sort=score to rank applicants by fit.
      */
     @GetMapping("/companies/me/applications")
     @PreAuthorize("hasRole('COMPANY')")
@@ -125,6 +127,64 @@ public class ApplicationController {
          }
     }
 
+    /**
+     * PUT /api/companies/me/applications/status : Update the status of many applications at once.
+     * Requires COMPANY role. Returns a per-application result report.
+     */
+    @PutMapping("/companies/me/applications/status")
+    @PreAuthorize("hasRole('COMPANY')")
+    public ResponseEntity<?> bulkUpdateApplicationStatus(@Valid @RequestBody BulkApplicationStatusUpdateRequest request) {
+        log.info("Received bulk status update request to {} for {} applications", request.getStatus(), request.getApplicationIds().size());
+        try {
+            BulkOperationResponse response = applicationService.bulkUpdateApplicationStatus(request);
+            return ResponseEntity.ok(response);
+        } catch (ResourceNotFoundException e) {
+            log.warn("Bulk application status update failed: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (BadRequestException e) {
+            log.warn("Invalid bulk application status update: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (UnauthorizedAccessException e) {
+            log.warn("Unauthorized bulk application status update: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        } catch (IllegalStateException e) {
+            log.warn("Bulk application status update failed due to illegal state: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Authentication context error.");
+        } catch (Exception e) {
+            log.error("Error during bulk application status update", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("An error occurred while updating application statuses.");
+        }
+    }
+
+    /**
+     * GET /api/companies/me/applications/search : Full-text search over CVs and cover letters
+     * received by the logged-in company. Requires COMPANY role. Can optionally filter by offerId.
+     */
+    @GetMapping("/companies/me/applications/search")
+    @PreAuthorize("hasRole('COMPANY')")
+    public ResponseEntity<?> searchApplicationsForCurrentCompany(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) Long offerId,
+            @PageableDefault(size = 10) Pageable pageable) {
+        log.info("Received request to search company applications for '{}', filterOfferId: {}", query, offerId);
+        try {
+            Page<ApplicationResponse> responsePage = applicationService.searchApplicationsForCurrentCompany(query, offerId, pageable);
+            return ResponseEntity.ok(responsePage);
+        } catch (ResourceNotFoundException e) {
+            log.warn("Could not search company applications: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (UnauthorizedAccessException e) {
+            log.warn("Unauthorized attempt to search company applications: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        } catch (IllegalStateException e) {
+            log.warn("Searching company applications failed due to illegal state: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Authentication context error.");
+        } catch (Exception e) {
+            log.error("Error searching applications for current company", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("An error occurred while searching company applications.");
+        }
+    }
+
     /**
      * GET /api/applications/{applicationId} : Get details of a specific application.
      * Requires authentication and authorization (Student owner, Company owner, Admin, associated Faculty).
@@ -0,0 +1,50 @@
+package com.richardmogou.controller;
+
+import com.richardmogou.service.CatalogueResponseCache.CachedResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Conditional GET handling shared by the catalogue endpoints.
+ */
+final class CatalogueResponses {
+
+    // Clients and proxies may store catalogues but must revalidate them, which costs a 304 at most
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePublic();
+
+    private CatalogueResponses() {
+    }
+
+    static ResponseEntity<byte[]> conditional(CachedResponse cached, String ifNoneMatch) {
+        if (matches(ifNoneMatch, cached.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(cached.etag())
+                    .cacheControl(CACHE_CONTROL)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(cached.etag())
+                .cacheControl(CACHE_CONTROL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(cached.body());
+    }
+
+    // If-None-Match uses weak comparison: W/ prefixes are ignored, "*" matches any representation
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
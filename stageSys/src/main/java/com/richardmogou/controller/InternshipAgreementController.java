@@ -1,17 +1,23 @@
 package com.richardmogou.controller;
 
 import com.richardmogou.dto.AgreementApprovalRequest;
+import com.richardmogou.dto.AgreementTransitionResponse;
 import com.richardmogou.dto.AgreementValidationRequest;
+import com.richardmogou.dto.BulkAgreementApprovalRequest;
+import com.richardmogou.dto.BulkAgreementValidationRequest;
+import com.richardmogou.dto.BulkOperationResponse;
 import com.richardmogou.dto.InternshipAgreementResponse;
 import com.richardmogou.exception.BadRequestException;
 import com.richardmogou.exception.ResourceNotFoundException;
 import com.richardmogou.exception.UnauthorizedAccessException;
+import com.richardmogou.service.AgreementSlaEscalationService;
 import com.richardmogou.service.InternshipAgreementService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.Resource;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
@@ -21,7 +27,9 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import com.richardmogou.entity.User;
 import com.richardmogou.entity.enums.Role;
 import com.richardmogou.service.UserService;
@@ -33,6 +41,7 @@ public class InternshipAgreementController {
 
     private static final Logger log = LoggerFactory.getLogger(InternshipAgreementController.class);
     private final InternshipAgreementService agreementService;
+    private final AgreementSlaEscalationService slaEscalationService;
     private final UserService userService;
 
     /**
@@ -61,6 +70,61 @@ public class InternshipAgreementController {
         }
     }
 
+    /**
+     * GET /api/agreements/{agreementId}/history : Get the transition log of an agreement, oldest first.
+     * Requires the same access as viewing the agreement (checked in service).
+     */
+    @GetMapping("/{agreementId}/history")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<?> getAgreementHistory(@PathVariable Long agreementId) {
+        try {
+            List<AgreementTransitionResponse> history = agreementService.getAgreementHistory(agreementId);
+            return ResponseEntity.ok(history);
+        } catch (ResourceNotFoundException e) {
+            log.warn("Agreement history failed, resource not found: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (UnauthorizedAccessException e) {
+            log.warn("Unauthorized attempt to access history of agreement ID {}: {}", agreementId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        } catch (IllegalStateException e) {
+            log.warn("Agreement history failed due to illegal state: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Authentication context error.");
+        } catch (Exception e) {
+            log.error("Error fetching history of agreement ID {}", agreementId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("An error occurred while fetching the agreement history.");
+        }
+    }
+
+    /**
+     * GET /api/agreements/admin/workflow-stats : Transition counts and time spent per status over the last N days.
+     * Requires ADMIN role.
+     */
+    @GetMapping("/admin/workflow-stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getWorkflowStats(@RequestParam(defaultValue = "30") int days) {
+        try {
+            return ResponseEntity.ok(agreementService.getWorkflowStats(days));
+        } catch (Exception e) {
+            log.error("Error computing agreement workflow stats", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("An error occurred while computing workflow stats.");
+        }
+    }
+
+    /**
+     * GET /api/agreements/admin/sla : Overdue agreements and p50/p95/p99 time spent per status, faculty and school.
+     * Requires ADMIN role.
+     */
+    @GetMapping("/admin/sla")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getSlaReport() {
+        try {
+            return ResponseEntity.ok(slaEscalationService.getReport());
+        } catch (Exception e) {
+            log.error("Error computing agreement SLA report", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("An error occurred while computing the SLA report.");
+        }
+    }
+
     /**
      * GET /api/agreements/{agreementId}/pdf : Download the PDF agreement file.
      * Requires authentication and appropriate role/ownership (checked in service).
@@ -134,6 +198,27 @@ public class InternshipAgreementController {
          }
     }
 
+    /**
+     * GET /api/agreements/faculty/pending/count : Number of agreements pending validation for the logged-in faculty.
+     * Requires FACULTY role.
+     */
+    @GetMapping("/faculty/pending/count")
+    @PreAuthorize("hasRole('FACULTY')")
+    public ResponseEntity<?> countAgreementsPendingFacultyValidation() {
+        try {
+            return ResponseEntity.ok(Map.of("pending", agreementService.countAgreementsPendingFacultyValidation()));
+        } catch (UnauthorizedAccessException e) {
+            log.warn("Unauthorized attempt to count pending faculty agreements: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        } catch (IllegalStateException e) {
+            log.warn("Counting pending faculty agreements failed due to illegal state: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Authentication context error.");
+        } catch (Exception e) {
+            log.error("Error counting pending faculty agreements", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("An error occurred while counting pending agreements.");
+        }
+    }
+
     /**
      * PUT /api/agreements/{agreementId}/validate : Validate or reject an agreement.
      * Requires FACULTY role and assignment (checked in service).
@@ -145,7 +230,7 @@ public class InternshipAgreementController {
             @Valid @RequestBody AgreementValidationRequest request) {
         log.info("Received request to validate/reject agreement ID: {}", agreementId);
          try {
-            InternshipAgreementResponse response = agreementService.validateAgreement(agreementId, request);
+            InternshipAgreementResponse response = retryOnceOnVersionConflict(() -> agreementService.validateAgreement(agreementId, request));
             return ResponseEntity.ok(response);
         } catch (ResourceNotFoundException e) {
             log.warn("Agreement validation failed, resource not found: {}", e.getMessage());
@@ -156,6 +241,9 @@ public class InternshipAgreementController {
         } catch (UnauthorizedAccessException e) {
              log.warn("Unauthorized attempt to validate agreement ID {}: {}", agreementId, e.getMessage());
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("Agreement validation conflicted with a concurrent update: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("The agreement was modified concurrently. Please reload and retry.");
         } catch (IllegalStateException e) {
              log.warn("Agreement validation failed due to illegal state: {}", e.getMessage());
              return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Authentication context error.");
@@ -166,17 +254,47 @@ public class InternshipAgreementController {
         }
     }
 
+    /**
+     * PUT /api/agreements/faculty/validate : Validate or reject many agreements at once.
+     * Requires FACULTY role. Returns a per-agreement result report.
+     */
+    @PutMapping("/faculty/validate")
+    @PreAuthorize("hasRole('FACULTY')")
+    public ResponseEntity<?> bulkValidateAgreements(@Valid @RequestBody BulkAgreementValidationRequest request) {
+        log.info("Received bulk validation request for {} agreements", request.getAgreementIds().size());
+        try {
+            BulkOperationResponse response = agreementService.bulkValidateAgreements(request);
+            return ResponseEntity.ok(response);
+        } catch (BadRequestException e) {
+            log.warn("Bulk agreement validation failed (bad request): {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (UnauthorizedAccessException e) {
+            log.warn("Unauthorized bulk agreement validation: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("Bulk agreement validation conflicted with a concurrent update: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("The agreement was modified concurrently. Please reload and retry.");
+        } catch (IllegalStateException e) {
+            log.warn("Bulk agreement validation failed due to illegal state: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Authentication context error.");
+        } catch (Exception e) {
+            log.error("Error during bulk agreement validation", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("An error occurred while validating the agreements.");
+        }
+    }
+
      /**
-     * GET /api/agreements/admin/pending : List agreements pending final approval by Admin.
+     * GET /api/agreements/admin/pending : List agreements pending final approval by Admin, optionally of one school.
      * Requires ADMIN role.
      */
     @GetMapping("/admin/pending") // Corrected route
     @PreAuthorize("hasRole('ADMIN')")
      public ResponseEntity<?> getAgreementsPendingAdminApproval(
+             @RequestParam(required = false) Long schoolId,
              @PageableDefault(size = 10) Pageable pageable) {
-         log.info("Received request to list agreements pending admin approval");
+         log.info("Received request to list agreements pending admin approval (schoolId={})", schoolId);
          try {
-             Page<InternshipAgreementResponse> responsePage = agreementService.getAgreementsPendingAdminApproval(pageable);
+             Page<InternshipAgreementResponse> responsePage = agreementService.getAgreementsPendingAdminApproval(schoolId, pageable);
              return ResponseEntity.ok(responsePage);
          } catch (Exception e) { // Less specific exceptions needed here unless service throws them
              log.error("Error fetching pending admin agreements", e);
@@ -185,6 +303,35 @@ public class InternshipAgreementController {
     }
 
 
+    /**
+     * PUT /api/agreements/admin/approve : Approve or reject many agreements at once.
+     * Requires ADMIN role. Returns a per-agreement result report.
+     */
+    @PutMapping("/admin/approve")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> bulkApproveAgreements(@Valid @RequestBody BulkAgreementApprovalRequest request) {
+        log.info("Received bulk approval request for {} agreements", request.getAgreementIds().size());
+        try {
+            BulkOperationResponse response = agreementService.bulkApproveAgreements(request);
+            return ResponseEntity.ok(response);
+        } catch (BadRequestException e) {
+            log.warn("Bulk agreement approval failed (bad request): {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (UnauthorizedAccessException e) {
+            log.warn("Unauthorized bulk agreement approval: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("Bulk agreement approval conflicted with a concurrent update: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("The agreement was modified concurrently. Please reload and retry.");
+        } catch (IllegalStateException e) {
+            log.warn("Bulk agreement approval failed due to illegal state: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Authentication context error.");
+        } catch (Exception e) {
+            log.error("Error during bulk agreement approval", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("An error occurred while approving the agreements.");
+        }
+    }
+
     /**
      * PUT /api/agreements/{agreementId}/approve : Approve or reject an agreement.
      * Requires ADMIN role.
@@ -196,7 +343,7 @@ public class InternshipAgreementController {
             @Valid @RequestBody AgreementApprovalRequest request) {
         log.info("Received request to approve/reject agreement ID: {}", agreementId);
          try {
-            InternshipAgreementResponse response = agreementService.approveAgreement(agreementId, request);
+            InternshipAgreementResponse response = retryOnceOnVersionConflict(() -> agreementService.approveAgreement(agreementId, request));
             return ResponseEntity.ok(response);
         } catch (ResourceNotFoundException e) {
             log.warn("Agreement approval failed, resource not found: {}", e.getMessage());
@@ -207,6 +354,9 @@ public class InternshipAgreementController {
         } catch (UnauthorizedAccessException e) { // Should not happen due to @PreAuthorize, but good practice
              log.warn("Unauthorized attempt to approve agreement ID {}: {}", agreementId, e.getMessage());
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("Agreement approval conflicted with a concurrent update: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("The agreement was modified concurrently. Please reload and retry.");
         } catch (IllegalStateException e) {
              log.warn("Agreement approval failed due to illegal state: {}", e.getMessage());
              return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Authentication context error.");
@@ -312,6 +462,9 @@ public class InternshipAgreementController {
         } catch (UnauthorizedAccessException e) {
             log.warn("Unauthorized attempt to sign agreement ID {}: {}", agreementId, e.getMessage());
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("Agreement signing conflicted with a concurrent update: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("The agreement was modified concurrently. Please reload and retry.");
         } catch (IllegalStateException e) {
             log.warn("Agreement signing failed due to illegal state: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Authentication context error.");
@@ -322,4 +475,18 @@ public class InternshipAgreementController {
     }
 
     // GET /api/admin/agreements - Admin endpoint for listing all agreements would be in AdminController
-}
\ No newline at end of file
+
+    /**
+     * Runs a review action again, in a new transaction, when it lost a version check. Signatures bump the version
+     * with guarded updates that never conflict with each other, so a review that raced one is still valid and
+     * succeeds on the fresh state; a second conflict is reported to the client.
+     */
+    private <T> T retryOnceOnVersionConflict(Supplier<T> action) {
+        try {
+            return action.get();
+        } catch (OptimisticLockingFailureException e) {
+            log.info("Agreement review conflicted with a concurrent update, retrying once: {}", e.getMessage());
+            return action.get();
+        }
+    }
+}
@@ -15,11 +15,13 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api") // Base path for offers
@@ -56,12 +58,17 @@ public class InternshipOfferController {
     /**
      * GET /api/offers : List available internship offers with filtering and pagination.
      * Publicly accessible, but filtering might differ based on role (handled in service).
+     * The first pages of the default listing are served pre-serialized.
      */
     @GetMapping("/offers")
-    public ResponseEntity<Page<InternshipOfferResponse>> getAllOffers(
+    public ResponseEntity<?> getAllOffers(
             @PageableDefault(size = 10) Pageable pageable,
             @RequestParam(required = false) Map<String, String> filters) { // Capture all query params as filters
-        log.info("Received request to list offers with filters: {}", filters);
+        log.debug("Received request to list offers with filters: {}", filters);
+        Optional<byte[]> hotPage = internshipOfferService.getHotOfferPage(pageable, filters);
+        if (hotPage.isPresent()) {
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(hotPage.get());
+        }
         Page<InternshipOfferResponse> offerPage = internshipOfferService.getAllOffers(pageable, filters);
         return ResponseEntity.ok(offerPage);
     }
@@ -4,7 +4,10 @@ import com.richardmogou.entity.School;
 import com.richardmogou.entity.Faculty;
 import com.richardmogou.repository.SchoolRepository;
 import com.richardmogou.repository.FacultyRepository;
+import com.richardmogou.service.CatalogueResponseCache;
+import com.richardmogou.service.CatalogueResponseCache.Catalogue;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -17,15 +20,19 @@ public class SchoolController {
 
     private final SchoolRepository schoolRepository;
     private final FacultyRepository facultyRepository;
+    private final CatalogueResponseCache catalogueResponseCache;
 
     @GetMapping
-    public ResponseEntity<List<School>> getAllSchools() {
-        return ResponseEntity.ok(schoolRepository.findAll());
+    public ResponseEntity<byte[]> getAllSchools(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return CatalogueResponses.conditional(
+                catalogueResponseCache.get(Catalogue.SCHOOLS, null, schoolRepository::findAll), ifNoneMatch);
     }
 
     @GetMapping("/{schoolId}/faculties")
-    public ResponseEntity<List<Faculty>> getFacultiesBySchool(@PathVariable Long schoolId) {
-        return ResponseEntity.ok(facultyRepository.findBySchoolId(schoolId));
+    public ResponseEntity<byte[]> getFacultiesBySchool(@PathVariable Long schoolId,
+                                                       @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return CatalogueResponses.conditional(
+                catalogueResponseCache.get(Catalogue.FACULTIES, schoolId, () -> facultyRepository.findBySchoolId(schoolId)), ifNoneMatch);
     }
 
     @GetMapping("/{schoolId}")
@@ -1,21 +1,20 @@
 package com.richardmogou.controller;
 
-import com.richardmogou.dto.DomainDto;
-import com.richardmogou.dto.SectorDto;
-import com.richardmogou.dto.SkillDto;
+import com.richardmogou.service.CatalogueResponseCache;
+import com.richardmogou.service.CatalogueResponseCache.Catalogue;
 import com.richardmogou.service.DomainService;
 import com.richardmogou.service.SectorService;
 import com.richardmogou.service.SkillService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api") // Base path
 @RequiredArgsConstructor
@@ -25,38 +24,39 @@ public class SupportingResourceController {
     private final SkillService skillService;
     private final DomainService domainService;
     private final SectorService sectorService;
+    private final CatalogueResponseCache catalogueResponseCache;
 
     /**
      * GET /api/skills : Get all available skills.
-     * Publicly accessible.
+     * Publicly accessible. Supports If-None-Match.
      */
     @GetMapping("/skills")
-    public ResponseEntity<List<SkillDto>> getAllSkills() {
+    public ResponseEntity<byte[]> getAllSkills(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.debug("Request received for all skills");
-        List<SkillDto> skills = skillService.getAllSkills();
-        return ResponseEntity.ok(skills);
+        return CatalogueResponses.conditional(
+                catalogueResponseCache.get(Catalogue.SKILLS, null, skillService::getAllSkills), ifNoneMatch);
     }
 
     /**
      * GET /api/domains : Get all available domains.
-     * Publicly accessible.
+     * Publicly accessible. Supports If-None-Match.
      */
     @GetMapping("/domains")
-    public ResponseEntity<List<DomainDto>> getAllDomains() {
+    public ResponseEntity<byte[]> getAllDomains(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
          log.debug("Request received for all domains");
-        List<DomainDto> domains = domainService.getAllDomains();
-        return ResponseEntity.ok(domains);
+        return CatalogueResponses.conditional(
+                catalogueResponseCache.get(Catalogue.DOMAINS, null, domainService::getAllDomains), ifNoneMatch);
     }
 
     /**
      * GET /api/sectors : Get all available industry sectors.
-     * Publicly accessible.
+     * Publicly accessible. Supports If-None-Match.
      */
     @GetMapping("/sectors")
-    public ResponseEntity<List<SectorDto>> getAllSectors() {
+    public ResponseEntity<byte[]> getAllSectors(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
          log.debug("Request received for all sectors");
-        List<SectorDto> sectors = sectorService.getAllSectors();
-        return ResponseEntity.ok(sectors);
+        return CatalogueResponses.conditional(
+                catalogueResponseCache.get(Catalogue.SECTORS, null, sectorService::getAllSectors), ifNoneMatch);
     }
 
     // Admin CRUD endpoints for these resources would go in Admin controllers.
@@ -0,0 +1,29 @@
+package com.richardmogou.dto;
+
+import com.richardmogou.entity.enums.InternshipAgreementStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One agreement of the admin history, read from the hot tables or the cold archive.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AgreementHistoryEntry {
+    private Long agreementId;
+    private InternshipAgreementStatus status;
+    private boolean archived;
+    private Long applicationId;
+    private String studentName; // null once the student account is deleted
+    private String studentEmail;
+    private String offerTitle;
+    private String companyName;
+    private LocalDateTime createdAt;
+    private LocalDateTime statusChangedAt;
+}
@@ -0,0 +1,17 @@
+package com.richardmogou.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AgreementSlaReport {
+    private long overdueAgreements; // Past their deadline and not escalated yet
+    private List<AgreementSlaStats> timeInStatus;
+}
@@ -0,0 +1,26 @@
+package com.richardmogou.dto;
+
+import com.richardmogou.entity.enums.InternshipAgreementStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Time-in-status distribution of one (status, faculty, school) series over the percentile window.
+ * School-level series have no faculty.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AgreementSlaStats {
+    private InternshipAgreementStatus status;
+    private String facultyId;
+    private String schoolId;
+    private long count;
+    private double p50Millis;
+    private double p95Millis;
+    private double p99Millis;
+    private double maxMillis;
+}
@@ -0,0 +1,40 @@
+package com.richardmogou.dto;
+
+import com.richardmogou.entity.AgreementTransition;
+import com.richardmogou.entity.enums.AgreementEvent;
+import com.richardmogou.entity.enums.InternshipAgreementStatus;
+import com.richardmogou.entity.enums.Role;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AgreementTransitionResponse {
+    private Long id;
+    private AgreementEvent event;
+    private InternshipAgreementStatus fromStatus;
+    private InternshipAgreementStatus toStatus;
+    private Long actorUserId;
+    private Role actorRole;
+    private Long millisInPreviousStatus;
+    private LocalDateTime occurredAt;
+
+    public static AgreementTransitionResponse fromEntity(AgreementTransition transition) {
+        return AgreementTransitionResponse.builder()
+                .id(transition.getId())
+                .event(transition.getEvent())
+                .fromStatus(transition.getFromStatus())
+                .toStatus(transition.getToStatus())
+                .actorUserId(transition.getActorUserId())
+                .actorRole(transition.getActorRole())
+                .millisInPreviousStatus(transition.getMillisInPreviousStatus())
+                .occurredAt(transition.getOccurredAt())
+                .build();
+    }
+}
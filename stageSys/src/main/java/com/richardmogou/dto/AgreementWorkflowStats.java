@@ -0,0 +1,23 @@
+package com.richardmogou.dto;
+
+import com.richardmogou.entity.enums.AgreementEvent;
+import com.richardmogou.entity.enums.InternshipAgreementStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Workflow throughput for one transition over a period, read from the agreement event log.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AgreementWorkflowStats {
+    private AgreementEvent event;
+    private InternshipAgreementStatus fromStatus;
+    private long transitions;
+    private Double avgMillisInStatus;
+    private Long maxMillisInStatus;
+}
@@ -35,6 +35,17 @@ public class ApplicationResponse {
     private Long companyId;
     private String companyName;
 
+    private Double matchScore; // Only set when listing is ranked by score
+
+    // Constructor expression target of the listing queries in ApplicationRepository (one select, no entities)
+    public ApplicationResponse(Long id, ApplicationStatus status, LocalDateTime applicationDate, String coverLetter,
+                               String cvPath, String companyFeedback, LocalDateTime createdAt, LocalDateTime updatedAt,
+                               Long studentId, String studentFirstName, String studentLastName, String studentEmail,
+                               Long offerId, String offerTitle, Long companyId, String companyName) {
+        this(id, status, applicationDate, coverLetter, cvPath, companyFeedback, createdAt, updatedAt,
+                studentId, studentFirstName, studentLastName, studentEmail, offerId, offerTitle, companyId, companyName, null);
+    }
+
     // Factory method to convert Application entity to DTO
     public static ApplicationResponse fromEntity(Application application) {
         if (application == null) {
@@ -0,0 +1,24 @@
+package com.richardmogou.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outcome of one cold-archive run.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchiveRunReport {
+    private LocalDateTime cutoff; // Start of the oldest academic year kept in the hot tables
+    private int batches;
+    private long offers;
+    private long applications;
+    private long agreements;
+    private boolean completed; // false when the run stopped at archive.max-batches-per-run
+}
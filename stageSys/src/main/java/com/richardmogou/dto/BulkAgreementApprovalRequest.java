@@ -0,0 +1,23 @@
+package com.richardmogou.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class BulkAgreementApprovalRequest {
+
+    @NotEmpty(message = "At least one agreement ID is required")
+    @Size(max = 1000, message = "At most 1000 agreements can be approved at once")
+    private List<@NotNull Long> agreementIds;
+
+    @NotNull(message = "Approval decision cannot be null")
+    private Boolean approved; // true for approved, false for rejected
+
+    private String rejectionReason; // Required only if approved is false
+}
@@ -0,0 +1,24 @@
+package com.richardmogou.dto;
+
+import com.richardmogou.entity.enums.ApplicationStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class BulkApplicationStatusUpdateRequest {
+
+    @NotEmpty(message = "At least one application ID is required")
+    @Size(max = 1000, message = "At most 1000 applications can be updated at once")
+    private List<@NotNull Long> applicationIds;
+
+    @NotNull(message = "Status cannot be null")
+    private ApplicationStatus status; // e.g., ACCEPTED, REJECTED
+
+    private String feedback; // Optional feedback, applied to every application
+}
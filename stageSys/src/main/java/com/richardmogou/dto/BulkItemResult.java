@@ -0,0 +1,27 @@
+package com.richardmogou.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a single item in a bulk operation.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkItemResult {
+    private Long id;
+    private boolean success;
+    private String error; // Null on success
+
+    public static BulkItemResult succeeded(Long id) {
+        return new BulkItemResult(id, true, null);
+    }
+
+    public static BulkItemResult failed(Long id, String error) {
+        return new BulkItemResult(id, false, error);
+    }
+}
@@ -0,0 +1,32 @@
+package com.richardmogou.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Per-item report of a bulk operation. Items succeed or fail independently.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOperationResponse {
+    private int requested;
+    private int succeeded;
+    private int failed;
+    private List<BulkItemResult> results;
+
+    public static BulkOperationResponse of(List<BulkItemResult> results) {
+        int succeeded = (int) results.stream().filter(BulkItemResult::isSuccess).count();
+        return BulkOperationResponse.builder()
+                .requested(results.size())
+                .succeeded(succeeded)
+                .failed(results.size() - succeeded)
+                .results(results)
+                .build();
+    }
+}
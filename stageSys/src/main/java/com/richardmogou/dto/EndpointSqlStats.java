@@ -0,0 +1,28 @@
+package com.richardmogou.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Accumulated SQL activity of one endpoint since startup (or the last reset).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EndpointSqlStats {
+    private String endpoint;
+    private long requests;
+    private long statements;
+    private double avgStatements;
+    private long maxStatements;
+    private double dbTimeMillis;
+    private double avgDbTimeMillis;
+    private long entitiesLoaded;
+    private double avgEntitiesLoaded;
+    private long suspectedNPlusOneRequests;
+    private String lastSuspectedStatement;
+    private long lastSuspectedRepetitions;
+}
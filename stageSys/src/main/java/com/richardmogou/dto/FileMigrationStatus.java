@@ -0,0 +1,23 @@
+package com.richardmogou.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of the flat-to-sharded file store migration.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileMigrationStatus {
+    private boolean running;
+    private long migratedFiles;
+    private long failedFiles;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,23 @@
+package com.richardmogou.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one orphaned-file sweep over a single file store.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileSweepReport {
+    private String store;
+    private boolean dryRun;
+    private int batches;
+    private long scannedFiles;
+    private long orphanedFiles;
+    private long reclaimedBytes;
+    private boolean completedPass; // true when the cursor wrapped around to the start of the store
+}
@@ -0,0 +1,61 @@
+package com.richardmogou.entity;
+
+import com.richardmogou.entity.enums.AgreementEvent;
+import com.richardmogou.entity.enums.InternshipAgreementStatus;
+import com.richardmogou.entity.enums.Role;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Append-only log entry for one agreement state machine transition.
+ * Rows are never updated; the agreement is referenced by id only so the log outlives it.
+ */
+@Entity
+@Immutable
+@Table(name = "agreement_transitions", indexes = {
+        @Index(name = "idx_agreement_transitions_agreement", columnList = "agreement_id, occurred_at"),
+        @Index(name = "idx_agreement_transitions_occurred", columnList = "occurred_at, from_status")
+})
+@Data
+@NoArgsConstructor
+public class AgreementTransition {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "agreement_id", nullable = false, updatable = false)
+    private Long agreementId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false)
+    private AgreementEvent event;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status", updatable = false)
+    private InternshipAgreementStatus fromStatus; // null for CREATE
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status", nullable = false, updatable = false)
+    private InternshipAgreementStatus toStatus;
+
+    @Column(updatable = false)
+    private Long actorUserId; // null for system transitions
+
+    @Enumerated(EnumType.STRING)
+    @Column(updatable = false)
+    private Role actorRole;
+
+    @Column(updatable = false)
+    private Long facultyId; // Student faculty at the time of the transition
+
+    @Column(updatable = false)
+    private Long millisInPreviousStatus; // Time spent in fromStatus, null for CREATE
+
+    @Column(name = "occurred_at", nullable = false, updatable = false)
+    private LocalDateTime occurredAt;
+}
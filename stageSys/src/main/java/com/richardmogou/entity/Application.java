@@ -14,7 +14,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "applications")
+@Table(name = "applications", uniqueConstraints = {
+        // One application per student and offer; also serves existsByStudentAndInternshipOffer
+        @UniqueConstraint(name = "uk_applications_student_offer", columnNames = {"student_user_id", "internship_offer_id"})
+}, indexes = {
+        @Index(name = "idx_applications_offer_created", columnList = "internship_offer_id, created_at")
+})
 @Data
 @NoArgsConstructor
 public class Application {
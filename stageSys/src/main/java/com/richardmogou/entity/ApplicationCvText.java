@@ -0,0 +1,42 @@
+package com.richardmogou.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * Plain text extracted from an application's CV, kept apart from {@link Application}
+ * so listing queries never load it.
+ */
+@Entity
+@Table(name = "application_cv_texts", indexes = {
+        @Index(name = "idx_cv_texts_company", columnList = "company_id")
+})
+@Data
+@NoArgsConstructor
+public class ApplicationCvText {
+
+    @Id
+    private Long applicationId;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @MapsId
+    @JoinColumn(name = "application_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Application application;
+
+    @Column(name = "company_id", nullable = false)
+    private Long companyId; // Denormalized so a company's index can be rebuilt with one query
+
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    private Integer pageCount;
+
+    @Column(nullable = false)
+    private LocalDateTime extractedAt;
+}
@@ -0,0 +1,45 @@
+package com.richardmogou.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cached fit score of an application against its offer's required skills.
+ */
+@Entity
+@Table(name = "application_scores", indexes = {
+        @Index(name = "idx_application_scores_offer_score", columnList = "offer_id, score")
+})
+@Data
+@NoArgsConstructor
+public class ApplicationScore {
+
+    @Id
+    private Long applicationId;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @MapsId
+    @JoinColumn(name = "application_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Application application;
+
+    @Column(name = "offer_id", nullable = false)
+    private Long offerId;
+
+    @Column(nullable = false)
+    private double score; // 0.0 - 1.0, share of required skills found
+
+    @Column(length = 1000)
+    private String matchedSkills; // Comma-separated, for display
+
+    @Column(nullable = false)
+    private int skillsHash; // Hash of the offer's requiredSkills the score was computed against
+
+    @Column(nullable = false)
+    private LocalDateTime computedAt;
+}
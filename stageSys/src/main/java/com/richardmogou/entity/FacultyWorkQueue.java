@@ -0,0 +1,28 @@
+package com.richardmogou.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read model of the faculty validation queue: number of agreements pending validation per faculty,
+ * maintained incrementally on every transition into or out of PENDING_FACULTY_VALIDATION.
+ */
+@Entity
+@Table(name = "faculty_work_queue")
+@Data
+@NoArgsConstructor
+public class FacultyWorkQueue {
+
+    @Id
+    @Column(name = "faculty_id")
+    private Long facultyId;
+
+    @Column(nullable = false)
+    private long pendingCount;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
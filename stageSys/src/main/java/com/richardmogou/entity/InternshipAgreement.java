@@ -6,13 +6,23 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "internship_agreements")
+@Table(name = "internship_agreements", indexes = {
+        // Faculty work queue: pending agreements of a faculty, oldest first
+        @Index(name = "idx_agreements_faculty_status_created", columnList = "student_faculty_id, status, created_at"),
+        // Per-school listings: each school reads only its own range
+        @Index(name = "idx_agreements_school_status_created", columnList = "student_school_id, status, created_at"),
+        // SLA escalation scanner: range scan over open deadlines
+        @Index(name = "idx_agreements_state_deadline", columnList = "state_deadline"),
+        // Admin approval queue and listings by status
+        @Index(name = "idx_agreements_status_created", columnList = "status, created_at")
+})
 @Data
 @NoArgsConstructor
 public class InternshipAgreement {
@@ -35,6 +45,26 @@ public class InternshipAgreement {
     @Column(nullable = false)
     private InternshipAgreementStatus status;
 
+    private LocalDateTime statusChangedAt; // Set by AgreementStateMachine on every status change
+
+    @Column(name = "state_deadline")
+    private LocalDateTime stateDeadline; // SLA deadline of the current status, cleared once escalated or left
+
+    private LocalDateTime escalatedAt; // When the current status breached its SLA, null otherwise
+
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version; // Optimistic locking: concurrent transitions fail instead of overwriting each other
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "student_faculty_id")
+    private Faculty studentFaculty; // Denormalized from application.student.faculty for the faculty work queue
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "student_school_id")
+    private School studentSchool; // Tenant key: the student's school (or their faculty's), denormalized like studentFaculty
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "faculty_validator_user_id")
     private User facultyValidator; // User with FACULTY role
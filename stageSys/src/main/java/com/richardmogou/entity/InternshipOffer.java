@@ -15,7 +15,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "internship_offers")
+@Table(name = "internship_offers", indexes = {
+        @Index(name = "idx_offers_status_created", columnList = "status, created_at"),
+        @Index(name = "idx_offers_company_status", columnList = "company_id, status")
+})
 @Data
 @NoArgsConstructor
 public class InternshipOffer {
@@ -10,7 +10,10 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "messages")
+@Table(name = "messages", indexes = {
+        // Conversations; the unread partial index exists in the migration only (V5)
+        @Index(name = "idx_messages_sender_receiver_timestamp", columnList = "sender_user_id, receiver_user_id, timestamp")
+})
 @Data
 @NoArgsConstructor
 public class Message {
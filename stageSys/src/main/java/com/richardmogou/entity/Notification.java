@@ -11,7 +11,11 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        // Unread badge count, unread list and mark-all-read
+        @Index(name = "idx_notifications_recipient_read_created", columnList = "recipient_user_id, is_read, created_at"),
+        @Index(name = "idx_notifications_recipient_created", columnList = "recipient_user_id, created_at")
+})
 @Data
 @NoArgsConstructor
 public class Notification {
@@ -0,0 +1,11 @@
+package com.richardmogou.entity.enums;
+
+public enum AgreementEvent {
+    CREATE,
+    FACULTY_VALIDATE,
+    FACULTY_REJECT,
+    ADMIN_APPROVE,
+    ADMIN_REJECT,
+    SIGN, // One party signs; the status does not change
+    COMPLETE_SIGNATURES
+}
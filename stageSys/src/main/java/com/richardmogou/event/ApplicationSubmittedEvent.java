@@ -0,0 +1,7 @@
+package com.richardmogou.event;
+
+/**
+ * Published once a new application has been saved. Listeners run after the transaction commits.
+ */
+public record ApplicationSubmittedEvent(Long applicationId, Long companyId, Long offerId, String cvPath, String coverLetter) {
+}
@@ -0,0 +1,7 @@
+package com.richardmogou.event;
+
+/**
+ * Published when an offer's required skills change, so cached applicant scores can be recomputed.
+ */
+public record OfferSkillsChangedEvent(Long offerId) {
+}
@@ -0,0 +1,21 @@
+package com.richardmogou.repository;
+
+import com.richardmogou.entity.AgreementTransition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface AgreementTransitionRepository extends JpaRepository<AgreementTransition, Long> {
+
+    List<AgreementTransition> findByAgreementIdOrderByOccurredAtAscIdAsc(Long agreementId);
+
+    // Throughput and time-in-status per (event, from status) since a date: event, fromStatus, count, avg millis, max millis
+    @Query("SELECT t.event, t.fromStatus, COUNT(t), AVG(t.millisInPreviousStatus), MAX(t.millisInPreviousStatus) " +
+           "FROM AgreementTransition t WHERE t.occurredAt >= :since GROUP BY t.event, t.fromStatus")
+    List<Object[]> summarizeSince(@Param("since") LocalDateTime since);
+}
@@ -0,0 +1,14 @@
+package com.richardmogou.repository;
+
+import com.richardmogou.entity.ApplicationCvText;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ApplicationCvTextRepository extends JpaRepository<ApplicationCvText, Long> {
+
+    // All extracted CV texts for a company's applications (used to rebuild its search index)
+    List<ApplicationCvText> findByCompanyId(Long companyId);
+}
@@ -1,22 +1,45 @@
 package com.richardmogou.repository;
 
+import com.richardmogou.dto.ApplicationResponse;
 import com.richardmogou.entity.Application;
 import com.richardmogou.entity.InternshipOffer;
 import com.richardmogou.entity.User;
+import com.richardmogou.entity.enums.ApplicationStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ApplicationRepository extends JpaRepository<Application, Long>, JpaSpecificationExecutor<Application> {
 
+    String RESPONSE_SELECT = "SELECT new com.richardmogou.dto.ApplicationResponse(a.id, a.status, a.applicationDate, " +
+            "a.coverLetter, a.cvPath, a.companyFeedback, a.createdAt, a.updatedAt, s.id, s.firstName, s.lastName, s.email, " +
+            "o.id, o.title, c.id, c.name) FROM Application a JOIN a.student s JOIN a.internshipOffer o JOIN o.company c ";
+
     // Find applications by student (for student dashboard)
     Page<Application> findByStudent(User student, Pageable pageable);
 
+    // Student dashboard listing: the response columns only, in a single select (plus the count)
+    @Query(value = RESPONSE_SELECT + "WHERE s.id = :studentId",
+            countQuery = "SELECT COUNT(a) FROM Application a WHERE a.student.id = :studentId")
+    Page<ApplicationResponse> findResponsesByStudentId(@Param("studentId") Long studentId, Pageable pageable);
+
+    // Admin listing of every application: the response columns only, in a single select (plus the count)
+    @Query(value = RESPONSE_SELECT, countQuery = "SELECT COUNT(a) FROM Application a")
+    Page<ApplicationResponse> findAllResponses(Pageable pageable);
+
     // Find applications for a specific offer (for company view)
     Page<Application> findByInternshipOffer(InternshipOffer offer, Pageable pageable);
 
@@ -30,4 +53,61 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>,
     // Find a specific application by student and offer (might be useful)
     Optional<Application> findByStudentAndInternshipOffer(User student, InternshipOffer offer);
 
+    // Id and cover letter of every application received by a company (used to rebuild its search index)
+    @Query("SELECT a.id, a.coverLetter FROM Application a WHERE a.internshipOffer.company.id = :companyId")
+    List<Object[]> findIdAndCoverLetterByCompanyId(@Param("companyId") Long companyId);
+
+    // Applications of a company restricted to a set of ids (search results)
+    Page<Application> findByIdInAndInternshipOffer_Company_Id(Collection<Long> ids, Long companyId, Pageable pageable);
+
+    // Applications of a single offer restricted to a set of ids (search results filtered by offer)
+    Page<Application> findByIdInAndInternshipOffer_Id(Collection<Long> ids, Long offerId, Pageable pageable);
+
+    // Applications of a company ranked by cached fit score (unscored applications last)
+    @Query(value = "SELECT a FROM Application a LEFT JOIN ApplicationScore sc ON sc.application = a " +
+            "WHERE a.internshipOffer.company.id = :companyId ORDER BY sc.score DESC NULLS LAST, a.applicationDate DESC",
+            countQuery = "SELECT COUNT(a) FROM Application a WHERE a.internshipOffer.company.id = :companyId")
+    Page<Application> findRankedByCompanyId(@Param("companyId") Long companyId, Pageable pageable);
+
+    // Applications of one offer ranked by cached fit score (unscored applications last)
+    @Query(value = "SELECT a FROM Application a LEFT JOIN ApplicationScore sc ON sc.application = a " +
+            "WHERE a.internshipOffer.id = :offerId ORDER BY sc.score DESC NULLS LAST, a.applicationDate DESC",
+            countQuery = "SELECT COUNT(a) FROM Application a WHERE a.internshipOffer.id = :offerId")
+    Page<Application> findRankedByOfferId(@Param("offerId") Long offerId, Pageable pageable);
+
+    // Same rankings lowest score first (sort=score,asc); unscored applications still come last
+    @Query(value = "SELECT a FROM Application a LEFT JOIN ApplicationScore sc ON sc.application = a " +
+            "WHERE a.internshipOffer.company.id = :companyId ORDER BY sc.score ASC NULLS LAST, a.applicationDate DESC",
+            countQuery = "SELECT COUNT(a) FROM Application a WHERE a.internshipOffer.company.id = :companyId")
+    Page<Application> findRankedAscendingByCompanyId(@Param("companyId") Long companyId, Pageable pageable);
+
+    @Query(value = "SELECT a FROM Application a LEFT JOIN ApplicationScore sc ON sc.application = a " +
+            "WHERE a.internshipOffer.id = :offerId ORDER BY sc.score ASC NULLS LAST, a.applicationDate DESC",
+            countQuery = "SELECT COUNT(a) FROM Application a WHERE a.internshipOffer.id = :offerId")
+    Page<Application> findRankedAscendingByOfferId(@Param("offerId") Long offerId, Pageable pageable);
+
+    // Applications of an offer, with the student profile, in id order (used to recompute scores in batches)
+    @EntityGraph(attributePaths = {"student", "student.faculty"})
+    Slice<Application> findByInternshipOffer_IdOrderByIdAsc(Long offerId, Pageable pageable);
+
+    // Ownership check for bulk operations: the subset of ids belonging to the company, with student and offer loaded
+    @Query("SELECT a FROM Application a JOIN FETCH a.student JOIN FETCH a.internshipOffer o WHERE a.id IN :ids AND o.company.id = :companyId")
+    List<Application> findAllByIdInAndCompanyIdWithStudentAndOffer(@Param("ids") Collection<Long> ids, @Param("companyId") Long companyId);
+
+    // Bulk status update in a single statement; finalized applications are never touched
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Application a SET a.status = :status, a.companyFeedback = :feedback, a.updatedAt = :now " +
+            "WHERE a.id IN :ids AND a.status NOT IN :finalStatuses")
+    int updateStatusForIds(@Param("ids") Collection<Long> ids, @Param("status") ApplicationStatus status,
+                           @Param("feedback") String feedback, @Param("now") LocalDateTime now,
+                           @Param("finalStatuses") Collection<ApplicationStatus> finalStatuses);
+
+    // Ids among the given ones currently in a status (used to verify a bulk update)
+    @Query("SELECT a.id FROM Application a WHERE a.id IN :ids AND a.status = :status")
+    List<Long> findIdsByIdInAndStatus(@Param("ids") Collection<Long> ids, @Param("status") ApplicationStatus status);
+
+    // Which of the given stored CV filenames are still referenced (used by the orphaned file collector)
+    @Query("SELECT a.cvPath FROM Application a WHERE a.cvPath IN :cvPaths")
+    List<String> findReferencedCvPaths(@Param("cvPaths") Collection<String> cvPaths);
+
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.richardmogou.repository;
+
+import com.richardmogou.entity.ApplicationScore;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ApplicationScoreRepository extends JpaRepository<ApplicationScore, Long> {
+}
@@ -1,7 +1,10 @@
 package com.richardmogou.repository;
 
 import com.richardmogou.entity.Faculty;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,6 +12,7 @@ import java.util.Optional;
 
 @Repository
 public interface FacultyRepository extends JpaRepository<Faculty, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Faculty> findBySchoolId(Long schoolId);
     Optional<Faculty> findByName(String name);
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.richardmogou.repository;
+
+import com.richardmogou.entity.FacultyWorkQueue;
+import com.richardmogou.entity.enums.InternshipAgreementStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface FacultyWorkQueueRepository extends JpaRepository<FacultyWorkQueue, Long> {
+
+    // Atomic in-database increment, safe under concurrent transitions
+    @Modifying
+    @Query("UPDATE FacultyWorkQueue q SET q.pendingCount = q.pendingCount + :delta, q.updatedAt = :now WHERE q.facultyId = :facultyId")
+    int adjustPendingCount(@Param("facultyId") Long facultyId, @Param("delta") long delta, @Param("now") LocalDateTime now);
+
+    // Creates the row of a faculty at zero unless a concurrent transaction already did (PostgreSQL and H2)
+    @Modifying
+    @Query(value = "INSERT INTO faculty_work_queue (faculty_id, pending_count, updated_at) VALUES (:facultyId, 0, :now) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("facultyId") Long facultyId, @Param("now") LocalDateTime now);
+
+    // Creates a zero row for every faculty that has none; concurrent callers insert each row once
+    @Modifying
+    @Query(value = "INSERT INTO faculty_work_queue (faculty_id, pending_count, updated_at) SELECT f.id, 0, :now FROM faculties f ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertMissingRows(@Param("now") LocalDateTime now);
+
+    // Row locks of every count, in key order: concurrent transitions wait on them until the caller commits
+    @Query(value = "SELECT faculty_id FROM faculty_work_queue ORDER BY faculty_id FOR UPDATE", nativeQuery = true)
+    List<Long> lockAllRows();
+
+    // Resets drifted counts to the number of agreements actually in the status
+    @Modifying
+    @Query("UPDATE FacultyWorkQueue q SET q.pendingCount = (SELECT COUNT(ia) FROM InternshipAgreement ia WHERE ia.studentFaculty.id = q.facultyId AND ia.status = :status), q.updatedAt = :now " +
+            "WHERE q.pendingCount <> (SELECT COUNT(ia) FROM InternshipAgreement ia WHERE ia.studentFaculty.id = q.facultyId AND ia.status = :status)")
+    int reconcilePendingCounts(@Param("status") InternshipAgreementStatus status, @Param("now") LocalDateTime now);
+}
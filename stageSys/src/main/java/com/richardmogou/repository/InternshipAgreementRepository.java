@@ -7,11 +7,15 @@ import com.richardmogou.entity.enums.InternshipAgreementStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,12 +39,87 @@ public interface InternshipAgreementRepository extends JpaRepository<InternshipA
     // Find agreements for students from a specific faculty with a specific status
     Page<InternshipAgreement> findByApplication_Student_FacultyAndStatus(com.richardmogou.entity.Faculty faculty, InternshipAgreementStatus status, Pageable pageable);
     
-    // Custom query to find agreements by faculty user email
-    @Query("SELECT ia FROM InternshipAgreement ia JOIN ia.application a JOIN a.student s WHERE s.faculty.id = (SELECT u.faculty.id FROM User u WHERE u.email = :facultyEmail) AND ia.status = :status")
+    // Custom query to find agreements by faculty user email; reads the denormalized faculty (idx_agreements_faculty_status_created)
+    @Query("SELECT ia FROM InternshipAgreement ia WHERE ia.studentFaculty.id = (SELECT u.faculty.id FROM User u WHERE u.email = :facultyEmail) AND ia.status = :status")
     Page<InternshipAgreement> findAgreementsByFacultyEmailAndStatus(@Param("facultyEmail") String facultyEmail, @Param("status") InternshipAgreementStatus status, Pageable pageable);
     
     // Temporary query to find all agreements for testing
     @Query("SELECT ia FROM InternshipAgreement ia WHERE ia.status = :status")
     Page<InternshipAgreement> findAllAgreementsByStatus(@Param("status") InternshipAgreementStatus status, Pageable pageable);
 
+    // Faculty work queue page: served by idx_agreements_faculty_status_created, no count query
+    @EntityGraph(attributePaths = {"application", "application.student", "application.internshipOffer", "application.internshipOffer.company", "facultyValidator"})
+    List<InternshipAgreement> findByStudentFaculty_IdAndStatus(Long facultyId, InternshipAgreementStatus status, Pageable pageable);
+
+    // Agreements of one school in a status (idx_agreements_school_status_created)
+    Page<InternshipAgreement> findByStudentSchool_IdAndStatus(Long schoolId, InternshipAgreementStatus status, Pageable pageable);
+
+    // Backfills the denormalized student faculty of agreements created before the column existed
+    @Modifying
+    @Query(value = "UPDATE internship_agreements SET student_faculty_id = (SELECT u.faculty_id FROM applications a JOIN users u ON u.id = a.student_user_id WHERE a.id = internship_agreements.application_id) WHERE student_faculty_id IS NULL", nativeQuery = true)
+    int backfillStudentFaculty();
+
+    // Single authorization query for bulk faculty validation: agreements directly assigned to the validator
+    // or belonging to students of the validator's faculty
+    @Query("SELECT ia FROM InternshipAgreement ia JOIN FETCH ia.application a JOIN FETCH a.student s " +
+            "WHERE ia.id IN :ids AND (ia.facultyValidator.id = :validatorId OR s.faculty.id = :facultyId)")
+    List<InternshipAgreement> findValidatableByIdIn(@Param("ids") Collection<Long> ids,
+                                                    @Param("validatorId") Long validatorId,
+                                                    @Param("facultyId") Long facultyId);
+
+    // Agreements by ids with application and student loaded (bulk admin approval)
+    @Query("SELECT ia FROM InternshipAgreement ia JOIN FETCH ia.application a JOIN FETCH a.student WHERE ia.id IN :ids")
+    List<InternshipAgreement> findAllByIdInWithStudent(@Param("ids") Collection<Long> ids);
+
+    // Atomic signature updates: each party only writes its own columns and the row lock serializes
+    // concurrent signers, so no signature is lost. Each returns 0 if already signed or not signable.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE InternshipAgreement ia SET ia.signedByStudent = true, ia.studentSignatureDate = :now, ia.updatedAt = :now, ia.version = ia.version + 1 " +
+           "WHERE ia.id = :id AND (ia.signedByStudent IS NULL OR ia.signedByStudent = false) AND ia.status IN :signable")
+    int markSignedByStudent(@Param("id") Long id, @Param("signable") Collection<InternshipAgreementStatus> signable, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE InternshipAgreement ia SET ia.signedByCompany = true, ia.companySignatureDate = :now, ia.updatedAt = :now, ia.version = ia.version + 1 " +
+           "WHERE ia.id = :id AND (ia.signedByCompany IS NULL OR ia.signedByCompany = false) AND ia.status IN :signable")
+    int markSignedByCompany(@Param("id") Long id, @Param("signable") Collection<InternshipAgreementStatus> signable, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE InternshipAgreement ia SET ia.signedByFaculty = true, ia.facultySignatureDate = :now, ia.updatedAt = :now, ia.version = ia.version + 1 " +
+           "WHERE ia.id = :id AND (ia.signedByFaculty IS NULL OR ia.signedByFaculty = false) AND ia.status IN :signable")
+    int markSignedByFaculty(@Param("id") Long id, @Param("signable") Collection<InternshipAgreementStatus> signable, @Param("now") LocalDateTime now);
+
+    // Conditional completion: only the transaction that sees all three signatures moves the agreement, exactly once
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE InternshipAgreement ia SET ia.status = :to, ia.statusChangedAt = :now, ia.updatedAt = :now, ia.version = ia.version + 1 " +
+           "WHERE ia.id = :id AND ia.status IN :from AND ia.signedByStudent = true AND ia.signedByCompany = true AND ia.signedByFaculty = true")
+    int completeSignatures(@Param("id") Long id, @Param("from") Collection<InternshipAgreementStatus> from,
+                           @Param("to") InternshipAgreementStatus to, @Param("now") LocalDateTime now);
+
+    // Overdue agreements, earliest deadline first (id, status, student faculty id, deadline); range scan on idx_agreements_state_deadline
+    @Query("SELECT ia.id, ia.status, f.id, ia.stateDeadline FROM InternshipAgreement ia LEFT JOIN ia.studentFaculty f " +
+           "WHERE ia.stateDeadline < :now ORDER BY ia.stateDeadline")
+    List<Object[]> findOverdue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    long countByStateDeadlineBefore(LocalDateTime now);
+
+    // Marks overdue agreements as escalated; the deadline re-check skips agreements that moved on since they were read
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE InternshipAgreement ia SET ia.escalatedAt = :now, ia.stateDeadline = NULL, ia.version = ia.version + 1 " +
+           "WHERE ia.id IN :ids AND ia.stateDeadline < :now")
+    int markEscalated(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // The agreements among ids that markEscalated(ids, escalatedAt) actually updated
+    @Query("SELECT ia.id FROM InternshipAgreement ia WHERE ia.id IN :ids AND ia.escalatedAt = :escalatedAt")
+    List<Long> findIdsEscalatedAt(@Param("ids") Collection<Long> ids, @Param("escalatedAt") LocalDateTime escalatedAt);
+
+    // Gives agreements created before SLA tracking a deadline for their current status
+    @Modifying
+    @Query("UPDATE InternshipAgreement ia SET ia.stateDeadline = :deadline " +
+           "WHERE ia.status = :status AND ia.stateDeadline IS NULL AND ia.escalatedAt IS NULL")
+    int initializeMissingDeadlines(@Param("status") InternshipAgreementStatus status, @Param("deadline") LocalDateTime deadline);
+
+    // Which of the given agreement PDF paths are still referenced (used by the orphaned file collector)
+    @Query("SELECT ia.agreementPdfPath FROM InternshipAgreement ia WHERE ia.agreementPdfPath IN :pdfPaths")
+    List<String> findReferencedPdfPaths(@Param("pdfPaths") Collection<String> pdfPaths);
+
 }
\ No newline at end of file
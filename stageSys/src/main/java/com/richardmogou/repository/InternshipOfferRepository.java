@@ -5,6 +5,7 @@ import com.richardmogou.entity.InternshipOffer;
 import com.richardmogou.entity.enums.InternshipOfferStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
@@ -18,6 +19,10 @@ public interface InternshipOfferRepository extends JpaRepository<InternshipOffer
     // Find offers by status (e.g., find all OPEN offers for students)
     Page<InternshipOffer> findByStatus(InternshipOfferStatus status, Pageable pageable);
 
+    // Same, with the company fetched in the page query (public listing renders company name and website)
+    @EntityGraph(attributePaths = "company")
+    Page<InternshipOffer> findWithCompanyByStatus(InternshipOfferStatus status, Pageable pageable);
+
     // Find offers by company and status
     Page<InternshipOffer> findByCompanyAndStatus(Company company, InternshipOfferStatus status, Pageable pageable);
 
@@ -1,13 +1,24 @@
 package com.richardmogou.repository;
 
 import com.richardmogou.entity.Sector;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface SectorRepository extends JpaRepository<Sector, Long> {
+
+    // Reference list served from the query cache; invalidated by Hibernate on any write to the table
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Sector> findAll(Sort sort);
+
     Optional<Sector> findByNameIgnoreCase(String name);
     boolean existsByNameIgnoreCase(String name);
 }
\ No newline at end of file
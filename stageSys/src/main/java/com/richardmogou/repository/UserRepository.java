@@ -5,6 +5,7 @@ import com.richardmogou.entity.enums.Role;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,5 +18,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     List<User> findByRole(Role role);
 
+    List<User> findByRoleAndFaculty_IdIn(Role role, Collection<Long> facultyIds);
+
     // Add other custom query methods as needed
 }
\ No newline at end of file
@@ -23,6 +23,9 @@ public class AdminCompanyService {
 
     private static final Logger log = LoggerFactory.getLogger(AdminCompanyService.class);
     private final CompanyRepository companyRepository;
+    private final EntityCacheEvictionService cacheEvictionService;
+    private final HotOfferPageCache hotOfferPageCache;
+    private final ApplicantSearchIndex applicantSearchIndex;
     // No need for UserService here as admin acts globally
 
     /**
@@ -82,6 +85,8 @@ public class AdminCompanyService {
          // TODO: Consider admin ability to reassign primary contact user
 
          Company updatedCompany = companyRepository.save(company);
+         cacheEvictionService.evict(Company.class, companyId);
+         hotOfferPageCache.invalidate(); // Offer listing shows the company website
          log.info("Admin successfully updated company ID: {}", updatedCompany.getId());
          return CompanyResponse.fromEntity(updatedCompany);
     }
@@ -114,6 +119,9 @@ public class AdminCompanyService {
          // Hard delete (use with extreme caution)
          try {
              companyRepository.delete(company);
+             cacheEvictionService.evict(Company.class, companyId);
+             hotOfferPageCache.invalidate();
+             applicantSearchIndex.evict(companyId);
              log.info("Admin successfully DELETED company ID: {}", companyId);
          } catch (Exception e) {
              // Catch DataIntegrityViolationException specifically if constraints exist
@@ -133,6 +141,7 @@ public class AdminCompanyService {
          
          company.setStatus(CompanyStatus.ACTIVE);
          companyRepository.save(company);
+         cacheEvictionService.evict(Company.class, companyId);
          log.info("Admin successfully approved company ID: {}", companyId);
      }
 
@@ -147,6 +156,7 @@ public class AdminCompanyService {
          
          company.setStatus(CompanyStatus.SUSPENDED);
          companyRepository.save(company);
+         cacheEvictionService.evict(Company.class, companyId);
          log.info("Admin successfully suspended company ID: {}", companyId);
      }
 
@@ -161,6 +171,7 @@ public class AdminCompanyService {
          
          company.setStatus(CompanyStatus.ACTIVE);
          companyRepository.save(company);
+         cacheEvictionService.evict(Company.class, companyId);
          log.info("Admin successfully activated company ID: {}", companyId);
      }
 }
\ No newline at end of file
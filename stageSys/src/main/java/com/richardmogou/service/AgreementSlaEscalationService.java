@@ -0,0 +1,130 @@
+package com.richardmogou.service;
+
+import com.richardmogou.dto.AgreementSlaReport;
+import com.richardmogou.entity.Notification;
+import com.richardmogou.entity.User;
+import com.richardmogou.entity.enums.InternshipAgreementStatus;
+import com.richardmogou.entity.enums.NotificationType;
+import com.richardmogou.entity.enums.Role;
+import com.richardmogou.repository.InternshipAgreementRepository;
+import com.richardmogou.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Escalates agreements that stay in a review status past its SLA deadline.
+ * Each run reads one bounded batch of overdue agreements from the deadline index, marks them
+ * escalated and notifies the faculty members of the student's faculty (faculty validation) or the
+ * admins (admin approval).
+ */
+@Service
+@RequiredArgsConstructor
+public class AgreementSlaEscalationService {
+
+    private static final Logger log = LoggerFactory.getLogger(AgreementSlaEscalationService.class);
+
+    private final InternshipAgreementRepository agreementRepository;
+    private final UserRepository userRepository;
+    private final NotificationService notificationService;
+    private final AgreementSlaTracker slaTracker;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${agreements.sla.scan-batch-size:200}")
+    private int batchSize;
+
+    /**
+     * Gives agreements created before SLA tracking a deadline, counted from startup.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initializeMissingDeadlines() {
+        LocalDateTime now = LocalDateTime.now();
+        int initialized = 0;
+        for (InternshipAgreementStatus status : List.of(InternshipAgreementStatus.PENDING_FACULTY_VALIDATION, InternshipAgreementStatus.PENDING_ADMIN_APPROVAL)) {
+            initialized += agreementRepository.initializeMissingDeadlines(status, slaTracker.deadlineFor(status, now));
+        }
+        if (initialized > 0) {
+            log.info("Initialized SLA deadlines for {} agreements", initialized);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${agreements.sla.scan-interval-ms:900000}", initialDelayString = "${agreements.sla.scan-initial-delay-ms:120000}")
+    @Transactional
+    public void escalateOverdueAgreements() {
+        // Microseconds, as stored: escalated rows are found again by this exact timestamp
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        List<Object[]> overdue = agreementRepository.findOverdue(now, PageRequest.of(0, batchSize));
+        if (overdue.isEmpty()) {
+            return;
+        }
+        List<Long> ids = overdue.stream().map(row -> (Long) row[0]).toList();
+        if (agreementRepository.markEscalated(ids, now) == 0) {
+            return;
+        }
+        // Notify only what this run escalated: rows another node escalated or a transition moved on are skipped
+        Set<Long> escalated = new HashSet<>(agreementRepository.findIdsEscalatedAt(ids, now));
+        overdue = overdue.stream().filter(row -> escalated.contains((Long) row[0])).toList();
+        log.warn("Escalating {} agreements past their SLA deadline", overdue.size());
+
+        Map<Long, List<User>> facultyMembers = userRepository.findByRoleAndFaculty_IdIn(Role.FACULTY, overdue.stream()
+                        .filter(row -> row[1] == InternshipAgreementStatus.PENDING_FACULTY_VALIDATION && row[2] != null)
+                        .map(row -> (Long) row[2])
+                        .collect(Collectors.toSet())).stream()
+                .collect(Collectors.groupingBy(user -> user.getFaculty().getId()));
+        List<User> admins = userRepository.findByRole(Role.ADMIN);
+
+        List<Notification> notifications = new ArrayList<>();
+        for (Object[] row : overdue) {
+            Long agreementId = (Long) row[0];
+            InternshipAgreementStatus status = (InternshipAgreementStatus) row[1];
+            List<User> recipients = status == InternshipAgreementStatus.PENDING_FACULTY_VALIDATION
+                    ? facultyMembers.getOrDefault((Long) row[2], admins)
+                    : admins;
+            for (User recipient : recipients) {
+                notifications.add(escalationNotification(recipient, agreementId, status, (LocalDateTime) row[3]));
+            }
+            meterRegistry.counter("stagesys.agreements.sla.escalations", "status", status.name()).increment();
+        }
+        notificationService.createNotifications(notifications);
+    }
+
+    /**
+     * Overdue count and current time-in-status percentiles.
+     */
+    @Transactional(readOnly = true)
+    public AgreementSlaReport getReport() {
+        return AgreementSlaReport.builder()
+                .overdueAgreements(agreementRepository.countByStateDeadlineBefore(LocalDateTime.now()))
+                .timeInStatus(slaTracker.snapshot())
+                .build();
+    }
+
+    private Notification escalationNotification(User recipient, Long agreementId, InternshipAgreementStatus status, LocalDateTime deadline) {
+        Notification notification = new Notification();
+        notification.setRecipient(recipient);
+        notification.setType(NotificationType.AGREEMENT_ACTION_REQUIRED);
+        notification.setMessage(String.format("La convention #%d est en attente (%s) depuis plus longtemps que prévu (échéance %s)",
+                agreementId, status == InternshipAgreementStatus.PENDING_FACULTY_VALIDATION ? "validation faculté" : "approbation admin",
+                deadline.toLocalDate()));
+        notification.setLink(recipient.getRole() == Role.FACULTY ? "/faculty/agreements" : "/admin/agreements");
+        return notification;
+    }
+}
@@ -0,0 +1,167 @@
+package com.richardmogou.service;
+
+import com.richardmogou.dto.AgreementSlaStats;
+import com.richardmogou.entity.Faculty;
+import com.richardmogou.entity.enums.InternshipAgreementStatus;
+import com.richardmogou.repository.FacultyRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Agreement workflow SLAs: deadlines of the review statuses and time-in-status timers.
+ * <p>
+ * Every status change is recorded twice, tagged by the status that was left:
+ * <ul>
+ *   <li>{@code stagesys.agreements.time.in.status}, also tagged by the student's faculty and school. It publishes
+ *   a percentile histogram with the SLAs as buckets, so a monitoring backend can aggregate percentiles across
+ *   faculties or schools;</li>
+ *   <li>{@code stagesys.agreements.time.in.status.school}, tagged by school only. Client-side percentiles cannot be
+ *   merged across series, so the per-school p50/p95/p99 of {@link #snapshot()} come from this timer.</li>
+ * </ul>
+ * Both publish p50/p95/p99 over a rolling window.
+ */
+@Service
+@RequiredArgsConstructor
+public class AgreementSlaTracker {
+
+    static final String TIME_IN_STATUS = "stagesys.agreements.time.in.status";
+    static final String SCHOOL_TIME_IN_STATUS = "stagesys.agreements.time.in.status.school";
+    private static final Duration MIN_EXPECTED = Duration.ofMinutes(1);
+    private static final Duration MAX_EXPECTED = Duration.ofDays(60);
+    private static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final FacultyRepository facultyRepository;
+
+    private final Map<Long, String> schoolByFaculty = new ConcurrentHashMap<>();
+
+    @Value("${agreements.sla.pending-faculty-validation:7d}")
+    private Duration facultyValidationSla;
+
+    @Value("${agreements.sla.pending-admin-approval:3d}")
+    private Duration adminApprovalSla;
+
+    @Value("${agreements.sla.percentile-window:24h}")
+    private Duration percentileWindow;
+
+    /**
+     * Deadline of a status entered at the given time, or null if the status has no SLA.
+     */
+    public LocalDateTime deadlineFor(InternshipAgreementStatus status, LocalDateTime enteredAt) {
+        Duration sla = slaFor(status);
+        return sla != null ? enteredAt.plus(sla) : null;
+    }
+
+    public Duration slaFor(InternshipAgreementStatus status) {
+        return switch (status) {
+            case PENDING_FACULTY_VALIDATION -> facultyValidationSla;
+            case PENDING_ADMIN_APPROVAL -> adminApprovalSla;
+            default -> null;
+        };
+    }
+
+    /**
+     * Records the time an agreement spent in a status once the surrounding transaction commits,
+     * so rolled-back transitions are not counted.
+     */
+    public void recordTimeInStatus(InternshipAgreementStatus status, Faculty studentFaculty, long millis) {
+        String facultyTag = studentFaculty != null ? studentFaculty.getId().toString() : NONE;
+        String schoolTag = studentFaculty != null ? schoolOf(studentFaculty.getId()) : NONE;
+        Runnable record = () -> {
+            facultyTimer(status, facultyTag, schoolTag).record(millis, TimeUnit.MILLISECONDS);
+            schoolTimer(status, schoolTag).record(millis, TimeUnit.MILLISECONDS);
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record.run();
+                }
+            });
+        } else {
+            record.run();
+        }
+    }
+
+    /**
+     * Current percentiles of every per-school series (no faculty) and every per-faculty series, slowest p95 first.
+     */
+    public List<AgreementSlaStats> snapshot() {
+        return Stream.concat(meterRegistry.find(SCHOOL_TIME_IN_STATUS).timers().stream(),
+                        meterRegistry.find(TIME_IN_STATUS).timers().stream())
+                .map(this::toStats)
+                .sorted(Comparator.comparingDouble(AgreementSlaStats::getP95Millis).reversed())
+                .toList();
+    }
+
+    private Timer facultyTimer(InternshipAgreementStatus status, String facultyTag, String schoolTag) {
+        return Timer.builder(TIME_IN_STATUS)
+                .description("Time agreements spend in a workflow status before leaving it, per faculty")
+                .tag("status", status.name())
+                .tag("faculty", facultyTag)
+                .tag("school", schoolTag)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .serviceLevelObjectives(adminApprovalSla, facultyValidationSla)
+                .minimumExpectedValue(MIN_EXPECTED)
+                .maximumExpectedValue(MAX_EXPECTED)
+                .distributionStatisticExpiry(percentileWindow)
+                .distributionStatisticBufferLength(3)
+                .register(meterRegistry);
+    }
+
+    private Timer schoolTimer(InternshipAgreementStatus status, String schoolTag) {
+        return Timer.builder(SCHOOL_TIME_IN_STATUS)
+                .description("Time agreements spend in a workflow status before leaving it, per school")
+                .tag("status", status.name())
+                .tag("school", schoolTag)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .distributionStatisticExpiry(percentileWindow)
+                .distributionStatisticBufferLength(3)
+                .register(meterRegistry);
+    }
+
+    private String schoolOf(Long facultyId) {
+        // Faculties do not change school; the id is read from the FK without loading the school
+        return schoolByFaculty.computeIfAbsent(facultyId, id -> facultyRepository.findById(id)
+                .map(faculty -> faculty.getSchool().getId().toString())
+                .orElse(NONE));
+    }
+
+    private AgreementSlaStats toStats(Timer timer) {
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+        AgreementSlaStats.AgreementSlaStatsBuilder stats = AgreementSlaStats.builder()
+                .status(InternshipAgreementStatus.valueOf(timer.getId().getTag("status")))
+                .facultyId(timer.getId().getTag("faculty")) // null on the per-school series
+                .schoolId(timer.getId().getTag("school"))
+                .count(snapshot.count())
+                .maxMillis(snapshot.max(TimeUnit.MILLISECONDS));
+        for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+            double millis = percentile.value(TimeUnit.MILLISECONDS);
+            if (percentile.percentile() == 0.5) {
+                stats.p50Millis(millis);
+            } else if (percentile.percentile() == 0.95) {
+                stats.p95Millis(millis);
+            } else if (percentile.percentile() == 0.99) {
+                stats.p99Millis(millis);
+            }
+        }
+        return stats.build();
+    }
+}
@@ -0,0 +1,221 @@
+package com.richardmogou.service;
+
+import com.richardmogou.entity.AgreementTransition;
+import com.richardmogou.entity.InternshipAgreement;
+import com.richardmogou.entity.User;
+import com.richardmogou.entity.enums.AgreementEvent;
+import com.richardmogou.entity.enums.InternshipAgreementStatus;
+import com.richardmogou.exception.BadRequestException;
+import com.richardmogou.repository.AgreementTransitionRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.richardmogou.entity.enums.InternshipAgreementStatus.*;
+
+/**
+ * Table-driven lifecycle of an internship agreement. Every status change goes through {@link #fire},
+ * which checks the transition table, updates the agreement and appends an entry to the
+ * agreement_transitions log. Lost updates between concurrent transitions are prevented by the
+ * {@code @Version} column of InternshipAgreement, checked when the caller's transaction flushes.
+ */
+@Service
+@RequiredArgsConstructor
+public class AgreementStateMachine {
+
+    private static final Logger log = LoggerFactory.getLogger(AgreementStateMachine.class);
+
+    public static final InternshipAgreementStatus INITIAL_STATUS = PENDING_FACULTY_VALIDATION;
+
+    private static final Map<InternshipAgreementStatus, Map<AgreementEvent, InternshipAgreementStatus>> TRANSITIONS =
+            new EnumMap<>(InternshipAgreementStatus.class);
+
+    static {
+        allow(PENDING_FACULTY_VALIDATION, AgreementEvent.FACULTY_VALIDATE, PENDING_ADMIN_APPROVAL);
+        allow(PENDING_FACULTY_VALIDATION, AgreementEvent.FACULTY_REJECT, REJECTED);
+        allow(PENDING_ADMIN_APPROVAL, AgreementEvent.ADMIN_APPROVE, APPROVED);
+        allow(PENDING_ADMIN_APPROVAL, AgreementEvent.ADMIN_REJECT, REJECTED);
+        allow(APPROVED, AgreementEvent.COMPLETE_SIGNATURES, SIGNED);
+        // Parties may sign while the agreement is still under review
+        allow(PENDING_FACULTY_VALIDATION, AgreementEvent.SIGN, PENDING_FACULTY_VALIDATION);
+        allow(PENDING_ADMIN_APPROVAL, AgreementEvent.SIGN, PENDING_ADMIN_APPROVAL);
+        allow(APPROVED, AgreementEvent.SIGN, APPROVED);
+    }
+
+    private final AgreementTransitionRepository transitionRepository;
+    private final FacultyWorkQueueService facultyWorkQueueService;
+    private final AgreementSlaTracker slaTracker;
+
+    private static void allow(InternshipAgreementStatus from, AgreementEvent event, InternshipAgreementStatus to) {
+        TRANSITIONS.computeIfAbsent(from, status -> new EnumMap<>(AgreementEvent.class)).put(event, to);
+    }
+
+    public boolean canFire(InternshipAgreementStatus from, AgreementEvent event) {
+        return from != null && TRANSITIONS.getOrDefault(from, Map.of()).containsKey(event);
+    }
+
+    /**
+     * Statuses from which an event may fire, for guards evaluated in SQL.
+     */
+    public Set<InternshipAgreementStatus> sourceStatuses(AgreementEvent event) {
+        Set<InternshipAgreementStatus> sources = EnumSet.noneOf(InternshipAgreementStatus.class);
+        TRANSITIONS.forEach((from, events) -> {
+            if (events.containsKey(event)) {
+                sources.add(from);
+            }
+        });
+        return sources;
+    }
+
+    /**
+     * Status reached by an event fired from a status.
+     *
+     * @throws BadRequestException if the event is not allowed from that status.
+     */
+    public InternshipAgreementStatus target(InternshipAgreementStatus from, AgreementEvent event) {
+        if (!canFire(from, event)) {
+            throw new BadRequestException(notAllowedMessage(event));
+        }
+        return TRANSITIONS.get(from).get(event);
+    }
+
+    /**
+     * Message returned to the client when an event is not allowed in the agreement's current status.
+     */
+    public static String notAllowedMessage(AgreementEvent event) {
+        return switch (event) {
+            case FACULTY_VALIDATE, FACULTY_REJECT -> "Agreement is not pending faculty validation.";
+            case ADMIN_APPROVE, ADMIN_REJECT -> "Agreement is not pending admin approval.";
+            case SIGN -> "Agreement can no longer be signed.";
+            case COMPLETE_SIGNATURES -> "Agreement must be approved before it can be fully signed.";
+            case CREATE -> "Agreement already exists.";
+        };
+    }
+
+    /**
+     * Sets the initial status of an agreement that is about to be persisted.
+     */
+    public void initialize(InternshipAgreement agreement) {
+        LocalDateTime now = LocalDateTime.now();
+        agreement.setStatus(INITIAL_STATUS);
+        agreement.setStatusChangedAt(now);
+        agreement.setStateDeadline(slaTracker.deadlineFor(INITIAL_STATUS, now));
+    }
+
+    /**
+     * Logs the creation of a persisted agreement and adds it to its faculty work queue.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(InternshipAgreement agreement, User actor) {
+        transitionRepository.save(entry(agreement, AgreementEvent.CREATE, null, agreement.getStatus(), actor, null, agreement.getStatusChangedAt()));
+        if (agreement.getStudentFaculty() != null) {
+            facultyWorkQueueService.agreementEnteredQueue(agreement.getStudentFaculty().getId());
+        }
+    }
+
+    /**
+     * Applies an event to one agreement.
+     *
+     * @throws BadRequestException if the event is not allowed in the agreement's current status.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public InternshipAgreementStatus fire(InternshipAgreement agreement, AgreementEvent event, User actor) {
+        fireAll(List.of(agreement), event, actor);
+        return agreement.getStatus();
+    }
+
+    /**
+     * Applies the same event to several agreements. Log entries are saved together and work-queue
+     * counts are adjusted once per faculty. Callers are expected to have checked {@link #canFire}.
+     *
+     * @throws BadRequestException if the event is not allowed for one of the agreements; nothing is applied.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void fireAll(Collection<InternshipAgreement> agreements, AgreementEvent event, User actor) {
+        for (InternshipAgreement agreement : agreements) {
+            if (!canFire(agreement.getStatus(), event)) {
+                log.warn("Rejected transition {} for agreement ID {} in status {}", event, agreement.getId(), agreement.getStatus());
+                throw new BadRequestException(notAllowedMessage(event));
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<AgreementTransition> entries = new ArrayList<>(agreements.size());
+        Map<Long, Integer> leftFacultyQueue = new HashMap<>();
+        for (InternshipAgreement agreement : agreements) {
+            InternshipAgreementStatus from = agreement.getStatus();
+            InternshipAgreementStatus to = target(from, event);
+            Long millisInPreviousStatus = null;
+            if (from != to) {
+                LocalDateTime enteredAt = agreement.getStatusChangedAt() != null ? agreement.getStatusChangedAt() : agreement.getCreatedAt();
+                millisInPreviousStatus = enteredAt != null ? Duration.between(enteredAt, now).toMillis() : null;
+                agreement.setStatus(to);
+                agreement.setStatusChangedAt(now);
+                agreement.setStateDeadline(slaTracker.deadlineFor(to, now));
+                agreement.setEscalatedAt(null);
+                if (millisInPreviousStatus != null) {
+                    slaTracker.recordTimeInStatus(from, agreement.getStudentFaculty(), millisInPreviousStatus);
+                }
+                if (from == PENDING_FACULTY_VALIDATION && agreement.getStudentFaculty() != null) {
+                    leftFacultyQueue.merge(agreement.getStudentFaculty().getId(), 1, Integer::sum);
+                }
+            }
+            entries.add(entry(agreement, event, from, to, actor, millisInPreviousStatus, now));
+            log.debug("Agreement ID {}: {} -> {} on {}", agreement.getId(), from, to, event);
+        }
+
+        transitionRepository.saveAll(entries);
+        leftFacultyQueue.forEach(facultyWorkQueueService::agreementsLeftQueue);
+    }
+
+    /**
+     * Logs a transition that was already applied by a guarded UPDATE statement (see the atomic
+     * signature updates of InternshipAgreementRepository).
+     *
+     * @param agreement     the agreement as reloaded after the update
+     * @param from          status the guarded update moved the agreement out of
+     * @param enteredFromAt when the agreement entered {@code from}, null if unknown
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordApplied(InternshipAgreement agreement, AgreementEvent event, InternshipAgreementStatus from,
+                              LocalDateTime enteredFromAt, User actor, LocalDateTime occurredAt) {
+        InternshipAgreementStatus to = target(from, event);
+        Long millisInPreviousStatus = from != to && enteredFromAt != null
+                ? Duration.between(enteredFromAt, occurredAt).toMillis()
+                : null;
+        transitionRepository.save(entry(agreement, event, from, to, actor, millisInPreviousStatus, occurredAt));
+        if (millisInPreviousStatus != null) {
+            slaTracker.recordTimeInStatus(from, agreement.getStudentFaculty(), millisInPreviousStatus);
+        }
+    }
+
+    private AgreementTransition entry(InternshipAgreement agreement, AgreementEvent event,
+                                      InternshipAgreementStatus from, InternshipAgreementStatus to,
+                                      User actor, Long millisInPreviousStatus, LocalDateTime occurredAt) {
+        AgreementTransition entry = new AgreementTransition();
+        entry.setAgreementId(agreement.getId());
+        entry.setEvent(event);
+        entry.setFromStatus(from);
+        entry.setToStatus(to);
+        entry.setActorUserId(actor != null ? actor.getId() : null);
+        entry.setActorRole(actor != null ? actor.getRole() : null);
+        entry.setFacultyId(agreement.getStudentFaculty() != null ? agreement.getStudentFaculty().getId() : null);
+        entry.setMillisInPreviousStatus(millisInPreviousStatus);
+        entry.setOccurredAt(occurredAt);
+        return entry;
+    }
+}
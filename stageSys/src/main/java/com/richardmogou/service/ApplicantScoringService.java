@@ -0,0 +1,173 @@
+package com.richardmogou.service;
+
+import com.richardmogou.entity.Application;
+import com.richardmogou.entity.ApplicationCvText;
+import com.richardmogou.entity.ApplicationScore;
+import com.richardmogou.entity.InternshipOffer;
+import com.richardmogou.event.OfferSkillsChangedEvent;
+import com.richardmogou.repository.ApplicationCvTextRepository;
+import com.richardmogou.repository.ApplicationRepository;
+import com.richardmogou.repository.ApplicationScoreRepository;
+import com.richardmogou.repository.InternshipOfferRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Scores applications against their offer's required skills and caches the result per application.
+ * <p>
+ * A score is the share of the offer's comma-separated required skills found in the applicant's
+ * profile (faculty), cover letter and extracted CV text. Scores are computed when the CV has been
+ * extracted, and recomputed in batches when an offer's required skills change; scores already
+ * computed against the current skills are left untouched.
+ */
+@Service
+@RequiredArgsConstructor
+public class ApplicantScoringService {
+
+    private static final Logger log = LoggerFactory.getLogger(ApplicantScoringService.class);
+
+    private final ApplicationRepository applicationRepository;
+    private final InternshipOfferRepository internshipOfferRepository;
+    private final ApplicationScoreRepository scoreRepository;
+    private final ApplicationCvTextRepository cvTextRepository;
+    private final EntityManager entityManager;
+
+    @Value("${ranking.recompute-batch-size:200}")
+    private int batchSize;
+
+    /**
+     * Computes and stores the score of one application. Runs in the caller's transaction.
+     */
+    @Transactional
+    public ApplicationScore scoreApplication(Application application, String cvText) {
+        ApplicationScore score = scoreRepository.findById(application.getId()).orElseGet(ApplicationScore::new);
+        applyScore(score, application, cvText);
+        return scoreRepository.save(score);
+    }
+
+    @Async("cvProcessingExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onOfferSkillsChanged(OfferSkillsChangedEvent event) {
+        recomputeForOffer(event.offerId());
+    }
+
+    /**
+     * Recomputes stale scores of every application of an offer, one bounded batch at a time.
+     */
+    @Transactional
+    public int recomputeForOffer(Long offerId) {
+        InternshipOffer offer = internshipOfferRepository.findById(offerId).orElse(null);
+        if (offer == null) {
+            return 0;
+        }
+        int currentHash = skillsHash(offer.getRequiredSkills());
+        int recomputed = 0;
+        Pageable page = PageRequest.of(0, batchSize);
+        Slice<Application> slice;
+        do {
+            slice = applicationRepository.findByInternshipOffer_IdOrderByIdAsc(offerId, page);
+            List<Long> ids = slice.getContent().stream().map(Application::getId).toList();
+            Map<Long, ApplicationScore> existing = scoreRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(ApplicationScore::getApplicationId, Function.identity()));
+            Map<Long, String> cvTexts = cvTextRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(ApplicationCvText::getApplicationId, t -> Objects.toString(t.getContent(), "")));
+
+            List<ApplicationScore> toSave = new ArrayList<>();
+            for (Application application : slice.getContent()) {
+                ApplicationScore score = existing.get(application.getId());
+                if (score != null && score.getSkillsHash() == currentHash) {
+                    continue; // Already up to date
+                }
+                if (score == null) {
+                    score = new ApplicationScore();
+                }
+                applyScore(score, application, cvTexts.getOrDefault(application.getId(), ""));
+                toSave.add(score);
+            }
+            scoreRepository.saveAll(toSave);
+            recomputed += toSave.size();
+
+            // Keep the persistence context bounded by one batch
+            entityManager.flush();
+            entityManager.clear();
+            page = slice.nextPageable();
+        } while (slice.hasNext());
+
+        log.info("Recomputed {} applicant scores for offer ID {}", recomputed, offerId);
+        return recomputed;
+    }
+
+    private void applyScore(ApplicationScore score, Application application, String cvText) {
+        InternshipOffer offer = application.getInternshipOffer();
+        StringBuilder document = new StringBuilder();
+        if (application.getStudent() != null && application.getStudent().getFaculty() != null) {
+            document.append(application.getStudent().getFaculty().getName()).append(' ');
+        }
+        document.append(Objects.toString(application.getCoverLetter(), "")).append(' ').append(Objects.toString(cvText, ""));
+
+        List<String> matched = matchSkills(offer.getRequiredSkills(), ApplicantSearchIndex.tokenize(document.toString()));
+        int required = parseSkills(offer.getRequiredSkills()).size();
+
+        score.setApplication(application);
+        score.setOfferId(offer.getId());
+        score.setScore(required == 0 ? 0.0 : (double) matched.size() / required);
+        String matchedSkills = String.join(", ", matched);
+        score.setMatchedSkills(matchedSkills.length() > 1000 ? matchedSkills.substring(0, 1000) : matchedSkills);
+        score.setSkillsHash(skillsHash(offer.getRequiredSkills()));
+        score.setComputedAt(LocalDateTime.now());
+    }
+
+    /**
+     * A skill matches when every word of it appears in the document, e.g. "Spring Boot" needs both "spring" and "boot".
+     */
+    static List<String> matchSkills(String requiredSkills, Set<String> documentTokens) {
+        List<String> matched = new ArrayList<>();
+        for (String skill : parseSkills(requiredSkills)) {
+            Set<String> skillTokens = ApplicantSearchIndex.tokenize(skill);
+            if (!skillTokens.isEmpty() && documentTokens.containsAll(skillTokens)) {
+                matched.add(skill);
+            }
+        }
+        return matched;
+    }
+
+    private static List<String> parseSkills(String requiredSkills) {
+        if (requiredSkills == null || requiredSkills.isBlank()) {
+            return List.of();
+        }
+        List<String> skills = new ArrayList<>();
+        for (String skill : requiredSkills.split(",")) {
+            if (!skill.isBlank()) {
+                skills.add(skill.trim());
+            }
+        }
+        return skills;
+    }
+
+    static int skillsHash(String requiredSkills) {
+        return requiredSkills == null ? 0 : requiredSkills.trim().toLowerCase(Locale.ROOT).hashCode();
+    }
+}
@@ -0,0 +1,148 @@
+package com.richardmogou.service;
+
+import com.richardmogou.entity.ApplicationCvText;
+import com.richardmogou.repository.ApplicationCvTextRepository;
+import com.richardmogou.repository.ApplicationRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index of applications (CV text + cover letter), one per company.
+ * <p>
+ * A company's index is built from the database the first time it is searched or written to,
+ * then kept up to date incrementally as CVs are extracted. Deleting or archiving applications evicts the index
+ * of their company instead of patching it. Queries are AND-ed terms,
+ * accent- and case-insensitive, answered by intersecting posting sets.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApplicantSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ApplicantSearchIndex.class);
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}+#]+");
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final int MIN_TOKEN_LENGTH = 2;
+
+    private final ApplicationRepository applicationRepository;
+    private final ApplicationCvTextRepository cvTextRepository;
+
+    private final Map<Long, Map<String, Set<Long>>> indexesByCompany = new ConcurrentHashMap<>();
+
+    /**
+     * Adds (or extends) the indexed text of an application.
+     */
+    public void index(Long companyId, Long applicationId, String text) {
+        Map<String, Set<Long>> postings = indexFor(companyId);
+        for (String token : tokenize(text)) {
+            postings.computeIfAbsent(token, t -> ConcurrentHashMap.newKeySet()).add(applicationId);
+        }
+    }
+
+    /**
+     * Returns the ids of the company's applications matching every term of the query, newest first.
+     */
+    public List<Long> search(Long companyId, String query) {
+        Set<String> terms = tokenize(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Set<Long>> postings = indexFor(companyId);
+
+        // Intersect starting from the rarest term
+        List<Set<Long>> sets = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            Set<Long> ids = postings.get(term);
+            if (ids == null || ids.isEmpty()) {
+                return List.of();
+            }
+            sets.add(ids);
+        }
+        sets.sort(Comparator.comparingInt(Set::size));
+        List<Long> result = new ArrayList<>();
+        for (Long id : sets.get(0)) {
+            boolean inAll = true;
+            for (int i = 1; i < sets.size() && inAll; i++) {
+                inAll = sets.get(i).contains(id);
+            }
+            if (inAll) {
+                result.add(id);
+            }
+        }
+        result.sort(Comparator.reverseOrder());
+        return result;
+    }
+
+    /**
+     * Drops a company's index; it is rebuilt from the database on next use. Inside a transaction the index is
+     * dropped once it commits, so a rebuild cannot load the rows it is deleting.
+     */
+    public void evict(Long companyId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    indexesByCompany.remove(companyId);
+                }
+            });
+        } else {
+            indexesByCompany.remove(companyId);
+        }
+    }
+
+    private Map<String, Set<Long>> indexFor(Long companyId) {
+        // Loading under computeIfAbsent guarantees a concurrent index() call either sees the loaded
+        // index or waits for it, so no committed document can be missed.
+        return indexesByCompany.computeIfAbsent(companyId, this::load);
+    }
+
+    private Map<String, Set<Long>> load(Long companyId) {
+        long start = System.currentTimeMillis();
+        Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+        Map<Long, StringBuilder> documents = new HashMap<>();
+        for (Object[] row : applicationRepository.findIdAndCoverLetterByCompanyId(companyId)) {
+            documents.computeIfAbsent((Long) row[0], id -> new StringBuilder()).append(row[1] == null ? "" : (String) row[1]);
+        }
+        for (ApplicationCvText cvText : cvTextRepository.findByCompanyId(companyId)) {
+            documents.computeIfAbsent(cvText.getApplicationId(), id -> new StringBuilder()).append(' ').append(cvText.getContent());
+        }
+        documents.forEach((applicationId, text) -> {
+            for (String token : tokenize(text.toString())) {
+                postings.computeIfAbsent(token, t -> ConcurrentHashMap.newKeySet()).add(applicationId);
+            }
+        });
+        log.info("Built applicant search index for company ID {}: {} documents, {} terms in {} ms",
+                companyId, documents.size(), postings.size(), System.currentTimeMillis() - start);
+        return postings;
+    }
+
+    static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        String normalized = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        for (String token : TOKEN_SEPARATOR.split(normalized)) {
+            if (token.length() >= MIN_TOKEN_LENGTH) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
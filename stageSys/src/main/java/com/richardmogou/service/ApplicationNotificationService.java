@@ -1,6 +1,7 @@
 package com.richardmogou.service;
 
 import com.richardmogou.entity.Application;
+import com.richardmogou.entity.Notification;
 import com.richardmogou.entity.User;
 import com.richardmogou.entity.enums.ApplicationStatus;
 import com.richardmogou.entity.enums.NotificationType;
@@ -8,6 +9,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -20,39 +24,53 @@ public class ApplicationNotificationService {
         String offerTitle = application.getInternshipOffer().getTitle();
         String companyName = application.getInternshipOffer().getCompany().getName();
 
+        String message = statusChangeMessage(newStatus, offerTitle, companyName);
+        if (message != null) {
+            notificationService.createNotification(
+                student,
+                NotificationType.APPLICATION_UPDATE,
+                message,
+                "/student/applications"
+            );
+        } else {
+            log.debug("No notification needed for status change to: {}", newStatus);
+        }
+        
+        log.info("Application status notification sent to student {} for application {}", student.getEmail(), application.getId());
+    }
+
+    /**
+     * Notifies the students of a batch of applications that moved to the same status, in a single save.
+     */
+    public void notifyApplicationStatusChanges(List<Application> applications, ApplicationStatus newStatus, String companyName) {
+        List<Notification> notifications = new ArrayList<>(applications.size());
+        for (Application application : applications) {
+            String message = statusChangeMessage(newStatus, application.getInternshipOffer().getTitle(), companyName);
+            if (message == null) {
+                continue;
+            }
+            Notification notification = new Notification();
+            notification.setRecipient(application.getStudent());
+            notification.setType(NotificationType.APPLICATION_UPDATE);
+            notification.setMessage(message);
+            notification.setLink("/student/applications");
+            notifications.add(notification);
+        }
+        notificationService.createNotifications(notifications);
+        log.info("Application status notifications queued for {} students (status {})", notifications.size(), newStatus);
+    }
+
+    private String statusChangeMessage(ApplicationStatus newStatus, String offerTitle, String companyName) {
         switch (newStatus) {
             case ACCEPTED:
-                notificationService.createNotification(
-                    student,
-                    NotificationType.APPLICATION_UPDATE,
-                    String.format("Votre candidature pour le poste '%s' chez %s a été acceptée !", offerTitle, companyName),
-                    "/student/applications"
-                );
-                break;
-                
+                return String.format("Votre candidature pour le poste '%s' chez %s a été acceptée !", offerTitle, companyName);
             case REJECTED:
-                notificationService.createNotification(
-                    student,
-                    NotificationType.APPLICATION_UPDATE,
-                    String.format("Votre candidature pour le poste '%s' chez %s a été rejetée.", offerTitle, companyName),
-                    "/student/applications"
-                );
-                break;
-                
+                return String.format("Votre candidature pour le poste '%s' chez %s a été rejetée.", offerTitle, companyName);
             case VIEWED:
-                notificationService.createNotification(
-                    student,
-                    NotificationType.APPLICATION_UPDATE,
-                    String.format("Votre candidature pour le poste '%s' chez %s est en cours d'examen.", offerTitle, companyName),
-                    "/student/applications"
-                );
-                break;
-                
+                return String.format("Votre candidature pour le poste '%s' chez %s est en cours d'examen.", offerTitle, companyName);
             default:
-                log.debug("No notification needed for status change to: {}", newStatus);
+                return null;
         }
-        
-        log.info("Application status notification sent to student {} for application {}", student.getEmail(), application.getId());
     }
 
     public void notifyNewApplication(Application application) {
@@ -2,21 +2,28 @@ package com.richardmogou.service;
 
 import com.richardmogou.dto.ApplicationResponse;
 import com.richardmogou.dto.ApplicationStatusUpdateRequest;
+import com.richardmogou.dto.BulkApplicationStatusUpdateRequest;
+import com.richardmogou.dto.BulkItemResult;
+import com.richardmogou.dto.BulkOperationResponse;
 import com.richardmogou.entity.Application;
+import com.richardmogou.entity.ApplicationScore;
 import com.richardmogou.entity.Company;
 import com.richardmogou.entity.InternshipOffer;
 import com.richardmogou.entity.User;
 import com.richardmogou.entity.enums.ApplicationStatus;
 import com.richardmogou.entity.enums.InternshipOfferStatus;
 import com.richardmogou.entity.enums.Role;
+import com.richardmogou.event.ApplicationSubmittedEvent;
 import com.richardmogou.exception.BadRequestException;
 import com.richardmogou.exception.ResourceNotFoundException;
 import com.richardmogou.exception.UnauthorizedAccessException;
 import com.richardmogou.repository.ApplicationRepository;
+import com.richardmogou.repository.ApplicationScoreRepository;
 import com.richardmogou.repository.InternshipOfferRepository;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -26,18 +33,30 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ApplicationService {
 
     private static final Logger log = LoggerFactory.getLogger(ApplicationService.class);
+    private static final List<ApplicationStatus> FINAL_STATUSES = List.of(ApplicationStatus.ACCEPTED, ApplicationStatus.REJECTED);
     private final ApplicationRepository applicationRepository;
     private final InternshipOfferRepository internshipOfferRepository;
     private final UserService userService;
     private final CompanyService companyService;
     private final FileStorageService fileStorageService;
     private final ApplicationNotificationService applicationNotificationService;
+    private final ApplicantSearchIndex applicantSearchIndex;
+    private final ApplicationScoreRepository applicationScoreRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Submits a new application for an internship offer.
@@ -81,6 +100,10 @@ public class ApplicationService {
         Application savedApplication = applicationRepository.save(application);
         log.info("Application submitted successfully with ID: {}", savedApplication.getId());
 
+        // CV text extraction and indexing happen after commit, off the request thread
+        eventPublisher.publishEvent(new ApplicationSubmittedEvent(savedApplication.getId(),
+                offer.getCompany().getId(), offer.getId(), cvFileName, coverLetter));
+
         // Send notification to company
         try {
             applicationNotificationService.notifyNewApplication(savedApplication);
@@ -109,18 +132,22 @@ public class ApplicationService {
                 Sort.by(Sort.Direction.DESC, "applicationDate"));
         }
         
-        Page<Application> applicationPage = applicationRepository.findByStudent(currentStudent, pageable);
-        return applicationPage.map(ApplicationResponse::fromEntity);
+        return applicationRepository.findResponsesByStudentId(currentStudent.getId(), pageable);
     }
 
      /**
      * Retrieves applications received for offers posted by the currently logged-in company user.
+     * Sorting by {@code score} ranks applicants by their cached fit score instead, in the requested direction.
      */
     @Transactional(readOnly = true)
     public Page<ApplicationResponse> getApplicationsForCurrentCompany(Pageable pageable, Long filterOfferId) {
         Company currentCompany = companyService.getCurrentUserCompany();
         log.debug("Fetching applications for company ID: {}", currentCompany.getId());
 
+        if (pageable.getSort().getOrderFor("score") != null) {
+            return getRankedApplications(currentCompany, pageable, filterOfferId);
+        }
+
         // Apply default sorting if no sort is specified
         if (pageable.getSort().isUnsorted()) {
             pageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), 
@@ -144,6 +171,69 @@ public class ApplicationService {
         return applicationPage.map(ApplicationResponse::fromEntity);
     }
 
+    private Page<ApplicationResponse> getRankedApplications(Company currentCompany, Pageable pageable, Long filterOfferId) {
+        // Ordering is fixed by the ranking query; the requested direction picks the query
+        Pageable unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        boolean ascending = pageable.getSort().getOrderFor("score").isAscending();
+        Page<Application> applicationPage;
+        if (filterOfferId != null) {
+             InternshipOffer offer = internshipOfferRepository.findById(filterOfferId)
+                 .orElseThrow(() -> new ResourceNotFoundException("InternshipOffer", "id", filterOfferId));
+             if (!offer.getCompany().getId().equals(currentCompany.getId())) {
+                 throw new UnauthorizedAccessException("Offer ID " + filterOfferId + " does not belong to the current company.");
+             }
+             applicationPage = ascending
+                     ? applicationRepository.findRankedAscendingByOfferId(filterOfferId, unsorted)
+                     : applicationRepository.findRankedByOfferId(filterOfferId, unsorted);
+        } else {
+             applicationPage = ascending
+                     ? applicationRepository.findRankedAscendingByCompanyId(currentCompany.getId(), unsorted)
+                     : applicationRepository.findRankedByCompanyId(currentCompany.getId(), unsorted);
+        }
+
+        List<Long> ids = applicationPage.getContent().stream().map(Application::getId).toList();
+        Map<Long, Double> scores = applicationScoreRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(ApplicationScore::getApplicationId, ApplicationScore::getScore));
+        return applicationPage.map(application -> {
+            ApplicationResponse response = ApplicationResponse.fromEntity(application);
+            response.setMatchScore(scores.get(application.getId()));
+            return response;
+        });
+    }
+
+    /**
+     * Full-text search over the CVs and cover letters received by the currently logged-in company,
+     * optionally restricted to one of its offers. Results default to newest first.
+     */
+    @Transactional(readOnly = true)
+    public Page<ApplicationResponse> searchApplicationsForCurrentCompany(String query, Long filterOfferId, Pageable pageable) {
+        Company currentCompany = companyService.getCurrentUserCompany();
+        log.debug("Searching applications of company ID: {} for '{}'", currentCompany.getId(), query);
+
+        if (pageable.getSort().isUnsorted()) {
+            pageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                Sort.by(Sort.Direction.DESC, "applicationDate"));
+        }
+
+        List<Long> matchingIds = applicantSearchIndex.search(currentCompany.getId(), query);
+        if (matchingIds.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        Page<Application> applicationPage;
+        if (filterOfferId != null) {
+             InternshipOffer offer = internshipOfferRepository.findById(filterOfferId)
+                 .orElseThrow(() -> new ResourceNotFoundException("InternshipOffer", "id", filterOfferId));
+             if (!offer.getCompany().getId().equals(currentCompany.getId())) {
+                 throw new UnauthorizedAccessException("Offer ID " + filterOfferId + " does not belong to the current company.");
+             }
+             applicationPage = applicationRepository.findByIdInAndInternshipOffer_Id(matchingIds, filterOfferId, pageable);
+        } else {
+             applicationPage = applicationRepository.findByIdInAndInternshipOffer_Company_Id(matchingIds, currentCompany.getId(), pageable);
+        }
+        return applicationPage.map(ApplicationResponse::fromEntity);
+    }
+
     /**
      * Retrieves details of a specific application.
      * Access control: Student owner, Company owner, associated Faculty, Admin.
@@ -226,6 +316,69 @@ public class ApplicationService {
         return ApplicationResponse.fromEntity(updatedApplication);
     }
 
+    /**
+     * Updates the status of many applications of the current company at once.
+     * Ownership is checked with one query, eligible applications are updated with one statement
+     * and notifications are saved as one batch. Each id gets its own result.
+     */
+    @Transactional
+    public BulkOperationResponse bulkUpdateApplicationStatus(BulkApplicationStatusUpdateRequest request) {
+        if (request.getStatus() == ApplicationStatus.PENDING || request.getStatus() == ApplicationStatus.VIEWED) {
+            throw new BadRequestException("Cannot manually set status to PENDING or VIEWED.");
+        }
+        Company currentCompany = companyService.getCurrentUserCompany();
+        List<Long> requestedIds = request.getApplicationIds().stream().distinct().toList();
+        log.info("Bulk status update to {} for {} applications by company ID: {}", request.getStatus(), requestedIds.size(), currentCompany.getId());
+
+        Map<Long, Application> owned = applicationRepository
+                .findAllByIdInAndCompanyIdWithStudentAndOffer(requestedIds, currentCompany.getId()).stream()
+                .collect(Collectors.toMap(Application::getId, Function.identity()));
+
+        Map<Long, BulkItemResult> results = new LinkedHashMap<>();
+        List<Application> eligible = new ArrayList<>();
+        for (Long id : requestedIds) {
+            Application application = owned.get(id);
+            if (application == null) {
+                results.put(id, BulkItemResult.failed(id, "Application not found or not owned by the current company."));
+            } else if (FINAL_STATUSES.contains(application.getStatus())) {
+                results.put(id, BulkItemResult.failed(id, "Application status cannot be updated once it is ACCEPTED or REJECTED."));
+            } else {
+                eligible.add(application);
+                results.put(id, null); // Decided after the update
+            }
+        }
+
+        if (!eligible.isEmpty()) {
+            List<Long> eligibleIds = eligible.stream().map(Application::getId).toList();
+            int updated = applicationRepository.updateStatusForIds(eligibleIds, request.getStatus(),
+                    request.getFeedback(), LocalDateTime.now(), FINAL_STATUSES);
+            // Only re-check when a concurrent request finalized some of them in between
+            Set<Long> applied = updated == eligibleIds.size()
+                    ? new HashSet<>(eligibleIds)
+                    : new HashSet<>(applicationRepository.findIdsByIdInAndStatus(eligibleIds, request.getStatus()));
+
+            List<Application> changed = new ArrayList<>();
+            for (Application application : eligible) {
+                if (applied.contains(application.getId())) {
+                    changed.add(application);
+                    results.put(application.getId(), BulkItemResult.succeeded(application.getId()));
+                } else {
+                    results.put(application.getId(), BulkItemResult.failed(application.getId(), "Application was finalized concurrently."));
+                }
+            }
+
+            try {
+                applicationNotificationService.notifyApplicationStatusChanges(changed, request.getStatus(), currentCompany.getName());
+            } catch (Exception e) {
+                log.error("Error sending bulk application status change notifications", e);
+            }
+        }
+
+        BulkOperationResponse response = BulkOperationResponse.of(new ArrayList<>(results.values()));
+        log.info("Bulk status update by company ID {}: {} succeeded, {} failed", currentCompany.getId(), response.getSucceeded(), response.getFailed());
+        return response;
+    }
+
     // --- Admin Operations ---
 
     /**
@@ -235,8 +388,7 @@ public class ApplicationService {
     public Page<ApplicationResponse> getAllApplications(Pageable pageable) {
         // No specific filtering here, admin sees all. Add filters if needed.
         log.debug("Admin request to fetch all applications");
-        Page<Application> applicationPage = applicationRepository.findAll(pageable);
-        return applicationPage.map(ApplicationResponse::fromEntity);
+        return applicationRepository.findAllResponses(pageable);
     }
 
 }
\ No newline at end of file
@@ -41,6 +41,7 @@ public class AuthenticationService {
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final CatalogueResponseCache catalogueResponseCache;
 
     @Transactional // Ensure atomicity
     public JwtAuthenticationResponse registerStudent(StudentRegistrationRequest request) {
@@ -132,6 +133,8 @@ public class AuthenticationService {
         } else {
             log.warn("No faculties provided for school {}", savedSchool.getName());
         }
+        catalogueResponseCache.invalidate(CatalogueResponseCache.Catalogue.SCHOOLS);
+        catalogueResponseCache.invalidateVariant(CatalogueResponseCache.Catalogue.FACULTIES, savedSchool.getId());
 
         // Generate token
         SimpleGrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + savedUser.getRole().name());
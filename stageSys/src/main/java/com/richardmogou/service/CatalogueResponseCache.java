@@ -0,0 +1,141 @@
+package com.richardmogou.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Pre-serialized JSON bodies of the public catalogue endpoints (skills, domains, sectors, schools,
+ * faculties of a school) with a strong ETag computed from the bytes.
+ * <p>
+ * Each catalogue has a version that mutations bump after commit. A cached body is served only while
+ * it was built under the current version; the version is read before loading, so a body built from
+ * data that was replaced concurrently is never served under the new version.
+ * <p>
+ * Lists of one tenant (the faculties of a school) also have a version of their own, so a change in one
+ * school only rebuilds that school's list.
+ */
+@Service
+@RequiredArgsConstructor
+public class CatalogueResponseCache {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogueResponseCache.class);
+
+    public enum Catalogue { SKILLS, DOMAINS, SECTORS, SCHOOLS, FACULTIES }
+
+    public record CachedResponse(byte[] body, String etag) {
+    }
+
+    private record Entry(long version, long variantVersion, CachedResponse response) {
+    }
+
+    private static final AtomicLong NEVER_INVALIDATED = new AtomicLong();
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<Catalogue, AtomicLong> versions = new EnumMap<>(Catalogue.class);
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> variantVersions = new ConcurrentHashMap<>();
+
+    {
+        for (Catalogue catalogue : Catalogue.values()) {
+            versions.put(catalogue, new AtomicLong());
+        }
+    }
+
+    /**
+     * Returns the cached body of a catalogue, building it with the loader if the catalogue changed since.
+     *
+     * @param variant distinguishes several lists of one catalogue (e.g. the school id), may be null
+     */
+    public CachedResponse get(Catalogue catalogue, Object variant, Supplier<? extends Collection<?>> loader) {
+        String key = key(catalogue, variant);
+        long version = versions.get(catalogue).get();
+        // Read-only lookup: unknown variants must not grow the version map
+        long variantVersion = variantVersions.getOrDefault(key, NEVER_INVALIDATED).get();
+        Entry entry = entries.get(key);
+        if (entry != null && entry.version() == version && entry.variantVersion() == variantVersion) {
+            return entry.response();
+        }
+
+        Collection<?> content = loader.get();
+        CachedResponse response = serialize(content);
+        // Lists of unknown variants (e.g. a non-existent school) are not kept
+        if (variant == null || !content.isEmpty()) {
+            entries.put(key, new Entry(version, variantVersion, response));
+        }
+        return response;
+    }
+
+    /**
+     * Bumps the version of catalogues once the surrounding transaction commits.
+     */
+    public void invalidate(Catalogue... catalogues) {
+        Runnable bump = () -> {
+            for (Catalogue catalogue : catalogues) {
+                long version = versions.get(catalogue).incrementAndGet();
+                entries.keySet().removeIf(key -> key.equals(catalogue.name()) || key.startsWith(catalogue.name() + ":"));
+                log.debug("Catalogue {} is now at version {}", catalogue, version);
+            }
+        };
+        afterCommit(bump);
+    }
+
+    /**
+     * Bumps the version of one tenant's list of a catalogue (e.g. the faculties of one school) once the
+     * surrounding transaction commits; the lists of other variants stay cached.
+     */
+    public void invalidateVariant(Catalogue catalogue, Object variant) {
+        String key = key(catalogue, variant);
+        afterCommit(() -> {
+            long version = variantVersions.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet();
+            entries.remove(key);
+            log.debug("Catalogue list {} is now at version {}", key, version);
+        });
+    }
+
+    private static String key(Catalogue catalogue, Object variant) {
+        return variant == null ? catalogue.name() : catalogue.name() + ":" + variant;
+    }
+
+    private void afterCommit(Runnable bump) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump.run();
+                }
+            });
+        } else {
+            bump.run();
+        }
+    }
+
+    private CachedResponse serialize(Object content) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(content);
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            String etag = "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, 27) + "\"";
+            return new CachedResponse(body, etag);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize catalogue", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,352 @@
+package com.richardmogou.service;
+
+import com.richardmogou.dto.AgreementHistoryEntry;
+import com.richardmogou.dto.ArchiveRunReport;
+import com.richardmogou.entity.enums.InternshipAgreementStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.MonthDay;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Moves past academic years out of the hot tables into the {@code *_archive} tables (migration V7).
+ * <p>
+ * The unit of archiving is an offer: a CLOSED or FILLED offer untouched since the cutoff, whose applications were
+ * last updated before it and whose agreements are all SIGNED or REJECTED, moves together with its applications and
+ * agreements in one transaction. Messages keep their text but lose the link to the archived application; CV text
+ * and scores, which only serve live ranking, are dropped with the application. The agreement transition log stays
+ * in the hot {@code agreement_transitions} table: it references agreements by id only and feeds the workflow
+ * statistics, so archived agreements keep their history there.
+ * <p>
+ * Offers are selected and locked inside the move transaction, together with their applications and agreements,
+ * and every copy and delete re-applies the eligibility predicate: a row changed while a batch was being selected
+ * is left in place.
+ * <p>
+ * The agreement history and the file collector read both stores. Archiving needs PostgreSQL and the V7 tables;
+ * elsewhere it stays disabled and the history reads the hot tables only.
+ */
+@Service
+@RequiredArgsConstructor
+public class ColdArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(ColdArchiveService.class);
+
+    static final Map<String, String> ARCHIVE_TABLES = Map.of(
+            "internship_offers", "internship_offers_archive",
+            "applications", "applications_archive",
+            "internship_agreements", "internship_agreements_archive");
+    private static final String ARCHIVED_AT = "archived_at";
+    private static final List<String> FINAL_AGREEMENT_STATUSES = List.of(
+            InternshipAgreementStatus.SIGNED.name(), InternshipAgreementStatus.REJECTED.name());
+
+    /**
+     * Eligibility of offer {@code o}; takes the cutoff three times (see {@link #archivableArgs}).
+     */
+    private static final String ARCHIVABLE_OFFER =
+            "o.status IN ('CLOSED', 'FILLED') AND o.updated_at < ? " +
+            "AND NOT EXISTS (SELECT 1 FROM applications ap WHERE ap.internship_offer_id = o.id AND ap.updated_at >= ?) " +
+            "AND NOT EXISTS (SELECT 1 FROM applications ap JOIN internship_agreements ag ON ag.application_id = ap.id " +
+            "    WHERE ap.internship_offer_id = o.id AND (ag.status NOT IN ('" + String.join("', '", FINAL_AGREEMENT_STATUSES) +
+            "') OR ag.updated_at >= ?))";
+
+    private static final String HISTORY_COLUMNS =
+            "ia.id AS agreement_id, ia.status, a.id AS application_id, s.first_name, s.last_name, s.email, " +
+            "o.title, c.name AS company_name, ia.created_at, ia.status_changed_at";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ApplicantSearchIndex applicantSearchIndex;
+
+    @Value("${archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${archive.academic-year-start:09-01}")
+    private String academicYearStart; // MM-dd
+
+    @Value("${archive.keep-academic-years:2}")
+    private int keepAcademicYears;
+
+    @Value("${archive.batch-size:100}")
+    private int batchSize;
+
+    @Value("${archive.max-batches-per-run:50}")
+    private int maxBatchesPerRun;
+
+    private volatile boolean available;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        available = enabled && archiveTablesMatch();
+        log.info("Cold archive {}", available
+                ? "enabled, keeping " + keepAcademicYears + " academic years from " + cutoff(LocalDate.now())
+                : "disabled");
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    @Scheduled(cron = "${archive.cron:0 0 4 * * SUN}")
+    public void scheduledRun() {
+        if (available) {
+            archive();
+        }
+    }
+
+    /**
+     * Archives up to {@code archive.max-batches-per-run} batches of offers.
+     * Returns null if archiving is unavailable or a run is already in progress.
+     */
+    public ArchiveRunReport archive() {
+        if (!available || !running.compareAndSet(false, true)) {
+            return null;
+        }
+        try {
+            LocalDateTime cutoff = cutoff(LocalDate.now());
+            ArchiveRunReport report = ArchiveRunReport.builder().cutoff(cutoff).build();
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                long[] moved = transactionTemplate.execute(status -> archiveBatch(cutoff, LocalDateTime.now()));
+                if (moved == null) {
+                    report.setCompleted(true);
+                    break;
+                }
+                report.setBatches(report.getBatches() + 1);
+                report.setOffers(report.getOffers() + moved[0]);
+                report.setApplications(report.getApplications() + moved[1]);
+                report.setAgreements(report.getAgreements() + moved[2]);
+            }
+            meterRegistry.counter("stagesys.archive.rows", "table", "internship_offers").increment(report.getOffers());
+            meterRegistry.counter("stagesys.archive.rows", "table", "applications").increment(report.getApplications());
+            meterRegistry.counter("stagesys.archive.rows", "table", "internship_agreements").increment(report.getAgreements());
+            log.info("Cold archive run: {} offers, {} applications, {} agreements before {} ({} batches{})",
+                    report.getOffers(), report.getApplications(), report.getAgreements(), cutoff,
+                    report.getBatches(), report.isCompleted() ? "" : ", more left");
+            return report;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Agreements of both stores, newest first, optionally filtered by status and creation date range.
+     */
+    public Page<AgreementHistoryEntry> getAgreementHistory(InternshipAgreementStatus status, LocalDateTime from,
+                                                           LocalDateTime to, Pageable pageable) {
+        List<String> conditions = new ArrayList<>();
+        List<Object> filterArgs = new ArrayList<>();
+        if (status != null) {
+            conditions.add("ia.status = ?");
+            filterArgs.add(status.name());
+        }
+        if (from != null) {
+            conditions.add("ia.created_at >= ?");
+            filterArgs.add(Timestamp.valueOf(from));
+        }
+        if (to != null) {
+            conditions.add("ia.created_at < ?");
+            filterArgs.add(Timestamp.valueOf(to));
+        }
+        String where = conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+
+        String union = historySelect("internship_agreements", "applications", "internship_offers", false) + where;
+        List<Object> args = new ArrayList<>(filterArgs);
+        if (available) {
+            union += " UNION ALL " + historySelect("internship_agreements_archive", "applications_archive",
+                    "internship_offers_archive", true) + where;
+            args.addAll(filterArgs);
+        }
+
+        Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM (" + union + ") history", Long.class, args.toArray());
+        List<Object> pageArgs = new ArrayList<>(args);
+        pageArgs.add(pageable.getPageSize());
+        pageArgs.add(pageable.getOffset());
+        List<AgreementHistoryEntry> content = jdbcTemplate.query(
+                "SELECT * FROM (" + union + ") history ORDER BY created_at DESC, agreement_id DESC LIMIT ? OFFSET ?",
+                HISTORY_ROW, pageArgs.toArray());
+        return new PageImpl<>(content, pageable, total != null ? total : 0);
+    }
+
+    /**
+     * CV paths among the given ones that archived applications still reference.
+     */
+    public List<String> findArchivedCvPaths(Collection<String> cvPaths) {
+        return findArchivedValues("applications_archive", "cv_path", cvPaths);
+    }
+
+    /**
+     * Agreement PDF paths among the given ones that archived agreements still reference.
+     */
+    public List<String> findArchivedPdfPaths(Collection<String> pdfPaths) {
+        return findArchivedValues("internship_agreements_archive", "agreement_pdf_path", pdfPaths);
+    }
+
+    /**
+     * Start of the oldest academic year kept hot; the current academic year counts as the first one.
+     */
+    LocalDateTime cutoff(LocalDate today) {
+        LocalDate currentYearStart = MonthDay.parse("--" + academicYearStart).atYear(today.getYear());
+        if (currentYearStart.isAfter(today)) {
+            currentYearStart = currentYearStart.minusYears(1);
+        }
+        return currentYearStart.minusYears(Math.max(keepAcademicYears, 1) - 1L).atStartOfDay();
+    }
+
+    /**
+     * Selects, locks and moves one batch; returns null when no offer is archivable. Must run in a transaction.
+     */
+    long[] archiveBatch(LocalDateTime cutoff, LocalDateTime archivedAt) {
+        List<Long> candidates = findArchivableOffers(cutoff, true);
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        // Lock the children too: inserting an application or agreement under a locked parent blocks, and updates
+        // of existing ones wait for this transaction. Then keep only the offers that are still archivable.
+        String offers = placeholders(candidates.size());
+        Object[] candidateIds = candidates.toArray();
+        jdbcTemplate.queryForList("SELECT id FROM applications WHERE internship_offer_id IN (" + offers + ") FOR UPDATE",
+                Long.class, candidateIds);
+        jdbcTemplate.queryForList("SELECT id FROM internship_agreements WHERE application_id IN " +
+                "(SELECT id FROM applications WHERE internship_offer_id IN (" + offers + ")) FOR UPDATE", Long.class, candidateIds);
+        List<Long> companies = jdbcTemplate.queryForList("SELECT DISTINCT company_id FROM internship_offers WHERE id IN (" +
+                offers + ")", Long.class, candidateIds);
+        long[] moved = moveOffers(candidates, cutoff, archivedAt);
+        // Archived applications leave the search; evicted on commit, possibly for an offer that stayed behind
+        companies.forEach(applicantSearchIndex::evict);
+        return moved;
+    }
+
+    /**
+     * Offers that may move to the archive, oldest ids first, at most one batch.
+     */
+    List<Long> findArchivableOffers(LocalDateTime cutoff, boolean lock) {
+        List<Object> args = new ArrayList<>(archivableArgs(cutoff));
+        args.add(batchSize);
+        return jdbcTemplate.queryForList("SELECT o.id FROM internship_offers o WHERE " + ARCHIVABLE_OFFER +
+                " ORDER BY o.id LIMIT ?" + (lock ? " FOR UPDATE" : ""), Long.class, args.toArray());
+    }
+
+    private long[] moveOffers(List<Long> candidates, LocalDateTime cutoff, LocalDateTime archivedAt) {
+        // Every statement re-applies the predicate to the candidates rather than trusting the selected ids
+        String offers = "SELECT o.id FROM internship_offers o WHERE o.id IN (" + placeholders(candidates.size()) + ") AND " + ARCHIVABLE_OFFER;
+        String applicationsOfOffers = "SELECT a.id FROM applications a WHERE a.internship_offer_id IN (" + offers + ")";
+        List<Object> offerArgs = new ArrayList<>(candidates);
+        offerArgs.addAll(archivableArgs(cutoff));
+        Object[] ids = offerArgs.toArray();
+        Object[] idsWithTime = withFirst(Timestamp.valueOf(archivedAt), ids);
+
+        long agreements = jdbcTemplate.update("INSERT INTO internship_agreements_archive SELECT ia.*, ? FROM internship_agreements ia " +
+                "WHERE ia.application_id IN (" + applicationsOfOffers + ")", idsWithTime);
+        long applications = jdbcTemplate.update("INSERT INTO applications_archive SELECT a.*, ? FROM applications a " +
+                "WHERE a.internship_offer_id IN (" + offers + ")", idsWithTime);
+        long archivedOffers = jdbcTemplate.update("INSERT INTO internship_offers_archive SELECT o.*, ? FROM internship_offers o " +
+                "WHERE o.id IN (" + offers + ")", idsWithTime);
+
+        jdbcTemplate.update("UPDATE messages SET related_application_id = NULL WHERE related_application_id IN (" + applicationsOfOffers + ")", ids);
+        jdbcTemplate.update("DELETE FROM internship_agreements WHERE application_id IN (" + applicationsOfOffers + ")", ids);
+        // CV text and scores go with their application (ON DELETE CASCADE)
+        jdbcTemplate.update("DELETE FROM applications WHERE internship_offer_id IN (" + offers + ")", ids);
+        // Deleted last: once its children are gone the offer must still qualify, which it does with none left
+        jdbcTemplate.update("DELETE FROM internship_offers WHERE id IN (" + offers + ")", ids);
+        return new long[]{archivedOffers, applications, agreements};
+    }
+
+    private static List<Object> archivableArgs(LocalDateTime cutoff) {
+        Timestamp before = Timestamp.valueOf(cutoff);
+        return List.of(before, before, before);
+    }
+
+    private List<String> findArchivedValues(String table, String column, Collection<String> values) {
+        if (!available || values.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return jdbcTemplate.queryForList("SELECT " + column + " FROM " + table + " WHERE " + column +
+                " IN (" + placeholders(values.size()) + ")", String.class, values.toArray());
+    }
+
+    private static String historySelect(String agreements, String applications, String offers, boolean archived) {
+        return "SELECT " + HISTORY_COLUMNS + ", " + archived + " AS archived FROM " + agreements + " ia " +
+                "JOIN " + applications + " a ON a.id = ia.application_id " +
+                "JOIN " + offers + " o ON o.id = a.internship_offer_id " +
+                "LEFT JOIN users s ON s.id = a.student_user_id " +
+                "LEFT JOIN companies c ON c.id = o.company_id";
+    }
+
+    private static final RowMapper<AgreementHistoryEntry> HISTORY_ROW = (rs, rowNum) -> {
+        String firstName = rs.getString("first_name");
+        Timestamp statusChangedAt = rs.getTimestamp("status_changed_at");
+        return AgreementHistoryEntry.builder()
+                .agreementId(rs.getLong("agreement_id"))
+                .status(InternshipAgreementStatus.valueOf(rs.getString("status")))
+                .archived(rs.getBoolean("archived"))
+                .applicationId(rs.getLong("application_id"))
+                .studentName(firstName != null ? firstName + " " + rs.getString("last_name") : null)
+                .studentEmail(rs.getString("email"))
+                .offerTitle(rs.getString("title"))
+                .companyName(rs.getString("company_name"))
+                .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                .statusChangedAt(statusChangedAt != null ? statusChangedAt.toLocalDateTime() : null)
+                .build();
+    };
+
+    /**
+     * Each archive table must have its hot table's columns in the same order plus {@code archived_at},
+     * since rows are copied with {@code SELECT hot.*}.
+     */
+    private boolean archiveTablesMatch() {
+        for (Map.Entry<String, String> tables : ARCHIVE_TABLES.entrySet()) {
+            List<String> hot = columnsOf(tables.getKey());
+            List<String> archive = columnsOf(tables.getValue());
+            if (archive.isEmpty()) {
+                return false;
+            }
+            List<String> expected = new ArrayList<>(hot);
+            expected.add(ARCHIVED_AT);
+            if (!archive.equals(expected)) {
+                log.error("Cold archive disabled: {} columns {} do not match {} columns {} + {}",
+                        tables.getValue(), archive, tables.getKey(), hot, ARCHIVED_AT);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<String> columnsOf(String table) {
+        return jdbcTemplate.queryForList("SELECT LOWER(column_name) FROM information_schema.columns " +
+                "WHERE table_schema = current_schema() AND LOWER(table_name) = ? ORDER BY ordinal_position", String.class, table);
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static Object[] withFirst(Object first, Object[] rest) {
+        Object[] args = new Object[rest.length + 1];
+        args[0] = first;
+        System.arraycopy(rest, 0, args, 1, rest.length);
+        return args;
+    }
+}
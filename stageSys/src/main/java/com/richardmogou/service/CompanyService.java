@@ -19,6 +19,7 @@ public class CompanyService {
     private static final Logger log = LoggerFactory.getLogger(CompanyService.class);
     private final CompanyRepository companyRepository;
     private final UserService userService; // To get the current user
+    private final HotOfferPageCache hotOfferPageCache;
 
     /**
      * Gets the Company entity associated with the currently authenticated user.
@@ -66,6 +67,7 @@ public class CompanyService {
         company.setIndustrySector(request.getIndustrySector());
 
         Company updatedCompany = companyRepository.save(company);
+        hotOfferPageCache.invalidate(); // Offer listing shows the company website
         log.info("Company details updated successfully for company ID: {}", updatedCompany.getId());
         return CompanyResponse.fromEntity(updatedCompany);
     }
@@ -0,0 +1,81 @@
+package com.richardmogou.service;
+
+import com.richardmogou.entity.Application;
+import com.richardmogou.entity.ApplicationCvText;
+import com.richardmogou.event.ApplicationSubmittedEvent;
+import com.richardmogou.repository.ApplicationCvTextRepository;
+import com.richardmogou.repository.ApplicationRepository;
+import lombok.RequiredArgsConstructor;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+/**
+ * Extracts the text of uploaded PDF CVs once, after the application is committed,
+ * on the CV processing executor, and feeds it to the applicant search index and scoring.
+ */
+@Service
+@RequiredArgsConstructor
+public class CvTextExtractionService {
+
+    private static final Logger log = LoggerFactory.getLogger(CvTextExtractionService.class);
+
+    private final FileStorageService fileStorageService;
+    private final ApplicationRepository applicationRepository;
+    private final ApplicationCvTextRepository cvTextRepository;
+    private final ApplicantSearchIndex applicantSearchIndex;
+    private final ApplicantScoringService applicantScoringService;
+
+    @Value("${cv.processing.max-text-length:100000}")
+    private int maxTextLength;
+
+    @Async("cvProcessingExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onApplicationSubmitted(ApplicationSubmittedEvent event) {
+        Application application = applicationRepository.findById(event.applicationId()).orElse(null);
+        if (application == null) {
+            log.debug("Application ID {} was removed before its CV could be processed", event.applicationId());
+            return;
+        }
+        String text = "";
+        int pageCount = 0;
+        Path cvFile = fileStorageService.resolveExistingPath(event.cvPath());
+        try (PDDocument document = Loader.loadPDF(cvFile.toFile())) {
+            pageCount = document.getNumberOfPages();
+            text = new PDFTextStripper().getText(document);
+            if (text.length() > maxTextLength) {
+                text = text.substring(0, maxTextLength);
+            }
+        } catch (IOException e) {
+            // Still record the attempt so the cover letter remains searchable and we don't retry forever
+            log.warn("Could not extract text from CV {} of application ID {}: {}", event.cvPath(), event.applicationId(), e.getMessage());
+        }
+
+        ApplicationCvText cvText = new ApplicationCvText();
+        cvText.setApplication(application);
+        cvText.setCompanyId(event.companyId());
+        cvText.setContent(text);
+        cvText.setPageCount(pageCount);
+        cvText.setExtractedAt(LocalDateTime.now());
+        cvTextRepository.save(cvText);
+
+        String coverLetter = event.coverLetter() == null ? "" : event.coverLetter();
+        applicantSearchIndex.index(event.companyId(), event.applicationId(), coverLetter + " " + text);
+        applicantScoringService.scoreApplication(application, text);
+        log.info("Indexed CV of application ID {} ({} pages, {} chars)", event.applicationId(), pageCount, text.length());
+    }
+}
@@ -20,6 +20,8 @@ import java.util.stream.Collectors;
 public class DomainService {
 
     private final DomainRepository domainRepository;
+    private final EntityCacheEvictionService cacheEvictionService;
+    private final CatalogueResponseCache catalogueResponseCache;
 
     @Transactional(readOnly = true)
     public List<DomainDto> getAllDomains() {
@@ -42,6 +44,8 @@ public class DomainService {
        Domain domain = new Domain();
        domain.setName(domainDto.getName());
        Domain savedDomain = domainRepository.save(domain);
+       cacheEvictionService.evict(Domain.class, savedDomain.getId());
+       catalogueResponseCache.invalidate(CatalogueResponseCache.Catalogue.DOMAINS);
        log.info("Domain created successfully with ID: {}", savedDomain.getId());
        return DomainDto.fromEntity(savedDomain);
    }
@@ -59,6 +63,8 @@ public class DomainService {
 
        domain.setName(domainDto.getName());
        Domain updatedDomain = domainRepository.save(domain);
+       cacheEvictionService.evict(Domain.class, updatedDomain.getId());
+       catalogueResponseCache.invalidate(CatalogueResponseCache.Catalogue.DOMAINS);
        log.info("Domain updated successfully for ID: {}", updatedDomain.getId());
        return DomainDto.fromEntity(updatedDomain);
    }
@@ -72,6 +78,8 @@ public class DomainService {
        // TODO: Check if domain is in use by any offers before deleting?
        try {
            domainRepository.deleteById(domainId);
+           cacheEvictionService.evict(Domain.class, domainId);
+           catalogueResponseCache.invalidate(CatalogueResponseCache.Catalogue.DOMAINS);
            log.info("Domain deleted successfully for ID: {}", domainId);
        } catch (Exception e) {
             log.error("Error deleting domain ID {}: {}", domainId, e.getMessage(), e);
@@ -0,0 +1,145 @@
+package com.richardmogou.service;
+
+import com.richardmogou.config.sql.RequestSqlStats;
+import com.richardmogou.dto.EndpointSqlStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint SQL statement counts, database time and entity loads.
+ * <p>
+ * Published as {@code stagesys.http.sql.statements}, {@code stagesys.http.sql.time} and
+ * {@code stagesys.http.sql.entities} (tagged by endpoint), plus {@code stagesys.http.sql.n_plus_one}
+ * for requests that prepared one SQL text at least {@code sql.instrumentation.n-plus-one-threshold} times.
+ */
+@Service
+@RequiredArgsConstructor
+public class EndpointSqlStatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(EndpointSqlStatsService.class);
+    private static final int MAX_LOGGED_SQL_LENGTH = 300;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Accumulator> endpoints = new ConcurrentHashMap<>();
+
+    @Value("${sql.instrumentation.n-plus-one-threshold:10}")
+    private int nPlusOneThreshold;
+
+    private static final class Accumulator {
+        final LongAdder requests = new LongAdder();
+        final LongAdder statements = new LongAdder();
+        final LongAccumulator maxStatements = new LongAccumulator(Math::max, 0);
+        final LongAdder dbNanos = new LongAdder();
+        final LongAdder entities = new LongAdder();
+        final LongAdder suspectedNPlusOne = new LongAdder();
+        final AtomicReference<Map.Entry<String, Integer>> lastSuspect = new AtomicReference<>();
+        DistributionSummary statementSummary;
+        DistributionSummary entitySummary;
+        Timer dbTimer;
+        Counter nPlusOneCounter;
+    }
+
+    /**
+     * Adds the activity of a finished request to its endpoint.
+     */
+    public void record(String endpoint, RequestSqlStats stats) {
+        Accumulator accumulator = endpoints.computeIfAbsent(endpoint, this::newAccumulator);
+        accumulator.requests.increment();
+        accumulator.statements.add(stats.getStatements());
+        accumulator.maxStatements.accumulate(stats.getStatements());
+        accumulator.dbNanos.add(stats.getExecutionNanos());
+        accumulator.entities.add(stats.getEntitiesLoaded());
+        accumulator.statementSummary.record(stats.getStatements());
+        accumulator.entitySummary.record(stats.getEntitiesLoaded());
+        accumulator.dbTimer.record(stats.getExecutionNanos(), TimeUnit.NANOSECONDS);
+
+        Map.Entry<String, Integer> repeated = stats.getMostRepeatedStatement();
+        if (repeated != null && repeated.getValue() >= nPlusOneThreshold) {
+            accumulator.suspectedNPlusOne.increment();
+            accumulator.nPlusOneCounter.increment();
+            accumulator.lastSuspect.set(Map.entry(repeated.getKey(), repeated.getValue()));
+            log.warn("Possible N+1 on {}: same statement prepared {} times ({} statements in total): {}",
+                    endpoint, repeated.getValue(), stats.getStatements(), abbreviate(repeated.getKey()));
+        }
+    }
+
+    /**
+     * Endpoints ordered by the number of statements they issued in total.
+     */
+    public List<EndpointSqlStats> getStats() {
+        return endpoints.entrySet().stream()
+                .map(entry -> toStats(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingLong(EndpointSqlStats::getStatements).reversed())
+                .toList();
+    }
+
+    /**
+     * Clears the accumulated figures (the Micrometer meters keep their own history).
+     */
+    public void reset() {
+        endpoints.clear();
+        log.info("Endpoint SQL statistics reset");
+    }
+
+    private Accumulator newAccumulator(String endpoint) {
+        Accumulator accumulator = new Accumulator();
+        accumulator.statementSummary = DistributionSummary.builder("stagesys.http.sql.statements")
+                .tag("endpoint", endpoint)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        accumulator.entitySummary = DistributionSummary.builder("stagesys.http.sql.entities")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+        accumulator.dbTimer = Timer.builder("stagesys.http.sql.time")
+                .tag("endpoint", endpoint)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        accumulator.nPlusOneCounter = Counter.builder("stagesys.http.sql.n_plus_one")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+        return accumulator;
+    }
+
+    private static EndpointSqlStats toStats(String endpoint, Accumulator accumulator) {
+        long requests = accumulator.requests.sum();
+        long statements = accumulator.statements.sum();
+        double dbMillis = accumulator.dbNanos.sum() / 1_000_000.0;
+        long entities = accumulator.entities.sum();
+        Map.Entry<String, Integer> suspect = accumulator.lastSuspect.get();
+        return EndpointSqlStats.builder()
+                .endpoint(endpoint)
+                .requests(requests)
+                .statements(statements)
+                .avgStatements(requests > 0 ? (double) statements / requests : 0)
+                .maxStatements(accumulator.maxStatements.get())
+                .dbTimeMillis(dbMillis)
+                .avgDbTimeMillis(requests > 0 ? dbMillis / requests : 0)
+                .entitiesLoaded(entities)
+                .avgEntitiesLoaded(requests > 0 ? (double) entities / requests : 0)
+                .suspectedNPlusOneRequests(accumulator.suspectedNPlusOne.sum())
+                .lastSuspectedStatement(suspect != null ? suspect.getKey() : null)
+                .lastSuspectedRepetitions(suspect != null ? suspect.getValue() : 0)
+                .build();
+    }
+
+    private static String abbreviate(String sql) {
+        return sql.length() <= MAX_LOGGED_SQL_LENGTH ? sql : sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+    }
+}
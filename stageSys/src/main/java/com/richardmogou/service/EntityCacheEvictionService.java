@@ -0,0 +1,74 @@
+package com.richardmogou.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Explicit second-level cache eviction for admin mutations of cached entities.
+ * Evictions run after the surrounding transaction commits so a concurrent reader cannot
+ * repopulate the cache with the state being replaced.
+ */
+@Service
+@RequiredArgsConstructor
+public class EntityCacheEvictionService {
+
+    private static final Logger log = LoggerFactory.getLogger(EntityCacheEvictionService.class);
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Evicts one cached entity and the cached query results.
+     */
+    public void evict(Class<?> entityType, Object id) {
+        afterCommit(() -> {
+            Cache cache = cache();
+            cache.evictEntityData(entityType, id);
+            cache.evictDefaultQueryRegion();
+            log.debug("Evicted {}#{} from the second-level cache", entityType.getSimpleName(), id);
+        });
+    }
+
+    /**
+     * Evicts every cached instance of an entity type and the cached query results.
+     */
+    public void evictAll(Class<?> entityType) {
+        afterCommit(() -> {
+            Cache cache = cache();
+            cache.evictEntityData(entityType);
+            cache.evictDefaultQueryRegion();
+            log.debug("Evicted all {} from the second-level cache", entityType.getSimpleName());
+        });
+    }
+
+    /**
+     * Clears every second-level cache region.
+     */
+    public void evictEverything() {
+        cache().evictAllRegions();
+        log.info("Second-level cache cleared");
+    }
+
+    private Cache cache() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    private void afterCommit(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+}
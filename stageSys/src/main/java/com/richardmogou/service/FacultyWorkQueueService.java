@@ -0,0 +1,104 @@
+package com.richardmogou.service;
+
+import com.richardmogou.entity.FacultyWorkQueue;
+import com.richardmogou.entity.enums.InternshipAgreementStatus;
+import com.richardmogou.repository.FacultyWorkQueueRepository;
+import com.richardmogou.repository.InternshipAgreementRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Maintains the per-faculty count of agreements pending faculty validation.
+ * Counts are adjusted in the same transaction as the agreement transition. The faculty queue page takes its
+ * total from here instead of a count query, so counts are reconciled against the agreements at startup and on
+ * a schedule ({@code faculty.work-queue.reconcile-cron}), e.g. after a transition made outside the service.
+ * <p>
+ * A reconcile never deletes rows: it inserts the missing ones, locks every row and recounts in place. The row
+ * locks are the ones transitions take to adjust a count, so no adjustment is lost in between, and nodes that
+ * reconcile at the same time queue up behind each other.
+ */
+@Service
+@RequiredArgsConstructor
+public class FacultyWorkQueueService {
+
+    private static final Logger log = LoggerFactory.getLogger(FacultyWorkQueueService.class);
+
+    private final FacultyWorkQueueRepository workQueueRepository;
+    private final InternshipAgreementRepository agreementRepository;
+
+    /**
+     * Backfills the denormalized faculty column, creates missing rows and reconciles every count.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuild() {
+        int backfilled = agreementRepository.backfillStudentFaculty();
+        LocalDateTime now = LocalDateTime.now();
+        int created = workQueueRepository.insertMissingRows(now);
+        int corrected = reconcileLocked(now);
+        log.info("Faculty work queue rebuilt: {} rows created, {} counts corrected ({} agreements backfilled)",
+                created, corrected, backfilled);
+    }
+
+    /**
+     * Records an agreement entering PENDING_FACULTY_VALIDATION for a faculty.
+     */
+    @Transactional
+    public void agreementEnteredQueue(Long facultyId) {
+        adjust(facultyId, 1);
+    }
+
+    /**
+     * Records agreements leaving PENDING_FACULTY_VALIDATION for a faculty.
+     */
+    @Transactional
+    public void agreementsLeftQueue(Long facultyId, int count) {
+        adjust(facultyId, -count);
+    }
+
+    @Transactional(readOnly = true)
+    public long getPendingCount(Long facultyId) {
+        // A count that drifted below zero is shown as empty until the next reconcile
+        return workQueueRepository.findById(facultyId).map(FacultyWorkQueue::getPendingCount).map(count -> Math.max(count, 0L)).orElse(0L);
+    }
+
+    /**
+     * Resets every count that no longer matches the agreements pending validation.
+     */
+    @Scheduled(cron = "${faculty.work-queue.reconcile-cron:0 15 3 * * *}")
+    @Transactional
+    public void reconcile() {
+        int corrected = reconcileLocked(LocalDateTime.now());
+        if (corrected > 0) {
+            log.warn("Faculty work queue reconciled: {} faculty counts had drifted", corrected);
+        }
+    }
+
+    private int reconcileLocked(LocalDateTime now) {
+        // Waits for in-flight transitions to commit, then blocks new ones until this transaction does, so the
+        // recount sees every committed transition and none is applied on top of it twice
+        workQueueRepository.lockAllRows();
+        return workQueueRepository.reconcilePendingCounts(InternshipAgreementStatus.PENDING_FACULTY_VALIDATION, now);
+    }
+
+    private void adjust(Long facultyId, long delta) {
+        if (facultyId == null || delta == 0) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (workQueueRepository.adjustPendingCount(facultyId, delta, now) == 0) {
+            // Faculty created after the last rebuild: create its row (or find a concurrent transaction's) and
+            // apply the delta to it, instead of inserting a row that could collide on the primary key
+            workQueueRepository.insertIfAbsent(facultyId, now);
+            workQueueRepository.adjustPendingCount(facultyId, delta, now);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.richardmogou.service;
+
+import com.richardmogou.dto.FileMigrationStatus;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Online migration of the CV store from the flat layout to the sharded layout.
+ * <p>
+ * While running, each scheduler tick moves one bounded batch of top-level files into their
+ * hashed sub-directory with an atomic rename. Readers go through
+ * {@link FileStorageService#resolveExistingPath(String)}, so files stay readable throughout.
+ * A file that fails to move stays in the flat layout and is skipped until the migration is
+ * started again, so one unmovable file cannot keep the run from finishing.
+ */
+@Service
+@RequiredArgsConstructor
+public class FileLayoutMigrationService {
+
+    private static final Logger log = LoggerFactory.getLogger(FileLayoutMigrationService.class);
+
+    private final FileStorageService fileStorageService;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicLong migratedFiles = new AtomicLong();
+    private final Set<Path> failedFiles = ConcurrentHashMap.newKeySet();
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+
+    @Value("${file.storage.migration.batch-size:200}")
+    private int batchSize;
+
+    @Value("${file.storage.migration.auto-start:false}")
+    private boolean autoStart;
+
+    @PostConstruct
+    public void init() {
+        if (autoStart) {
+            start();
+        }
+    }
+
+    /**
+     * Starts (or resumes) the background migration, retrying files that failed before.
+     * Returns false if it is already running.
+     */
+    public boolean start() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        failedFiles.clear();
+        startedAt = LocalDateTime.now();
+        finishedAt = null;
+        log.info("File layout migration started for {}", fileStorageService.getFileStorageLocation());
+        return true;
+    }
+
+    /**
+     * Pauses the migration after the current batch. Already moved files stay in place.
+     */
+    public void pause() {
+        if (running.compareAndSet(true, false)) {
+            log.info("File layout migration paused after {} files", migratedFiles.get());
+        }
+    }
+
+    public FileMigrationStatus getStatus() {
+        return FileMigrationStatus.builder()
+                .running(running.get())
+                .migratedFiles(migratedFiles.get())
+                .failedFiles(failedFiles.size())
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .build();
+    }
+
+    @Scheduled(fixedDelayString = "${file.storage.migration.interval-ms:1000}")
+    public void migrateNextBatch() {
+        if (!running.get()) {
+            return;
+        }
+        List<Path> batch = nextFlatBatch();
+        if (batch.isEmpty()) {
+            running.set(false);
+            finishedAt = LocalDateTime.now();
+            log.info("File layout migration finished: {} files moved, {} failures", migratedFiles.get(), failedFiles.size());
+            return;
+        }
+        for (Path source : batch) {
+            if (moveToShard(source)) {
+                migratedFiles.incrementAndGet();
+            } else {
+                failedFiles.add(source);
+            }
+        }
+        log.debug("File layout migration progress: {} files moved", migratedFiles.get());
+    }
+
+    private List<Path> nextFlatBatch() {
+        List<Path> batch = new ArrayList<>(batchSize);
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(fileStorageService.getFileStorageLocation(), Files::isRegularFile)) {
+            for (Path entry : entries) {
+                if (failedFiles.contains(entry)) {
+                    continue;
+                }
+                batch.add(entry);
+                if (batch.size() >= batchSize) {
+                    break;
+                }
+            }
+        } catch (IOException ex) {
+            log.error("Could not list flat files for migration", ex);
+            running.set(false);
+        }
+        return batch;
+    }
+
+    private boolean moveToShard(Path source) {
+        Path target = fileStorageService.shardedPath(source.getFileName().toString());
+        try {
+            Files.createDirectories(target.getParent());
+            if (Files.exists(target)) {
+                // Already copied (e.g. interrupted run): the sharded copy wins
+                Files.deleteIfExists(source);
+                return true;
+            }
+            try {
+                Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(source, target);
+            }
+            return true;
+        } catch (IOException ex) {
+            log.warn("Could not migrate {} to {}: {}", source, target, ex.getMessage());
+            return false;
+        }
+    }
+}
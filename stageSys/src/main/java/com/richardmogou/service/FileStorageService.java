@@ -19,6 +19,10 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.UUID;
 
 @Service
@@ -26,10 +30,13 @@ public class FileStorageService {
 
     private static final Logger log = LoggerFactory.getLogger(FileStorageService.class);
     private final Path fileStorageLocation;
+    private final boolean shardedLayout;
 
-    public FileStorageService(@Value("${file.upload-dir}") String uploadDir) {
+    public FileStorageService(@Value("${file.upload-dir}") String uploadDir,
+                              @Value("${file.storage.layout:sharded}") String layout) {
         this.fileStorageLocation = Paths.get(uploadDir).toAbsolutePath().normalize();
-        log.info("File storage location initialized at: {}", this.fileStorageLocation);
+        this.shardedLayout = !"flat".equalsIgnoreCase(layout);
+        log.info("File storage location initialized at: {} (layout: {})", this.fileStorageLocation, shardedLayout ? "sharded" : "flat");
     }
 
     @PostConstruct
@@ -43,6 +50,56 @@ public class FileStorageService {
         }
     }
 
+    /**
+     * Root directory of the CV store.
+     */
+    public Path getFileStorageLocation() {
+        return this.fileStorageLocation;
+    }
+
+    /**
+     * Location of a file in the legacy flat layout: {@code <root>/<filename>}.
+     */
+    public Path flatPath(String filename) {
+        return this.fileStorageLocation.resolve(filename).normalize();
+    }
+
+    /**
+     * Location of a file in the two-level hashed layout: {@code <root>/ab/cd/<filename>},
+     * where {@code abcd} are the first two bytes of the SHA-256 of the filename.
+     * Keeps every directory at most 256 entries wide regardless of corpus size.
+     */
+    public Path shardedPath(String filename) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(filename.getBytes(StandardCharsets.UTF_8));
+            HexFormat hex = HexFormat.of();
+            return this.fileStorageLocation
+                    .resolve(hex.toHexDigits(digest[0]))
+                    .resolve(hex.toHexDigits(digest[1]))
+                    .resolve(filename)
+                    .normalize();
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    /**
+     * Resolves where a stored file currently lives. Both layouts are readable while the background
+     * migration runs. When neither location exists the sharded one is returned: a file moved between
+     * the two checks is found there, and a missing file fails there like anywhere else.
+     */
+    public Path resolveExistingPath(String filename) {
+        Path sharded = shardedPath(filename);
+        if (Files.exists(sharded)) {
+            return sharded;
+        }
+        Path flat = flatPath(filename);
+        if (Files.exists(flat)) {
+            return flat;
+        }
+        return sharded;
+    }
+
     /**
      * Stores the uploaded file and returns a unique filename.
      *
@@ -69,7 +126,11 @@ public class FileStorageService {
             String uniqueFilename = UUID.randomUUID().toString() + fileExtension;
 
             // Copy file to the target location (Replacing existing file with the same name)
-            Path targetLocation = this.fileStorageLocation.resolve(uniqueFilename);
+            Path targetLocation = shardedLayout ? shardedPath(uniqueFilename) : flatPath(uniqueFilename);
+            if (!targetLocation.startsWith(this.fileStorageLocation)) {
+                throw new FileStorageException("Cannot store file outside of the storage directory: " + uniqueFilename);
+            }
+            Files.createDirectories(targetLocation.getParent());
             log.debug("Target storage path: {}", targetLocation);
 
             try (InputStream inputStream = file.getInputStream()) {
@@ -94,7 +155,7 @@ public class FileStorageService {
      */
     public Resource loadFileAsResource(String filename) {
         try {
-            Path filePath = this.fileStorageLocation.resolve(filename).normalize();
+            Path filePath = resolveExistingPath(filename);
             Resource resource = new UrlResource(filePath.toUri());
             if (resource.exists()) {
                 return resource;
@@ -116,9 +177,9 @@ public class FileStorageService {
      */
     public boolean deleteFile(String filename) {
          try {
-            Path filePath = this.fileStorageLocation.resolve(filename).normalize();
+            Path filePath = resolveExistingPath(filename);
              log.debug("Attempting to delete file: {}", filePath);
-            boolean deleted = Files.deleteIfExists(filePath);
+            boolean deleted = Files.deleteIfExists(filePath) | Files.deleteIfExists(flatPath(filename));
              if (deleted) {
                  log.info("Successfully deleted file: {}", filename);
              } else {
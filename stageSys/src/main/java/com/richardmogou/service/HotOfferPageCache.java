@@ -0,0 +1,119 @@
+package com.richardmogou.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.richardmogou.dto.InternshipOfferResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.web.PagedModel;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * First pages of the default public offer listing (OPEN offers, newest first) held as serialized JSON.
+ * <p>
+ * Pages are stored in a fixed slot array and returned as the same byte array on every hit, so a hit
+ * costs no query, no DTO mapping and no serialization. Any change to what the listing shows bumps the
+ * version after commit; slots built under an older version are rebuilt on their next request.
+ */
+@Service
+@RequiredArgsConstructor
+public class HotOfferPageCache {
+
+    private static final Logger log = LoggerFactory.getLogger(HotOfferPageCache.class);
+
+    private record Slot(long version, byte[] body) {
+    }
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${offers.hot-cache.pages:5}")
+    private int pages;
+
+    @Value("${offers.hot-cache.page-size:10}")
+    private int pageSize;
+
+    private final AtomicLong version = new AtomicLong();
+    private AtomicReferenceArray<Slot> slots;
+    private Counter hits;
+    private Counter misses;
+
+    @PostConstruct
+    public void init() {
+        slots = new AtomicReferenceArray<>(Math.max(pages, 0));
+        hits = Counter.builder("stagesys.offers.hot.cache").tag("result", "hit").register(meterRegistry);
+        misses = Counter.builder("stagesys.offers.hot.cache").tag("result", "miss").register(meterRegistry);
+        log.info("Hot offer cache holds the first {} pages of {} offers", pages, pageSize);
+    }
+
+    /**
+     * Whether the page number and size are among the cached pages.
+     */
+    public boolean covers(int pageNumber, int size) {
+        return size == pageSize && pageNumber >= 0 && pageNumber < slots.length();
+    }
+
+    /**
+     * Returns the serialized page, loading and serializing it when its slot is missing or outdated.
+     * The body has the same shape as a {@link Page} rendered by the MVC layer.
+     */
+    public byte[] getPage(int pageNumber, Supplier<Page<InternshipOfferResponse>> loader) {
+        long current = version.get();
+        Slot slot = slots.get(pageNumber);
+        if (slot != null && slot.version() == current) {
+            hits.increment();
+            return slot.body();
+        }
+
+        misses.increment();
+        Slot loaded = new Slot(current, serialize(loader.get()));
+        // A slower loader must not replace a slot already rebuilt under a newer version
+        slots.accumulateAndGet(pageNumber, loaded,
+                (existing, candidate) -> existing != null && existing.version() > candidate.version() ? existing : candidate);
+        return loaded.body();
+    }
+
+    /**
+     * Drops every cached page once the surrounding transaction commits.
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump();
+                }
+            });
+        } else {
+            bump();
+        }
+    }
+
+    private void bump() {
+        long next = version.incrementAndGet();
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+        log.debug("Hot offer pages invalidated, now at version {}", next);
+    }
+
+    private byte[] serialize(Page<InternshipOfferResponse> page) {
+        try {
+            return objectMapper.writeValueAsBytes(new PagedModel<>(page));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize offer page", e);
+        }
+    }
+}
@@ -1,11 +1,20 @@
 package com.richardmogou.service;
 
+import com.richardmogou.config.tenant.Tenants;
 import com.richardmogou.dto.AgreementApprovalRequest;
+import com.richardmogou.dto.AgreementTransitionResponse;
 import com.richardmogou.dto.AgreementValidationRequest;
+import com.richardmogou.dto.BulkAgreementApprovalRequest;
+import com.richardmogou.dto.BulkAgreementValidationRequest;
+import com.richardmogou.dto.BulkItemResult;
+import com.richardmogou.dto.BulkOperationResponse;
+import com.richardmogou.dto.AgreementWorkflowStats;
 import com.richardmogou.dto.InternshipAgreementResponse;
 import com.richardmogou.entity.Application;
 import com.richardmogou.entity.InternshipAgreement;
+import com.richardmogou.entity.Notification;
 import com.richardmogou.entity.User;
+import com.richardmogou.entity.enums.AgreementEvent;
 import com.richardmogou.entity.enums.ApplicationStatus;
 import com.richardmogou.entity.enums.InternshipAgreementStatus;
 import com.richardmogou.entity.enums.NotificationType;
@@ -13,6 +22,7 @@ import com.richardmogou.entity.enums.Role;
 import com.richardmogou.exception.BadRequestException;
 import com.richardmogou.exception.ResourceNotFoundException;
 import com.richardmogou.exception.UnauthorizedAccessException;
+import com.richardmogou.repository.AgreementTransitionRepository;
 import com.richardmogou.repository.ApplicationRepository;
 import com.richardmogou.repository.InternshipAgreementRepository;
 import com.richardmogou.repository.UserRepository;
@@ -20,6 +30,7 @@ import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -28,7 +39,12 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -41,6 +57,9 @@ public class InternshipAgreementService {
     private final UserService userService; // To get current user
     private final PdfGenerationService pdfGenerationService;
     private final NotificationService notificationService;
+    private final FacultyWorkQueueService facultyWorkQueueService;
+    private final AgreementStateMachine stateMachine;
+    private final AgreementTransitionRepository transitionRepository;
 
     /**
      * Creates an Internship Agreement when an application is accepted.
@@ -86,11 +105,14 @@ public class InternshipAgreementService {
         InternshipAgreement agreement = new InternshipAgreement();
         agreement.setApplication(application);
         agreement.setAgreementPdfPath(pdfPath);
-        agreement.setStatus(InternshipAgreementStatus.PENDING_FACULTY_VALIDATION);
+        stateMachine.initialize(agreement);
         agreement.setFacultyValidator(facultyValidator); // Assign faculty if found
+        agreement.setStudentFaculty(application.getStudent().getFaculty());
+        agreement.setStudentSchool(Tenants.schoolOf(application.getStudent()));
         // Admin approver is assigned later
 
         InternshipAgreement savedAgreement = agreementRepository.save(agreement);
+        stateMachine.recordCreated(savedAgreement, currentUserOrNull());
         log.info("Internship agreement created successfully with ID: {} for application ID: {}", savedAgreement.getId(), applicationId);
 
         // Update application status
@@ -131,6 +153,34 @@ public class InternshipAgreementService {
         return InternshipAgreementResponse.fromEntity(agreement);
     }
 
+    /**
+     * Retrieves the transition log of an agreement, with the same authorization as viewing it.
+     */
+    @Transactional(readOnly = true)
+    public List<AgreementTransitionResponse> getAgreementHistory(Long agreementId) {
+        getAgreementById(agreementId); // Existence and authorization checks
+        return transitionRepository.findByAgreementIdOrderByOccurredAtAscIdAsc(agreementId).stream()
+                .map(AgreementTransitionResponse::fromEntity)
+                .toList();
+    }
+
+    /**
+     * Summarizes workflow throughput and time-in-status from the transition log.
+     */
+    @Transactional(readOnly = true)
+    public List<AgreementWorkflowStats> getWorkflowStats(int days) {
+        LocalDateTime since = LocalDateTime.now().minusDays(Math.max(days, 1));
+        return transitionRepository.summarizeSince(since).stream()
+                .map(row -> AgreementWorkflowStats.builder()
+                        .event((AgreementEvent) row[0])
+                        .fromStatus((InternshipAgreementStatus) row[1])
+                        .transitions((Long) row[2])
+                        .avgMillisInStatus((Double) row[3])
+                        .maxMillisInStatus((Long) row[4])
+                        .build())
+                .toList();
+    }
+
      /**
      * Retrieves agreements pending validation by the currently logged-in faculty member.
      */
@@ -141,36 +191,40 @@ public class InternshipAgreementService {
             throw new UnauthorizedAccessException("User does not have FACULTY role.");
         }
         
-        log.info("Fetching agreements pending validation for faculty: {}", currentFaculty.getEmail());
-        
-        // Debug: Check faculty assignment
-        User facultyWithFaculty = userRepository.findByEmail(currentFaculty.getEmail()).orElse(null);
-        if (facultyWithFaculty != null && facultyWithFaculty.getFaculty() != null) {
-            log.info("Faculty {} belongs to faculty: {} (ID: {})", 
-                    currentFaculty.getEmail(), 
-                    facultyWithFaculty.getFaculty().getName(), 
-                    facultyWithFaculty.getFaculty().getId());
-        } else {
-            log.warn("Faculty {} has no faculty assigned!", currentFaculty.getEmail());
+        if (currentFaculty.getFaculty() == null) {
+            log.warn("Faculty user {} has no faculty assigned", currentFaculty.getId());
+            return Page.empty(pageable);
         }
-        
-        // Debug: Check all agreements
-        long totalAgreements = agreementRepository.count();
-        long pendingAgreements = agreementRepository.findByStatus(InternshipAgreementStatus.PENDING_FACULTY_VALIDATION, Pageable.unpaged()).getTotalElements();
-        log.info("Total agreements in DB: {}, Pending faculty validation: {}", totalAgreements, pendingAgreements);
-        
+        Long facultyId = currentFaculty.getFaculty().getId();
+        log.debug("Fetching agreements pending validation for faculty ID: {}", facultyId);
+
         // Apply default sorting if no sort is specified
         if (pageable.getSort().isUnsorted()) {
             pageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), 
                 Sort.by(Sort.Direction.ASC, "createdAt"));
         }
-        
-        // Use custom query to find agreements by faculty email
-        Page<InternshipAgreement> agreementPage = agreementRepository.findAgreementsByFacultyEmailAndStatus(
-                currentFaculty.getEmail(), InternshipAgreementStatus.PENDING_FACULTY_VALIDATION, pageable);
-        
-        log.info("Found {} agreements pending validation for this faculty", agreementPage.getTotalElements());
-        return agreementPage.map(InternshipAgreementResponse::fromEntity);
+
+        // Page content comes from the faculty/status/created_at index; the total comes from the
+        // work queue instead of a count query over the agreements table (reconciled nightly)
+        List<InternshipAgreementResponse> content = agreementRepository
+                .findByStudentFaculty_IdAndStatus(facultyId, InternshipAgreementStatus.PENDING_FACULTY_VALIDATION, pageable).stream()
+                .map(InternshipAgreementResponse::fromEntity)
+                .toList();
+        return new PageImpl<>(content, pageable, facultyWorkQueueService.getPendingCount(facultyId));
+    }
+
+    /**
+     * Returns the number of agreements pending validation for the current faculty member's faculty.
+     */
+    @Transactional(readOnly = true)
+    public long countAgreementsPendingFacultyValidation() {
+        User currentFaculty = userService.getCurrentUser();
+        if (currentFaculty.getRole() != Role.FACULTY) {
+            throw new UnauthorizedAccessException("User does not have FACULTY role.");
+        }
+        return currentFaculty.getFaculty() != null
+                ? facultyWorkQueueService.getPendingCount(currentFaculty.getFaculty().getId())
+                : 0L;
     }
 
     /**
@@ -205,14 +259,8 @@ public class InternshipAgreementService {
             throw new UnauthorizedAccessException("You are not authorized to validate this agreement.");
         }
 
-        // Check current status
-        if (agreement.getStatus() != InternshipAgreementStatus.PENDING_FACULTY_VALIDATION) {
-            log.warn("Attempted to validate agreement ID {} with status {}", agreementId, agreement.getStatus());
-            throw new BadRequestException("Agreement is not pending faculty validation.");
-        }
-
         if (request.getValidated()) {
-            agreement.setStatus(InternshipAgreementStatus.PENDING_ADMIN_APPROVAL);
+            stateMachine.fire(agreement, AgreementEvent.FACULTY_VALIDATE, currentFaculty);
             agreement.setFacultyValidationDate(LocalDateTime.now());
             agreement.setFacultyRejectionReason(null); // Clear reason if previously rejected
             log.info("Agreement ID {} validated by faculty ID {}", agreementId, currentFaculty.getId());
@@ -223,7 +271,7 @@ public class InternshipAgreementService {
             if (request.getRejectionReason() == null || request.getRejectionReason().isBlank()) {
                  throw new BadRequestException("Rejection reason is required when rejecting an agreement.");
             }
-            agreement.setStatus(InternshipAgreementStatus.REJECTED);
+            stateMachine.fire(agreement, AgreementEvent.FACULTY_REJECT, currentFaculty);
             agreement.setFacultyValidationDate(LocalDateTime.now()); // Record rejection time
             agreement.setFacultyRejectionReason(request.getRejectionReason());
             log.info("Agreement ID {} rejected by faculty ID {} with reason: {}", agreementId, currentFaculty.getId(), request.getRejectionReason());
@@ -241,11 +289,81 @@ public class InternshipAgreementService {
     }
 
 
+    /**
+     * Validates or rejects many agreements at once for the current faculty member.
+     * Authorization is resolved with one query, the transitions are flushed as one JDBC batch
+     * and the student notifications are saved together. Each agreement gets its own result.
+     */
+    @Transactional
+    public BulkOperationResponse bulkValidateAgreements(BulkAgreementValidationRequest request) {
+        User currentFaculty = userService.getCurrentUser();
+        if (currentFaculty.getRole() != Role.FACULTY) {
+            throw new UnauthorizedAccessException("User does not have FACULTY role.");
+        }
+        boolean validated = request.getValidated();
+        if (!validated && (request.getRejectionReason() == null || request.getRejectionReason().isBlank())) {
+            throw new BadRequestException("Rejection reason is required when rejecting an agreement.");
+        }
+        List<Long> requestedIds = request.getAgreementIds().stream().distinct().toList();
+        log.info("Bulk validation ({}) of {} agreements by faculty ID: {}", validated, requestedIds.size(), currentFaculty.getId());
+
+        Long facultyId = currentFaculty.getFaculty() != null ? currentFaculty.getFaculty().getId() : -1L;
+        Map<Long, InternshipAgreement> authorized = agreementRepository
+                .findValidatableByIdIn(requestedIds, currentFaculty.getId(), facultyId).stream()
+                .collect(Collectors.toMap(InternshipAgreement::getId, Function.identity()));
+
+        AgreementEvent event = validated ? AgreementEvent.FACULTY_VALIDATE : AgreementEvent.FACULTY_REJECT;
+        LocalDateTime now = LocalDateTime.now();
+        List<BulkItemResult> results = new ArrayList<>(requestedIds.size());
+        List<InternshipAgreement> transitioned = new ArrayList<>();
+        for (Long id : requestedIds) {
+            InternshipAgreement agreement = authorized.get(id);
+            if (agreement == null) {
+                results.add(BulkItemResult.failed(id, "Agreement not found or you are not authorized to validate it."));
+                continue;
+            }
+            if (!stateMachine.canFire(agreement.getStatus(), event)) {
+                results.add(BulkItemResult.failed(id, AgreementStateMachine.notAllowedMessage(event)));
+                continue;
+            }
+            if (agreement.getFacultyValidator() == null || !agreement.getFacultyValidator().getId().equals(currentFaculty.getId())) {
+                agreement.setFacultyValidator(currentFaculty); // Assign for tracking, as in single validation
+            }
+            agreement.setFacultyValidationDate(now);
+            agreement.setFacultyRejectionReason(validated ? null : request.getRejectionReason());
+            transitioned.add(agreement);
+            results.add(BulkItemResult.succeeded(id));
+        }
+
+        stateMachine.fireAll(transitioned, event, currentFaculty);
+        agreementRepository.saveAll(transitioned);
+        agreementRepository.flush();
+
+        try {
+            List<Notification> notifications = new ArrayList<>(transitioned.size());
+            for (InternshipAgreement agreement : transitioned) {
+                Notification notification = new Notification();
+                notification.setRecipient(agreement.getApplication().getStudent());
+                notification.setType(validated ? NotificationType.AGREEMENT_VALIDATED : NotificationType.AGREEMENT_REJECTED);
+                notification.setMessage(validationMessage(agreement, validated));
+                notification.setLink("/student/agreements");
+                notifications.add(notification);
+            }
+            notificationService.createNotifications(notifications);
+        } catch (Exception e) {
+            log.error("Error sending bulk validation notifications", e);
+        }
+
+        BulkOperationResponse response = BulkOperationResponse.of(results);
+        log.info("Bulk validation by faculty ID {}: {} succeeded, {} failed", currentFaculty.getId(), response.getSucceeded(), response.getFailed());
+        return response;
+    }
+
      /**
      * Retrieves agreements pending approval by Admin users.
      */
     @Transactional(readOnly = true)
-    public Page<InternshipAgreementResponse> getAgreementsPendingAdminApproval(Pageable pageable) {
+    public Page<InternshipAgreementResponse> getAgreementsPendingAdminApproval(Long schoolId, Pageable pageable) {
          // No specific admin assigned here, just fetching by status
          log.debug("Fetching agreements pending admin approval");
          
@@ -255,8 +373,9 @@ public class InternshipAgreementService {
                  Sort.by(Sort.Direction.ASC, "createdAt"));
          }
          
-         Page<InternshipAgreement> agreementPage = agreementRepository.findByStatus(
-                 InternshipAgreementStatus.PENDING_ADMIN_APPROVAL, pageable);
+         Page<InternshipAgreement> agreementPage = schoolId != null
+                 ? agreementRepository.findByStudentSchool_IdAndStatus(schoolId, InternshipAgreementStatus.PENDING_ADMIN_APPROVAL, pageable)
+                 : agreementRepository.findByStatus(InternshipAgreementStatus.PENDING_ADMIN_APPROVAL, pageable);
         return agreementPage.map(InternshipAgreementResponse::fromEntity);
     }
 
@@ -275,23 +394,18 @@ public class InternshipAgreementService {
         InternshipAgreement agreement = agreementRepository.findById(agreementId)
                 .orElseThrow(() -> new ResourceNotFoundException("InternshipAgreement", "id", agreementId));
 
-         // Check current status
-        if (agreement.getStatus() != InternshipAgreementStatus.PENDING_ADMIN_APPROVAL) {
-            log.warn("Attempted to approve agreement ID {} with status {}", agreementId, agreement.getStatus());
-            throw new BadRequestException("Agreement is not pending admin approval.");
-        }
-
         if (request.getApproved()) {
-            agreement.setStatus(InternshipAgreementStatus.APPROVED);
+            stateMachine.fire(agreement, AgreementEvent.ADMIN_APPROVE, currentAdmin);
             agreement.setAdminApprover(currentAdmin); // Record who approved
             agreement.setAdminApprovalDate(LocalDateTime.now());
             agreement.setAdminRejectionReason(null);
             log.info("Agreement ID {} approved by admin ID {}", agreementId, currentAdmin.getId());
+            completeSignaturesIfReady(agreement, currentAdmin);
         } else {
              if (request.getRejectionReason() == null || request.getRejectionReason().isBlank()) {
                  throw new BadRequestException("Rejection reason is required when rejecting an agreement.");
             }
-            agreement.setStatus(InternshipAgreementStatus.REJECTED);
+            stateMachine.fire(agreement, AgreementEvent.ADMIN_REJECT, currentAdmin);
             agreement.setAdminApprover(currentAdmin); // Record who rejected
             agreement.setAdminApprovalDate(LocalDateTime.now()); // Record rejection time
             agreement.setAdminRejectionReason(request.getRejectionReason());
@@ -306,6 +420,60 @@ public class InternshipAgreementService {
         return InternshipAgreementResponse.fromEntity(updatedAgreement);
     }
 
+    /**
+     * Approves or rejects many agreements at once. Agreements are loaded with one query and the
+     * transitions are flushed as one JDBC batch. Each agreement gets its own result.
+     */
+    @Transactional
+    public BulkOperationResponse bulkApproveAgreements(BulkAgreementApprovalRequest request) {
+        User currentAdmin = userService.getCurrentUser();
+        if (currentAdmin.getRole() != Role.ADMIN) {
+            throw new UnauthorizedAccessException("User does not have ADMIN role.");
+        }
+        boolean approved = request.getApproved();
+        if (!approved && (request.getRejectionReason() == null || request.getRejectionReason().isBlank())) {
+            throw new BadRequestException("Rejection reason is required when rejecting an agreement.");
+        }
+        List<Long> requestedIds = request.getAgreementIds().stream().distinct().toList();
+        log.info("Bulk approval ({}) of {} agreements by admin ID: {}", approved, requestedIds.size(), currentAdmin.getId());
+
+        Map<Long, InternshipAgreement> found = agreementRepository.findAllByIdInWithStudent(requestedIds).stream()
+                .collect(Collectors.toMap(InternshipAgreement::getId, Function.identity()));
+
+        AgreementEvent event = approved ? AgreementEvent.ADMIN_APPROVE : AgreementEvent.ADMIN_REJECT;
+        LocalDateTime now = LocalDateTime.now();
+        List<BulkItemResult> results = new ArrayList<>(requestedIds.size());
+        List<InternshipAgreement> transitioned = new ArrayList<>();
+        for (Long id : requestedIds) {
+            InternshipAgreement agreement = found.get(id);
+            if (agreement == null) {
+                results.add(BulkItemResult.failed(id, "Agreement not found."));
+                continue;
+            }
+            if (!stateMachine.canFire(agreement.getStatus(), event)) {
+                results.add(BulkItemResult.failed(id, AgreementStateMachine.notAllowedMessage(event)));
+                continue;
+            }
+            agreement.setAdminApprover(currentAdmin);
+            agreement.setAdminApprovalDate(now);
+            agreement.setAdminRejectionReason(approved ? null : request.getRejectionReason());
+            transitioned.add(agreement);
+            results.add(BulkItemResult.succeeded(id));
+        }
+
+        stateMachine.fireAll(transitioned, event, currentAdmin);
+        if (approved) {
+            transitioned.forEach(agreement -> completeSignaturesIfReady(agreement, currentAdmin));
+        }
+        agreementRepository.saveAll(transitioned);
+        agreementRepository.flush();
+        log.info("Agreement approval notification for {} agreements - approved: {}", transitioned.size(), approved);
+
+        BulkOperationResponse response = BulkOperationResponse.of(results);
+        log.info("Bulk approval by admin ID {}: {} succeeded, {} failed", currentAdmin.getId(), response.getSucceeded(), response.getFailed());
+        return response;
+    }
+
      /**
      * Retrieves agreements related to the currently logged-in student.
      */
@@ -393,16 +561,15 @@ public class InternshipAgreementService {
                 notificationService.createNotification(
                     student,
                     NotificationType.AGREEMENT_VALIDATED,
-                    "Votre convention de stage a été validée par la faculté",
+                    validationMessage(agreement, true),
                     "/student/agreements"
                 );
                 log.info("Validation notification sent to student ID: {} for agreement ID: {}", student.getId(), agreement.getId());
             } else {
-                String reason = agreement.getFacultyRejectionReason();
                 notificationService.createNotification(
                     student,
                     NotificationType.AGREEMENT_REJECTED,
-                    "Votre convention de stage a été rejetée par la faculté. Raison: " + reason,
+                    validationMessage(agreement, false),
                     "/student/agreements"
                 );
                 log.info("Rejection notification sent to student ID: {} for agreement ID: {}", student.getId(), agreement.getId());
@@ -412,6 +579,12 @@ public class InternshipAgreementService {
         }
     }
     
+    private String validationMessage(InternshipAgreement agreement, boolean validated) {
+        return validated
+                ? "Votre convention de stage a été validée par la faculté"
+                : "Votre convention de stage a été rejetée par la faculté. Raison: " + agreement.getFacultyRejectionReason();
+    }
+
     /**
      * Notifies stakeholders about admin approval result
      */
@@ -432,7 +605,9 @@ public class InternshipAgreementService {
     }
 
     /**
-     * Signs an agreement by the current authenticated user
+     * Signs an agreement by the current authenticated user.
+     * Each party's signature is written with its own guarded UPDATE, so concurrent signers never
+     * overwrite each other, and the move to SIGNED is a conditional UPDATE applied exactly once.
      */
     @Transactional
     public InternshipAgreementResponse signAgreement(Long agreementId) {
@@ -442,50 +617,64 @@ public class InternshipAgreementService {
         InternshipAgreement agreement = agreementRepository.findById(agreementId)
                 .orElseThrow(() -> new ResourceNotFoundException("InternshipAgreement", "id", agreementId));
 
+        if (!stateMachine.canFire(agreement.getStatus(), AgreementEvent.SIGN)) {
+            throw new BadRequestException(AgreementStateMachine.notAllowedMessage(AgreementEvent.SIGN));
+        }
+
         Application application = agreement.getApplication();
         LocalDateTime now = LocalDateTime.now();
-        boolean updated = false;
+        Set<InternshipAgreementStatus> signable = stateMachine.sourceStatuses(AgreementEvent.SIGN);
 
         // Determine who is signing based on user role and relationship to the agreement
-        switch (currentUser.getRole()) {
-            case STUDENT:
-                if (application.getStudent().getId().equals(currentUser.getId()) && !agreement.getSignedByStudent()) {
-                    agreement.setSignedByStudent(true);
-                    agreement.setStudentSignatureDate(now);
-                    updated = true;
-                    log.info("Student signed agreement ID: {}", agreementId);
-                }
-                break;
-            case COMPANY:
-                if (application.getInternshipOffer().getCompany().getPrimaryContactUser().getId().equals(currentUser.getId()) && !agreement.getSignedByCompany()) {
-                    agreement.setSignedByCompany(true);
-                    agreement.setCompanySignatureDate(now);
-                    updated = true;
-                    log.info("Company signed agreement ID: {}", agreementId);
-                }
-                break;
-            case FACULTY:
-                if (agreement.getFacultyValidator() != null && agreement.getFacultyValidator().getId().equals(currentUser.getId()) && !agreement.getSignedByFaculty()) {
-                    agreement.setSignedByFaculty(true);
-                    agreement.setFacultySignatureDate(now);
-                    updated = true;
-                    log.info("Faculty signed agreement ID: {}", agreementId);
-                }
-                break;
-        }
-
-        if (!updated) {
+        int updated = switch (currentUser.getRole()) {
+            case STUDENT -> application.getStudent().getId().equals(currentUser.getId())
+                    ? agreementRepository.markSignedByStudent(agreementId, signable, now) : 0;
+            case COMPANY -> application.getInternshipOffer().getCompany().getPrimaryContactUser().getId().equals(currentUser.getId())
+                    ? agreementRepository.markSignedByCompany(agreementId, signable, now) : 0;
+            case FACULTY -> agreement.getFacultyValidator() != null && agreement.getFacultyValidator().getId().equals(currentUser.getId())
+                    ? agreementRepository.markSignedByFaculty(agreementId, signable, now) : 0;
+            default -> 0;
+        };
+
+        if (updated == 0) {
             throw new BadRequestException("User is not authorized to sign this agreement or has already signed");
         }
+        log.info("{} signed agreement ID: {}", currentUser.getRole(), agreementId);
 
-        // Check if all parties have signed
-        if (agreement.getSignedByStudent() && agreement.getSignedByCompany() && agreement.getSignedByFaculty()) {
-            agreement.setStatus(InternshipAgreementStatus.SIGNED);
+        Set<InternshipAgreementStatus> completable = stateMachine.sourceStatuses(AgreementEvent.COMPLETE_SIGNATURES);
+        InternshipAgreementStatus fullySigned = stateMachine.target(InternshipAgreementStatus.APPROVED, AgreementEvent.COMPLETE_SIGNATURES);
+        boolean completed = agreementRepository.completeSignatures(agreementId, completable, fullySigned, now) == 1;
+
+        InternshipAgreement signedAgreement = agreementRepository.findById(agreementId)
+                .orElseThrow(() -> new ResourceNotFoundException("InternshipAgreement", "id", agreementId));
+        InternshipAgreementStatus signedIn = completed ? InternshipAgreementStatus.APPROVED : signedAgreement.getStatus();
+        stateMachine.recordApplied(signedAgreement, AgreementEvent.SIGN, signedIn, null, currentUser, now);
+        if (completed) {
+            stateMachine.recordApplied(signedAgreement, AgreementEvent.COMPLETE_SIGNATURES, InternshipAgreementStatus.APPROVED,
+                    signedAgreement.getAdminApprovalDate(), currentUser, now);
             log.info("Agreement ID {} is now fully signed", agreementId);
         }
-        
-        InternshipAgreement savedAgreement = agreementRepository.save(agreement);
-        return InternshipAgreementResponse.fromEntity(savedAgreement);
+        return InternshipAgreementResponse.fromEntity(signedAgreement);
+    }
+
+    /**
+     * Moves an approved agreement to SIGNED once all three parties have signed.
+     */
+    private void completeSignaturesIfReady(InternshipAgreement agreement, User actor) {
+        if (Boolean.TRUE.equals(agreement.getSignedByStudent()) && Boolean.TRUE.equals(agreement.getSignedByCompany())
+                && Boolean.TRUE.equals(agreement.getSignedByFaculty())
+                && stateMachine.canFire(agreement.getStatus(), AgreementEvent.COMPLETE_SIGNATURES)) {
+            stateMachine.fire(agreement, AgreementEvent.COMPLETE_SIGNATURES, actor);
+            log.info("Agreement ID {} is now fully signed", agreement.getId());
+        }
+    }
+
+    private User currentUserOrNull() {
+        try {
+            return userService.getCurrentUser();
+        } catch (IllegalStateException | ResourceNotFoundException e) {
+            return null; // System-initiated, e.g. from a listener
+        }
     }
 
-}
\ No newline at end of file
+}
@@ -8,6 +8,7 @@ import com.richardmogou.entity.InternshipOffer;
 import com.richardmogou.entity.User;
 import com.richardmogou.entity.enums.InternshipOfferStatus;
 import com.richardmogou.entity.enums.Role;
+import com.richardmogou.event.OfferSkillsChangedEvent;
 import com.richardmogou.exception.ResourceNotFoundException;
 import com.richardmogou.exception.UnauthorizedAccessException;
 import com.richardmogou.repository.InternshipOfferRepository;
@@ -15,24 +16,36 @@ import com.richardmogou.service.specification.InternshipOfferSpecification;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class InternshipOfferService {
 
     private static final Logger log = LoggerFactory.getLogger(InternshipOfferService.class);
+    // Query parameters bound to the Pageable, which also end up in the filters map
+    private static final Set<String> PAGING_PARAMETERS = Set.of("page", "size", "sort");
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.DESC, "createdAt");
     private final InternshipOfferRepository internshipOfferRepository;
     private final CompanyService companyService; // To get current company
     private final UserService userService; // To get current user for checks
+    private final ApplicationEventPublisher eventPublisher;
+    private final HotOfferPageCache hotOfferPageCache;
+    private final ApplicantSearchIndex applicantSearchIndex;
 
     /**
      * Creates a new internship offer associated with the currently logged-in company user.
@@ -54,6 +67,7 @@ public class InternshipOfferService {
         offer.setCompany(currentCompany);
 
         InternshipOffer savedOffer = internshipOfferRepository.save(offer);
+        hotOfferPageCache.invalidate();
         log.info("Offer created successfully with ID: {}", savedOffer.getId());
         return InternshipOfferResponse.fromEntity(savedOffer);
     }
@@ -109,6 +123,40 @@ public class InternshipOfferService {
         return offerPage.map(InternshipOfferResponse::fromEntity);
     }
 
+    /**
+     * Returns the serialized page when the request is one of the first pages of the default public listing
+     * (status OPEN, newest first), or empty when it must go through {@link #getAllOffers}.
+     * Hits need no transaction, query or mapping.
+     */
+    public Optional<byte[]> getHotOfferPage(Pageable pageable, Map<String, String> filters) {
+        if (!hotOfferPageCache.covers(pageable.getPageNumber(), pageable.getPageSize())
+                || !(pageable.getSort().isUnsorted() || pageable.getSort().equals(DEFAULT_SORT))
+                || !isDefaultPublicListing(filters)) {
+            return Optional.empty();
+        }
+        Pageable hotPage = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), DEFAULT_SORT);
+        return Optional.of(hotOfferPageCache.getPage(pageable.getPageNumber(), () ->
+                internshipOfferRepository.findWithCompanyByStatus(InternshipOfferStatus.OPEN, hotPage)
+                        .map(InternshipOfferResponse::fromEntity)));
+    }
+
+    // Same outcome as the defaulting in getAllOffers: no filter besides status, and status OPEN either
+    // explicitly or by default (everyone but admins)
+    private boolean isDefaultPublicListing(Map<String, String> filters) {
+        for (Map.Entry<String, String> filter : filters.entrySet()) {
+            if (!PAGING_PARAMETERS.contains(filter.getKey()) && !filter.getKey().equals("status")) {
+                return false;
+            }
+        }
+        String status = filters.get("status");
+        if (status != null) {
+            return status.equalsIgnoreCase(InternshipOfferStatus.OPEN.name());
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null || authentication.getAuthorities().stream()
+                .noneMatch(authority -> ("ROLE_" + Role.ADMIN.name()).equals(authority.getAuthority()));
+    }
+
      /**
      * Retrieves offers created by the currently logged-in company user.
      */
@@ -145,6 +193,8 @@ public class InternshipOfferService {
             throw new UnauthorizedAccessException("User is not authorized to update this offer.");
         }
 
+        boolean skillsChanged = !Objects.equals(offer.getRequiredSkills(), request.getRequiredSkills());
+
         // Update fields
         offer.setTitle(request.getTitle());
         offer.setDescription(request.getDescription());
@@ -156,7 +206,12 @@ public class InternshipOfferService {
         // Status is updated via a separate endpoint
 
         InternshipOffer updatedOffer = internshipOfferRepository.save(offer);
+        hotOfferPageCache.invalidate();
         log.info("Offer ID: {} updated successfully by company ID: {}", offerId, currentCompany.getId());
+        if (skillsChanged) {
+            // Applicant scores are recomputed after commit, off the request thread
+            eventPublisher.publishEvent(new OfferSkillsChangedEvent(offerId));
+        }
         return InternshipOfferResponse.fromEntity(updatedOffer);
     }
 
@@ -183,6 +238,7 @@ public class InternshipOfferService {
 
         offer.setStatus(request.getStatus());
         InternshipOffer updatedOffer = internshipOfferRepository.save(offer);
+        hotOfferPageCache.invalidate();
         log.info("Offer ID: {} status updated to {} by user ID: {}", offerId, request.getStatus(), currentUser.getId());
         return InternshipOfferResponse.fromEntity(updatedOffer);
     }
@@ -209,6 +265,9 @@ public class InternshipOfferService {
         // Maybe change status to CLOSED/CANCELLED instead of hard delete?
         // For now, we proceed with deletion as requested by API spec.
         internshipOfferRepository.delete(offer);
+        hotOfferPageCache.invalidate();
+        // The offer's applications go with it (orphan removal)
+        applicantSearchIndex.evict(currentCompany.getId());
         log.info("Offer ID: {} deleted successfully by company ID: {}", offerId, currentCompany.getId());
     }
 }
\ No newline at end of file
@@ -15,6 +15,11 @@ import org.springframework.data.domain.Sort;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -44,10 +49,46 @@ public class NotificationService {
         notification.setRead(false);
         notification.setCreatedAt(java.time.LocalDateTime.now());
 
-        notificationRepository.save(notification);
+        push(notificationRepository.save(notification));
         log.info("Notification created for user ID {}", recipient.getId());
     }
     
+    /**
+     * Saves a batch of notifications in one call (used by bulk operations).
+     */
+    @Transactional
+    public void createNotifications(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        notifications.forEach(notification -> {
+            notification.setRead(false);
+            notification.setCreatedAt(now);
+        });
+        notificationRepository.saveAll(notifications).forEach(this::push);
+        log.info("Created {} notifications in batch", notifications.size());
+    }
+
+    /**
+     * Sends a saved notification to its recipient's {@code /user/queue/notifications} once the transaction
+     * commits, so a client reacting to the push reads it back.
+     */
+    private void push(Notification notification) {
+        NotificationResponse response = NotificationResponse.fromEntity(notification);
+        String user = response.getRecipientId().toString();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    messagingTemplate.convertAndSendToUser(user, "/queue/notifications", response);
+                }
+            });
+        } else {
+            messagingTemplate.convertAndSendToUser(user, "/queue/notifications", response);
+        }
+    }
+
     @Transactional
     public void createAndSendNotification(User recipient, NotificationType type, String message, String link) {
         if (recipient == null) {
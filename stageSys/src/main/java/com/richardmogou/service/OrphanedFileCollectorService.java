@@ -0,0 +1,277 @@
+package com.richardmogou.service;
+
+import com.richardmogou.dto.FileSweepReport;
+import com.richardmogou.repository.ApplicationRepository;
+import com.richardmogou.repository.InternshipAgreementRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Incrementally reconciles the CV and agreement file stores against the database and removes
+ * files that are no longer referenced by {@code Application.cvPath} or {@code InternshipAgreement.agreementPdfPath},
+ * in the hot tables or the cold archive.
+ * <p>
+ * Each store is walked in path order (directory by directory, names sorted) in bounded batches; a per-store
+ * cursor remembers where the previous run stopped. A run resumes at the cursor's shard without opening the
+ * directories before it, lists each directory it visits once, holds at most one batch plus one directory
+ * listing in memory and issues at most {@code file.gc.max-batches-per-run} lookups.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrphanedFileCollectorService {
+
+    private static final Logger log = LoggerFactory.getLogger(OrphanedFileCollectorService.class);
+
+    static final String CV_STORE = "cvs";
+    static final String AGREEMENT_STORE = "agreements";
+
+    private final FileStorageService fileStorageService;
+    private final PdfGenerationService pdfGenerationService;
+    private final ApplicationRepository applicationRepository;
+    private final InternshipAgreementRepository agreementRepository;
+    private final ColdArchiveService coldArchiveService;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, String> cursors = new ConcurrentHashMap<>();
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${file.gc.enabled:true}")
+    private boolean enabled;
+
+    @Value("${file.gc.dry-run:true}")
+    private boolean defaultDryRun;
+
+    @Value("${file.gc.batch-size:500}")
+    private int batchSize;
+
+    @Value("${file.gc.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    @Value("${file.gc.min-age-minutes:60}")
+    private long minAgeMinutes;
+
+    @Scheduled(fixedDelayString = "${file.gc.interval-ms:3600000}", initialDelayString = "${file.gc.initial-delay-ms:300000}")
+    public void scheduledSweep() {
+        if (!enabled) {
+            return;
+        }
+        sweep(defaultDryRun);
+    }
+
+    /**
+     * Runs one bounded sweep over every file store.
+     * Returns an empty list if another sweep is already in progress.
+     */
+    public List<FileSweepReport> sweep(boolean dryRun) {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Orphaned file sweep already in progress, skipping");
+            return List.of();
+        }
+        try {
+            Path agreementsDir = pdfGenerationService.getAgreementsDirectory();
+            FileSweepReport cvReport = sweepStore(CV_STORE, fileStorageService.getFileStorageLocation(),
+                    path -> path.getFileName().toString(),
+                    keys -> referencedInEitherStore(applicationRepository.findReferencedCvPaths(keys),
+                            coldArchiveService.findArchivedCvPaths(keys)), dryRun);
+            FileSweepReport agreementReport = sweepStore(AGREEMENT_STORE, agreementsDir,
+                    path -> agreementsDir.resolve(path.getFileName()).toString(),
+                    keys -> referencedInEitherStore(agreementRepository.findReferencedPdfPaths(keys),
+                            coldArchiveService.findArchivedPdfPaths(keys)), dryRun);
+            return List.of(cvReport, agreementReport);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Files of archived applications and agreements stay: the archive still serves them in the agreement history.
+     */
+    private static List<String> referencedInEitherStore(List<String> hot, List<String> archived) {
+        if (archived.isEmpty()) {
+            return hot;
+        }
+        List<String> referenced = new ArrayList<>(hot);
+        referenced.addAll(archived);
+        return referenced;
+    }
+
+    private FileSweepReport sweepStore(String store, Path root, Function<Path, String> storedKey,
+                                       Function<Set<String>, List<String>> referencedKeys, boolean dryRun) {
+        FileSweepReport report = FileSweepReport.builder().store(store).dryRun(dryRun).build();
+        if (!Files.isDirectory(root)) {
+            log.debug("File store '{}' does not exist yet at {}, nothing to sweep", store, root);
+            return report;
+        }
+
+        Instant youngestCollectable = Instant.now().minus(Duration.ofMinutes(minAgeMinutes));
+        String mode = dryRun ? "dry-run" : "delete";
+
+        String cursor = cursors.get(store);
+        StoreWalker walker = new StoreWalker(root, cursor == null ? null : Path.of(cursor));
+        for (int batchNo = 0; batchNo < maxBatchesPerRun; batchNo++) {
+            List<Path> batch = nextBatch(walker);
+            if (batch.isEmpty()) {
+                cursors.remove(store);
+                report.setCompletedPass(true);
+                break;
+            }
+            report.setBatches(report.getBatches() + 1);
+            report.setScannedFiles(report.getScannedFiles() + batch.size());
+
+            Map<String, Path> byStoredKey = new TreeMap<>();
+            batch.forEach(path -> byStoredKey.put(storedKey.apply(path), path));
+            Set<String> referenced = new HashSet<>(referencedKeys.apply(byStoredKey.keySet()));
+
+            for (Map.Entry<String, Path> entry : byStoredKey.entrySet()) {
+                if (referenced.contains(entry.getKey())) {
+                    continue;
+                }
+                long reclaimed = collect(entry.getValue(), youngestCollectable, dryRun);
+                if (reclaimed >= 0) {
+                    report.setOrphanedFiles(report.getOrphanedFiles() + 1);
+                    report.setReclaimedBytes(report.getReclaimedBytes() + reclaimed);
+                }
+            }
+
+            if (batch.size() < batchSize) {
+                // Reached the end of the store: start over on the next run
+                cursors.remove(store);
+                report.setCompletedPass(true);
+                break;
+            }
+            cursors.put(store, root.relativize(batch.get(batch.size() - 1)).toString());
+        }
+
+        meterRegistry.counter("stagesys.files.gc.scanned", "store", store).increment(report.getScannedFiles());
+        meterRegistry.counter("stagesys.files.gc.orphaned", "store", store, "mode", mode).increment(report.getOrphanedFiles());
+        meterRegistry.counter("stagesys.files.gc.reclaimed.bytes", "store", store, "mode", mode).increment(report.getReclaimedBytes());
+
+        log.info("Orphaned file sweep of '{}' ({}): scanned={}, orphaned={}, reclaimedBytes={}",
+                store, mode, report.getScannedFiles(), report.getOrphanedFiles(), report.getReclaimedBytes());
+        return report;
+    }
+
+    /**
+     * The next {@code batchSize} files of the walk.
+     */
+    private List<Path> nextBatch(StoreWalker walker) {
+        List<Path> batch = new ArrayList<>(batchSize);
+        Path path;
+        while (batch.size() < batchSize && (path = walker.next()) != null) {
+            batch.add(path);
+        }
+        return batch;
+    }
+
+    /**
+     * Deletes (or, in dry-run mode, only measures) an unreferenced file.
+     * Returns the reclaimed size, or -1 if the file was skipped.
+     */
+    private long collect(Path path, Instant youngestCollectable, boolean dryRun) {
+        try {
+            if (Files.getLastModifiedTime(path).toInstant().isAfter(youngestCollectable)) {
+                return -1; // Too recent: the referencing row may not be committed yet
+            }
+            long size = Files.size(path);
+            if (dryRun) {
+                log.debug("[dry-run] Would delete orphaned file {} ({} bytes)", path, size);
+                return size;
+            }
+            if (Files.deleteIfExists(path)) {
+                log.debug("Deleted orphaned file {} ({} bytes)", path, size);
+                return size;
+            }
+            return -1;
+        } catch (IOException ex) {
+            log.warn("Could not collect orphaned file {}: {}", path, ex.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * Regular files of a store after a cursor, in path order compared name by name. Directories are listed
+     * lazily when the walk reaches them, and a directory whose whole subtree sorts before the cursor is skipped
+     * without being listed.
+     */
+    static final class StoreWalker {
+
+        private static final Comparator<Path> PATH_ORDER = (a, b) -> {
+            for (int i = 0; i < Math.min(a.getNameCount(), b.getNameCount()); i++) {
+                int names = a.getName(i).toString().compareTo(b.getName(i).toString());
+                if (names != 0) {
+                    return names;
+                }
+            }
+            return Integer.compare(a.getNameCount(), b.getNameCount());
+        };
+
+        private final Path root;
+        private final Path cursor; // relative to root, null to start from the beginning
+        private final Deque<Iterator<Path>> pending = new ArrayDeque<>();
+
+        StoreWalker(Path root, Path cursor) {
+            this.root = root;
+            this.cursor = cursor;
+            pending.push(list(root).iterator());
+        }
+
+        /**
+         * The next file after the cursor, or null at the end of the store.
+         */
+        Path next() {
+            while (!pending.isEmpty()) {
+                Iterator<Path> entries = pending.peek();
+                if (!entries.hasNext()) {
+                    pending.pop();
+                    continue;
+                }
+                Path path = entries.next();
+                Path relative = root.relativize(path);
+                boolean afterCursor = cursor == null || PATH_ORDER.compare(relative, cursor) > 0;
+                if (Files.isDirectory(path)) {
+                    if (afterCursor || cursor.startsWith(relative)) {
+                        pending.push(list(path).iterator());
+                    }
+                } else if (afterCursor && Files.isRegularFile(path)) {
+                    return path;
+                }
+            }
+            return null;
+        }
+
+        private static List<Path> list(Path directory) {
+            try (Stream<Path> entries = Files.list(directory)) {
+                return entries.sorted(Comparator.comparing(path -> path.getFileName().toString())).toList();
+            } catch (IOException | UncheckedIOException ex) {
+                log.error("Could not list directory {}", directory, ex);
+                return List.of();
+            }
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.richardmogou.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Maintains the monthly partitions of {@code notifications} and {@code messages} (migration V6, PostgreSQL only).
+ * <p>
+ * Each run creates the partitions of the coming months and applies retention to past ones: a notification month
+ * past {@code notifications.retention.read-months} loses its read rows, and the whole partition is detached once
+ * it holds no unread row or is past {@code notifications.retention.unread-months}. Messages are kept unless
+ * {@code messages.retention.months} is set. Removed rows are copied to the archive tables first in archive mode;
+ * compacted partitions are vacuumed so the hot tables stay bounded on disk too.
+ * <p>
+ * A month whose partition cannot be created is logged and counted ({@code stagesys.partitions.maintenance.failures})
+ * and retried on the next run; the other months and the retention steps still run. Rows that already fell into
+ * the default partition are moved into the month when it is created (migration V9).
+ */
+@Service
+@RequiredArgsConstructor
+public class PartitionMaintenanceService {
+
+    private static final Logger log = LoggerFactory.getLogger(PartitionMaintenanceService.class);
+
+    static final String NOTIFICATIONS = "notifications";
+    static final String MESSAGES = "messages";
+    private static final Pattern MONTH_PARTITION = Pattern.compile("_y(\\d{4})m(\\d{2})$");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${partitions.maintenance.enabled:true}")
+    private boolean enabled;
+
+    @Value("${partitions.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${partitions.retention.mode:archive}")
+    private String retentionMode;
+
+    @Value("${notifications.retention.read-months:6}")
+    private int notificationReadMonths;
+
+    @Value("${notifications.retention.unread-months:12}")
+    private int notificationUnreadMonths;
+
+    @Value("${messages.retention.months:0}")
+    private int messageMonths;
+
+    private volatile boolean partitioned;
+    private final Map<String, AtomicLong> hotRows = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        partitioned = enabled && isPartitionedSchema();
+        if (!partitioned) {
+            log.info("Partition maintenance disabled: {}", enabled ? "notifications/messages are not partitioned" : "turned off");
+            return;
+        }
+        for (String table : List.of(NOTIFICATIONS, MESSAGES)) {
+            AtomicLong rows = hotRows.computeIfAbsent(table, key -> new AtomicLong());
+            Gauge.builder("stagesys.partitions.hot.rows", rows, AtomicLong::get)
+                    .tag("table", table)
+                    .description("Estimated rows in the partitioned table")
+                    .register(meterRegistry);
+        }
+        // Upcoming months right away, so new rows never land in the default partition; retention waits for the schedule
+        createUpcomingPartitions(YearMonth.now());
+        refreshHotRowEstimates();
+    }
+
+    @Scheduled(cron = "${partitions.maintenance.cron:0 30 3 * * *}")
+    public void maintain() {
+        if (!partitioned) {
+            return;
+        }
+        YearMonth current = YearMonth.now();
+        createUpcomingPartitions(current);
+        // Each step runs on its own: a failing one is retried on the next run without holding back the others
+        runStep(NOTIFICATIONS, "retention", () -> applyNotificationRetention(current));
+        if (messageMonths > 0) {
+            runStep(MESSAGES, "retention", () -> applyMessageRetention(current));
+        }
+        runStep("all", "estimates", this::refreshHotRowEstimates);
+    }
+
+    private void createUpcomingPartitions(YearMonth current) {
+        for (String table : List.of(NOTIFICATIONS, MESSAGES)) {
+            for (int i = 0; i <= monthsAhead; i++) {
+                LocalDate month = current.plusMonths(i).atDay(1);
+                runStep(table, "create", () -> {
+                    Boolean created = jdbcTemplate.queryForObject(
+                            "SELECT stagesys_ensure_month_partition(?, ?)", Boolean.class, table, month);
+                    if (Boolean.TRUE.equals(created)) {
+                        log.info("Created partition of {} for {}", table, YearMonth.from(month));
+                    }
+                });
+            }
+        }
+    }
+
+    private void runStep(String table, String step, Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            meterRegistry.counter("stagesys.partitions.maintenance.failures", "table", table, "step", step).increment();
+            log.error("Partition maintenance step '{}' failed for {}; it will be retried on the next run", step, table, e);
+        }
+    }
+
+    private void applyNotificationRetention(YearMonth current) {
+        YearMonth readCutoff = current.minusMonths(notificationReadMonths);
+        YearMonth unreadCutoff = current.minusMonths(Math.max(notificationUnreadMonths, notificationReadMonths));
+        for (String partition : partitionsOf(NOTIFICATIONS)) {
+            YearMonth month = monthOf(partition);
+            if (month == null || !month.isBefore(readCutoff)) {
+                continue;
+            }
+            boolean hasUnread = Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                    "SELECT EXISTS (SELECT 1 FROM " + partition + " WHERE NOT is_read)", Boolean.class));
+            if (!hasUnread || month.isBefore(unreadCutoff)) {
+                removePartition(NOTIFICATIONS, partition);
+            } else {
+                compact(NOTIFICATIONS, partition, "is_read");
+            }
+        }
+        // Rows that fell into the default partition follow the read retention only
+        compact(NOTIFICATIONS, NOTIFICATIONS + "_default",
+                "is_read AND created_at < '" + readCutoff.atDay(1) + "'");
+    }
+
+    private void applyMessageRetention(YearMonth current) {
+        YearMonth cutoff = current.minusMonths(messageMonths);
+        for (String partition : partitionsOf(MESSAGES)) {
+            YearMonth month = monthOf(partition);
+            if (month != null && month.isBefore(cutoff)) {
+                removePartition(MESSAGES, partition);
+            }
+        }
+    }
+
+    /**
+     * Detaches a whole month, archiving its rows first in archive mode.
+     */
+    private void removePartition(String table, String partition) {
+        Long rows = transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("ALTER TABLE " + table + " DETACH PARTITION " + partition);
+            long count = archive(table, partition, "TRUE");
+            jdbcTemplate.execute("DROP TABLE " + partition);
+            return count;
+        });
+        recordRetention(table, rows);
+        log.info("Removed partition {} ({} rows, mode {})", partition, rows, retentionMode);
+    }
+
+    /**
+     * Deletes the rows matching the condition from one partition, then vacuums it.
+     */
+    private void compact(String table, String partition, String condition) {
+        Integer deleted = transactionTemplate.execute(status -> {
+            archive(table, partition, condition);
+            return jdbcTemplate.update("DELETE FROM " + partition + " WHERE " + condition);
+        });
+        if (deleted != null && deleted > 0) {
+            // VACUUM cannot run in a transaction; outside one, this statement runs in auto-commit
+            jdbcTemplate.execute("VACUUM (ANALYZE) " + partition);
+            recordRetention(table, (long) deleted);
+            log.info("Compacted partition {}: {} rows removed (mode {})", partition, deleted, retentionMode);
+        }
+    }
+
+    private long archive(String table, String partition, String condition) {
+        if (!"archive".equalsIgnoreCase(retentionMode)) {
+            return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + partition + " WHERE " + condition, Long.class);
+        }
+        return jdbcTemplate.update("INSERT INTO " + table + "_archive SELECT * FROM " + partition + " WHERE " + condition);
+    }
+
+    private void recordRetention(String table, Long rows) {
+        if (rows != null && rows > 0) {
+            meterRegistry.counter("stagesys.partitions.retention.rows", "table", table, "mode", retentionMode.toLowerCase())
+                    .increment(rows);
+        }
+    }
+
+    private void refreshHotRowEstimates() {
+        for (String table : List.of(NOTIFICATIONS, MESSAGES)) {
+            Long rows = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(SUM(GREATEST(c.reltuples, 0)), 0)::BIGINT FROM pg_inherits i " +
+                            "JOIN pg_class c ON c.oid = i.inhrelid WHERE i.inhparent = ?::regclass", Long.class, table);
+            hotRows.get(table).set(rows != null ? rows : 0);
+        }
+    }
+
+    private List<String> partitionsOf(String table) {
+        return jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                        "WHERE i.inhparent = ?::regclass ORDER BY c.relname", String.class, table);
+    }
+
+    static YearMonth monthOf(String partition) {
+        Matcher matcher = MONTH_PARTITION.matcher(partition);
+        return matcher.find()
+                ? YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)))
+                : null;
+    }
+
+    private boolean isPartitionedSchema() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equalsIgnoreCase(product)) {
+            return false;
+        }
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass(?))", Boolean.class, NOTIFICATIONS));
+    }
+}
@@ -20,6 +20,13 @@ public class PdfGenerationService {
     private static final Logger log = LoggerFactory.getLogger(PdfGenerationService.class);
     private static final String AGREEMENTS_DIR = "agreements";
 
+    /**
+     * Directory the agreement PDFs are written to. Stored paths are this directory resolved against the filename.
+     */
+    public Path getAgreementsDirectory() {
+        return Paths.get(AGREEMENTS_DIR);
+    }
+
     public String generateAgreementPdf(Application application) throws IOException {
         log.info("Generating PDF for application ID: {}", application.getId());
         
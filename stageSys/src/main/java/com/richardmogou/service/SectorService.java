@@ -20,6 +20,8 @@ import java.util.stream.Collectors;
 public class SectorService {
 
     private final SectorRepository sectorRepository;
+    private final EntityCacheEvictionService cacheEvictionService;
+    private final CatalogueResponseCache catalogueResponseCache;
 
     @Transactional(readOnly = true)
     public List<SectorDto> getAllSectors() {
@@ -42,6 +44,8 @@ public class SectorService {
        Sector sector = new Sector();
        sector.setName(sectorDto.getName());
        Sector savedSector = sectorRepository.save(sector);
+       cacheEvictionService.evict(Sector.class, savedSector.getId());
+       catalogueResponseCache.invalidate(CatalogueResponseCache.Catalogue.SECTORS);
        log.info("Sector created successfully with ID: {}", savedSector.getId());
        return SectorDto.fromEntity(savedSector);
    }
@@ -59,6 +63,8 @@ public class SectorService {
 
        sector.setName(sectorDto.getName());
        Sector updatedSector = sectorRepository.save(sector);
+       cacheEvictionService.evict(Sector.class, updatedSector.getId());
+       catalogueResponseCache.invalidate(CatalogueResponseCache.Catalogue.SECTORS);
        log.info("Sector updated successfully for ID: {}", updatedSector.getId());
        return SectorDto.fromEntity(updatedSector);
    }
@@ -72,6 +78,8 @@ public class SectorService {
        // TODO: Check if sector is in use by any companies before deleting?
        try {
            sectorRepository.deleteById(sectorId);
+           cacheEvictionService.evict(Sector.class, sectorId);
+           catalogueResponseCache.invalidate(CatalogueResponseCache.Catalogue.SECTORS);
            log.info("Sector deleted successfully for ID: {}", sectorId);
        } catch (Exception e) {
             log.error("Error deleting sector ID {}: {}", sectorId, e.getMessage(), e);
@@ -22,6 +22,8 @@ public class SkillService {
     // Logger should be declared inside the class
     private static final Logger log = LoggerFactory.getLogger(SkillService.class);
     private final SkillRepository skillRepository;
+    private final EntityCacheEvictionService cacheEvictionService;
+    private final CatalogueResponseCache catalogueResponseCache;
 
     @Transactional(readOnly = true)
     public List<SkillDto> getAllSkills() {
@@ -43,6 +45,8 @@ public class SkillService {
         Skill skill = new Skill();
         skill.setName(skillDto.getName());
         Skill savedSkill = skillRepository.save(skill);
+        cacheEvictionService.evict(Skill.class, savedSkill.getId());
+        catalogueResponseCache.invalidate(CatalogueResponseCache.Catalogue.SKILLS);
         log.info("Skill created successfully with ID: {}", savedSkill.getId());
         return SkillDto.fromEntity(savedSkill);
     }
@@ -60,6 +64,8 @@ public class SkillService {
 
         skill.setName(skillDto.getName());
         Skill updatedSkill = skillRepository.save(skill);
+        cacheEvictionService.evict(Skill.class, updatedSkill.getId());
+        catalogueResponseCache.invalidate(CatalogueResponseCache.Catalogue.SKILLS);
         log.info("Skill updated successfully for ID: {}", updatedSkill.getId());
         return SkillDto.fromEntity(updatedSkill);
     }
@@ -75,6 +81,8 @@ public class SkillService {
         // For now, allow deletion.
         try {
             skillRepository.deleteById(skillId);
+            cacheEvictionService.evict(Skill.class, skillId);
+            catalogueResponseCache.invalidate(CatalogueResponseCache.Catalogue.SKILLS);
             log.info("Skill deleted successfully for ID: {}", skillId);
         } catch (Exception e) {
              log.error("Error deleting skill ID {}: {}", skillId, e.getMessage(), e);
@@ -1,9 +1,11 @@
 package com.richardmogou.service.security;
 
+import com.richardmogou.config.tenant.TenantUserDetails;
+import com.richardmogou.config.tenant.Tenants;
+import com.richardmogou.entity.School;
 import com.richardmogou.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -33,10 +35,12 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         // Convert our User entity's role to Spring Security's GrantedAuthority
         SimpleGrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + user.getRole().name()); // Prefix with ROLE_ is standard
 
-        return new User(
+        School school = Tenants.schoolOf(user);
+        return new TenantUserDetails(
                 user.getEmail(),
                 user.getPassword(),
-                Collections.singletonList(authority)
+                Collections.singletonList(authority),
+                school != null ? school.getId() : null
                 // You can add more flags here if needed (e.g., account non-expired, credentials non-expired, account non-locked)
                 // based on your User entity fields if you add them.
                 // user.isEnabled(), true, true, true, Collections.singletonList(authority)
@@ -17,9 +17,11 @@ public class InternshipOfferSpecification {
         return (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
 
-            // Ensure fetches are efficient if not already handled by default EAGER/LAZY settings
-            // query.distinct(true); // Use if joins cause duplicates
-            // root.fetch("company", JoinType.LEFT); // Example fetch
+            // Listings render the company, so fetch it with the page query (to-one, no duplicates).
+            // The count query of a page selects Long and must not fetch.
+            if (query != null && query.getResultType() != Long.class && query.getResultType() != long.class) {
+                root.fetch("company", JoinType.INNER);
+            }
 
             // Filter by Domain
             if (StringUtils.hasText(filters.get("domain"))) {
@@ -0,0 +1,134 @@
+-- Schema as created by hibernate ddl-auto=update before migrations were introduced.
+-- Databases that already have it are baselined at version 3 (spring.flyway.baseline-version) and skip V1-V3.
+
+CREATE TABLE schools (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(255) NOT NULL,
+    description TEXT,
+    address     VARCHAR(255),
+    website     VARCHAR(255),
+    CONSTRAINT uk_schools_name UNIQUE (name)
+);
+
+CREATE TABLE faculties (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(255) NOT NULL,
+    school_id   BIGINT NOT NULL REFERENCES schools (id),
+    description TEXT
+);
+
+CREATE TABLE users (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    first_name   VARCHAR(255) NOT NULL,
+    last_name    VARCHAR(255) NOT NULL,
+    email        VARCHAR(255) NOT NULL,
+    password     VARCHAR(255) NOT NULL,
+    role         VARCHAR(255) NOT NULL,
+    enabled      BOOLEAN DEFAULT TRUE NOT NULL,
+    created_at   TIMESTAMP(6) NOT NULL,
+    updated_at   TIMESTAMP(6) NOT NULL,
+    phone_number VARCHAR(255),
+    school_id    BIGINT REFERENCES schools (id),
+    faculty_id   BIGINT REFERENCES faculties (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE companies (
+    id                      BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name                    VARCHAR(255) NOT NULL,
+    description             TEXT,
+    website                 VARCHAR(255),
+    address                 VARCHAR(255),
+    industry_sector         VARCHAR(255),
+    primary_contact_user_id BIGINT REFERENCES users (id),
+    created_at              TIMESTAMP(6) NOT NULL,
+    updated_at              TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE domains (
+    id   BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    CONSTRAINT uk_domains_name UNIQUE (name)
+);
+
+CREATE TABLE sectors (
+    id   BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    CONSTRAINT uk_sectors_name UNIQUE (name)
+);
+
+CREATE TABLE skills (
+    id   BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    CONSTRAINT uk_skills_name UNIQUE (name)
+);
+
+CREATE TABLE internship_offers (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title           VARCHAR(255) NOT NULL,
+    description     TEXT NOT NULL,
+    required_skills TEXT,
+    domain          VARCHAR(255),
+    location        VARCHAR(255),
+    duration        VARCHAR(255),
+    start_date      DATE,
+    status          VARCHAR(255) NOT NULL,
+    company_id      BIGINT NOT NULL REFERENCES companies (id),
+    created_at      TIMESTAMP(6) NOT NULL,
+    updated_at      TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE applications (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    student_user_id     BIGINT NOT NULL REFERENCES users (id),
+    internship_offer_id BIGINT NOT NULL REFERENCES internship_offers (id),
+    cv_path             VARCHAR(255) NOT NULL,
+    cover_letter        TEXT,
+    status              VARCHAR(255) NOT NULL,
+    application_date    TIMESTAMP(6) NOT NULL,
+    company_feedback    TEXT,
+    created_at          TIMESTAMP(6) NOT NULL,
+    updated_at          TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE internship_agreements (
+    id                        BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    application_id            BIGINT NOT NULL REFERENCES applications (id),
+    agreement_pdf_path        VARCHAR(255) NOT NULL,
+    status                    VARCHAR(255) NOT NULL,
+    faculty_validator_user_id BIGINT REFERENCES users (id),
+    admin_approver_user_id    BIGINT REFERENCES users (id),
+    faculty_validation_date   TIMESTAMP(6),
+    admin_approval_date       TIMESTAMP(6),
+    faculty_rejection_reason  TEXT,
+    admin_rejection_reason    TEXT,
+    signed_by_student         BOOLEAN,
+    signed_by_company         BOOLEAN,
+    signed_by_faculty         BOOLEAN,
+    student_signature_date    TIMESTAMP(6),
+    company_signature_date    TIMESTAMP(6),
+    faculty_signature_date    TIMESTAMP(6),
+    created_at                TIMESTAMP(6) NOT NULL,
+    updated_at                TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_agreements_application UNIQUE (application_id)
+);
+
+CREATE TABLE messages (
+    id                     BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    sender_user_id         BIGINT NOT NULL REFERENCES users (id),
+    receiver_user_id       BIGINT NOT NULL REFERENCES users (id),
+    content                TEXT NOT NULL,
+    timestamp              TIMESTAMP(6) NOT NULL,
+    is_read                BOOLEAN DEFAULT FALSE NOT NULL,
+    related_application_id BIGINT REFERENCES applications (id)
+);
+
+CREATE TABLE notifications (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    recipient_user_id BIGINT NOT NULL REFERENCES users (id),
+    message           VARCHAR(255) NOT NULL,
+    type              VARCHAR(255) NOT NULL,
+    is_read           BOOLEAN DEFAULT FALSE NOT NULL,
+    link              VARCHAR(255),
+    created_at        TIMESTAMP(6) NOT NULL
+);
@@ -0,0 +1,52 @@
+-- Tables and columns added while the schema was still managed by ddl-auto=update.
+-- IF NOT EXISTS throughout: baselined databases may already have them.
+
+ALTER TABLE internship_agreements ADD COLUMN IF NOT EXISTS status_changed_at TIMESTAMP(6);
+ALTER TABLE internship_agreements ADD COLUMN IF NOT EXISTS state_deadline TIMESTAMP(6);
+ALTER TABLE internship_agreements ADD COLUMN IF NOT EXISTS escalated_at TIMESTAMP(6);
+ALTER TABLE internship_agreements ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE internship_agreements ADD COLUMN IF NOT EXISTS student_faculty_id BIGINT REFERENCES faculties (id);
+
+CREATE INDEX IF NOT EXISTS idx_agreements_faculty_status_created
+    ON internship_agreements (student_faculty_id, status, created_at);
+CREATE INDEX IF NOT EXISTS idx_agreements_state_deadline ON internship_agreements (state_deadline);
+
+CREATE TABLE IF NOT EXISTS faculty_work_queue (
+    faculty_id    BIGINT PRIMARY KEY,
+    pending_count BIGINT NOT NULL,
+    updated_at    TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS agreement_transitions (
+    id                        BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    agreement_id              BIGINT NOT NULL,
+    event                     VARCHAR(255) NOT NULL,
+    from_status               VARCHAR(255),
+    to_status                 VARCHAR(255) NOT NULL,
+    actor_user_id             BIGINT,
+    actor_role                VARCHAR(255),
+    faculty_id                BIGINT,
+    millis_in_previous_status BIGINT,
+    occurred_at               TIMESTAMP(6) NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_agreement_transitions_agreement ON agreement_transitions (agreement_id, occurred_at);
+CREATE INDEX IF NOT EXISTS idx_agreement_transitions_occurred ON agreement_transitions (occurred_at, from_status);
+
+CREATE TABLE IF NOT EXISTS application_cv_texts (
+    application_id BIGINT PRIMARY KEY REFERENCES applications (id) ON DELETE CASCADE,
+    company_id     BIGINT NOT NULL,
+    content        TEXT,
+    page_count     INTEGER,
+    extracted_at   TIMESTAMP(6) NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_cv_texts_company ON application_cv_texts (company_id);
+
+CREATE TABLE IF NOT EXISTS application_scores (
+    application_id BIGINT PRIMARY KEY REFERENCES applications (id) ON DELETE CASCADE,
+    offer_id       BIGINT NOT NULL,
+    score          FLOAT(53) NOT NULL,
+    matched_skills VARCHAR(1000),
+    skills_hash    INTEGER NOT NULL,
+    computed_at    TIMESTAMP(6) NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_application_scores_offer_score ON application_scores (offer_id, score);
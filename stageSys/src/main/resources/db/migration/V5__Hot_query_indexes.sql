@@ -0,0 +1,27 @@
+-- Indexes for the hot query predicates. Plans are guarded by QueryPlanRegressionTest; names match the
+-- @Index/@UniqueConstraint declarations on the entities.
+
+-- existsByStudentAndInternshipOffer and the student's application list; one application per student and offer.
+-- Fails if duplicates exist: resolve them (keep the oldest application) before migrating.
+ALTER TABLE applications
+    ADD CONSTRAINT uk_applications_student_offer UNIQUE (student_user_id, internship_offer_id);
+-- Applications of an offer (company review screens, ranking)
+CREATE INDEX idx_applications_offer_created ON applications (internship_offer_id, created_at);
+
+-- Unread badge count, unread list and mark-all-read
+CREATE INDEX idx_notifications_recipient_read_created ON notifications (recipient_user_id, is_read, created_at);
+-- Notification page of a user, newest first
+CREATE INDEX idx_notifications_recipient_created ON notifications (recipient_user_id, created_at);
+
+-- Conversation between two users in time order (both directions are two scans of this index)
+CREATE INDEX idx_messages_sender_receiver_timestamp ON messages (sender_user_id, receiver_user_id, timestamp);
+-- Unread messages of a receiver: a small partial index, since almost every message ends up read
+CREATE INDEX idx_messages_receiver_unread ON messages (receiver_user_id) WHERE is_read = FALSE;
+
+-- Offer listings by status, newest first (public listing, admin moderation)
+CREATE INDEX idx_offers_status_created ON internship_offers (status, created_at);
+-- Company's own offers
+CREATE INDEX idx_offers_company_status ON internship_offers (company_id, status);
+
+-- Admin approval queue and agreement listings by status
+CREATE INDEX idx_agreements_status_created ON internship_agreements (status, created_at);
@@ -0,0 +1,86 @@
+-- Monthly range partitioning of notifications (created_at) and messages (timestamp), PostgreSQL 12+.
+-- Partitions are named <table>_yYYYYmMM; PartitionMaintenanceService creates upcoming months and applies retention.
+-- The primary key must include the partition key; ids still come from one identity sequence per table.
+
+CREATE OR REPLACE FUNCTION stagesys_ensure_month_partition(parent TEXT, month DATE) RETURNS BOOLEAN AS $$
+DECLARE
+    first_day DATE := date_trunc('month', month)::DATE;
+    partition_name TEXT := parent || '_y' || to_char(first_day, 'YYYY') || 'm' || to_char(first_day, 'MM');
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+    EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, parent, first_day, (first_day + INTERVAL '1 month')::DATE);
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- notifications
+ALTER TABLE notifications RENAME TO notifications_unpartitioned;
+ALTER INDEX idx_notifications_recipient_read_created RENAME TO idx_notifications_unpartitioned_read;
+ALTER INDEX idx_notifications_recipient_created RENAME TO idx_notifications_unpartitioned_created;
+
+CREATE TABLE notifications (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    recipient_user_id BIGINT NOT NULL REFERENCES users (id),
+    message           VARCHAR(255) NOT NULL,
+    type              VARCHAR(255) NOT NULL,
+    is_read           BOOLEAN DEFAULT FALSE NOT NULL,
+    link              VARCHAR(255),
+    created_at        TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+-- Catches rows outside the created months (e.g. clock skew) instead of failing the insert
+CREATE TABLE notifications_default PARTITION OF notifications DEFAULT;
+
+CREATE INDEX idx_notifications_recipient_read_created ON notifications (recipient_user_id, is_read, created_at);
+CREATE INDEX idx_notifications_recipient_created ON notifications (recipient_user_id, created_at);
+
+SELECT stagesys_ensure_month_partition('notifications', month::DATE)
+FROM generate_series(
+        date_trunc('month', LEAST(COALESCE((SELECT MIN(created_at) FROM notifications_unpartitioned), now()), now())),
+        date_trunc('month', now()) + INTERVAL '3 months',
+        INTERVAL '1 month') AS month;
+
+INSERT INTO notifications (id, recipient_user_id, message, type, is_read, link, created_at)
+SELECT id, recipient_user_id, message, type, is_read, link, created_at FROM notifications_unpartitioned;
+SELECT setval(pg_get_serial_sequence('notifications', 'id'), COALESCE((SELECT MAX(id) FROM notifications), 0) + 1, FALSE);
+DROP TABLE notifications_unpartitioned;
+
+-- messages
+ALTER TABLE messages RENAME TO messages_unpartitioned;
+ALTER INDEX idx_messages_sender_receiver_timestamp RENAME TO idx_messages_unpartitioned_conversation;
+ALTER INDEX idx_messages_receiver_unread RENAME TO idx_messages_unpartitioned_unread;
+
+CREATE TABLE messages (
+    id                     BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    sender_user_id         BIGINT NOT NULL REFERENCES users (id),
+    receiver_user_id       BIGINT NOT NULL REFERENCES users (id),
+    content                TEXT NOT NULL,
+    timestamp              TIMESTAMP(6) NOT NULL,
+    is_read                BOOLEAN DEFAULT FALSE NOT NULL,
+    related_application_id BIGINT REFERENCES applications (id),
+    PRIMARY KEY (id, timestamp)
+) PARTITION BY RANGE (timestamp);
+CREATE TABLE messages_default PARTITION OF messages DEFAULT;
+
+CREATE INDEX idx_messages_sender_receiver_timestamp ON messages (sender_user_id, receiver_user_id, timestamp);
+CREATE INDEX idx_messages_receiver_unread ON messages (receiver_user_id) WHERE is_read = FALSE;
+
+SELECT stagesys_ensure_month_partition('messages', month::DATE)
+FROM generate_series(
+        date_trunc('month', LEAST(COALESCE((SELECT MIN(timestamp) FROM messages_unpartitioned), now()), now())),
+        date_trunc('month', now()) + INTERVAL '3 months',
+        INTERVAL '1 month') AS month;
+
+INSERT INTO messages (id, sender_user_id, receiver_user_id, content, timestamp, is_read, related_application_id)
+SELECT id, sender_user_id, receiver_user_id, content, timestamp, is_read, related_application_id FROM messages_unpartitioned;
+SELECT setval(pg_get_serial_sequence('messages', 'id'), COALESCE((SELECT MAX(id) FROM messages), 0) + 1, FALSE);
+DROP TABLE messages_unpartitioned;
+
+-- Rows removed by retention in archive mode (partitions.retention.mode=archive); never read by the application
+CREATE TABLE notifications_archive (LIKE notifications INCLUDING DEFAULTS);
+CREATE INDEX idx_notifications_archive_recipient ON notifications_archive (recipient_user_id, created_at);
+CREATE TABLE messages_archive (LIKE messages INCLUDING DEFAULTS);
+CREATE INDEX idx_messages_archive_conversation ON messages_archive (sender_user_id, receiver_user_id, timestamp);
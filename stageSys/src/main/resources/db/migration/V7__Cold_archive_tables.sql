@@ -0,0 +1,27 @@
+-- Cold archive of past academic years (ColdArchiveService). Each archive table has exactly the columns of its hot
+-- table, in the same order, followed by archived_at: rows are moved with INSERT ... SELECT hot.*, now().
+-- A migration that adds a column to a hot table must add it to the archive table before archived_at;
+-- ColdArchiveService checks the layouts at startup and stays disabled when they differ.
+-- No foreign keys: archived rows outlive the users and companies they mention.
+
+CREATE TABLE internship_offers_archive (LIKE internship_offers INCLUDING DEFAULTS);
+ALTER TABLE internship_offers_archive ADD COLUMN archived_at TIMESTAMP(6) NOT NULL;
+ALTER TABLE internship_offers_archive ADD PRIMARY KEY (id);
+
+CREATE TABLE applications_archive (LIKE applications INCLUDING DEFAULTS);
+ALTER TABLE applications_archive ADD COLUMN archived_at TIMESTAMP(6) NOT NULL;
+ALTER TABLE applications_archive ADD PRIMARY KEY (id);
+CREATE INDEX idx_applications_archive_offer ON applications_archive (internship_offer_id);
+CREATE INDEX idx_applications_archive_cv ON applications_archive (cv_path);
+
+CREATE TABLE internship_agreements_archive (LIKE internship_agreements INCLUDING DEFAULTS);
+ALTER TABLE internship_agreements_archive ADD COLUMN archived_at TIMESTAMP(6) NOT NULL;
+ALTER TABLE internship_agreements_archive ADD PRIMARY KEY (id);
+CREATE INDEX idx_agreements_archive_status_created ON internship_agreements_archive (status, created_at);
+CREATE INDEX idx_agreements_archive_application ON internship_agreements_archive (application_id);
+CREATE INDEX idx_agreements_archive_pdf ON internship_agreements_archive (agreement_pdf_path);
+
+-- Archived tables are append-only and read rarely: pack pages fully
+ALTER TABLE internship_offers_archive SET (fillfactor = 100);
+ALTER TABLE applications_archive SET (fillfactor = 100);
+ALTER TABLE internship_agreements_archive SET (fillfactor = 100);
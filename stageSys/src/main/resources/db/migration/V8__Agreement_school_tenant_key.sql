@@ -0,0 +1,29 @@
+-- Tenant key of agreements: the student's school, denormalized like student_faculty_id so per-school
+-- listings stay inside one school's range of idx_agreements_school_status_created.
+-- Students without a school fall back to the school of their faculty.
+
+ALTER TABLE internship_agreements ADD COLUMN student_school_id BIGINT REFERENCES schools (id);
+
+UPDATE internship_agreements ia
+SET student_school_id = COALESCE(u.school_id, f.school_id)
+FROM applications a
+JOIN users u ON u.id = a.student_user_id
+LEFT JOIN faculties f ON f.id = u.faculty_id
+WHERE a.id = ia.application_id;
+
+CREATE INDEX idx_agreements_school_status_created ON internship_agreements (student_school_id, status, created_at);
+
+-- The archive table must keep the hot columns in order followed by archived_at (see V7):
+-- add the new column, then move archived_at back to the end.
+ALTER TABLE internship_agreements_archive ADD COLUMN student_school_id BIGINT;
+UPDATE internship_agreements_archive ia
+SET student_school_id = COALESCE(u.school_id, f.school_id)
+FROM applications_archive a
+JOIN users u ON u.id = a.student_user_id
+LEFT JOIN faculties f ON f.id = u.faculty_id
+WHERE a.id = ia.application_id;
+ALTER TABLE internship_agreements_archive RENAME COLUMN archived_at TO archived_at_old;
+ALTER TABLE internship_agreements_archive ADD COLUMN archived_at TIMESTAMP(6);
+UPDATE internship_agreements_archive SET archived_at = archived_at_old;
+ALTER TABLE internship_agreements_archive DROP COLUMN archived_at_old;
+ALTER TABLE internship_agreements_archive ALTER COLUMN archived_at SET NOT NULL;
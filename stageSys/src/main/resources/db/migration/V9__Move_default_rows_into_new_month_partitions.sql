@@ -0,0 +1,50 @@
+-- Creating a month partition fails while the default partition holds rows of that month (e.g. rows written
+-- before maintenance caught up). The rows are now moved: the default partition is detached, the month created,
+-- its rows moved out of the default, and the default reattached, all in the caller's transaction.
+
+CREATE OR REPLACE FUNCTION stagesys_ensure_month_partition(parent TEXT, month DATE) RETURNS BOOLEAN AS $$
+DECLARE
+    first_day DATE := date_trunc('month', month)::DATE;
+    next_day DATE := (date_trunc('month', month) + INTERVAL '1 month')::DATE;
+    partition_name TEXT := parent || '_y' || to_char(first_day, 'YYYY') || 'm' || to_char(first_day, 'MM');
+    key_column TEXT;
+    default_name TEXT;
+    has_rows BOOLEAN := FALSE;
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    SELECT a.attname INTO key_column
+    FROM pg_partitioned_table p
+    JOIN pg_attribute a ON a.attrelid = p.partrelid AND a.attnum = p.partattrs[0]
+    WHERE p.partrelid = parent::regclass;
+
+    SELECT c.relname INTO default_name
+    FROM pg_inherits i
+    JOIN pg_class c ON c.oid = i.inhrelid
+    WHERE i.inhparent = parent::regclass AND pg_get_expr(c.relpartbound, c.oid) = 'DEFAULT';
+
+    IF default_name IS NOT NULL THEN
+        EXECUTE format('SELECT EXISTS (SELECT 1 FROM %I WHERE %I >= %L AND %I < %L)',
+                       default_name, key_column, first_day, key_column, next_day)
+            INTO has_rows;
+    END IF;
+
+    IF NOT has_rows THEN
+        EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                       partition_name, parent, first_day, next_day);
+        RETURN TRUE;
+    END IF;
+
+    EXECUTE format('ALTER TABLE %I DETACH PARTITION %I', parent, default_name);
+    EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, parent, first_day, next_day);
+    EXECUTE format('INSERT INTO %I SELECT * FROM %I WHERE %I >= %L AND %I < %L',
+                   partition_name, default_name, key_column, first_day, key_column, next_day);
+    EXECUTE format('DELETE FROM %I WHERE %I >= %L AND %I < %L',
+                   default_name, key_column, first_day, key_column, next_day);
+    EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I DEFAULT', parent, default_name);
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,26 @@
+package com.richardmogou.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The offer step lets a student apply to every offer once, whatever the offer count.
+ */
+class SyntheticDataGeneratorTest {
+
+    @Test
+    void stepVisitsEveryOfferBeforeRepeating() {
+        for (int offers : new int[]{1, 100, 7919, 2 * 7919, 7920}) {
+            int step = SyntheticDataGenerator.offerStep(offers);
+            Set<Long> visited = new HashSet<>();
+            for (long round = 0; round < offers; round++) {
+                visited.add((3 + round * step) % offers);
+            }
+            assertEquals(offers, visited.size(), "offers=" + offers);
+        }
+    }
+}
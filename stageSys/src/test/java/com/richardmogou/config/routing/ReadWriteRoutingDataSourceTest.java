@@ -0,0 +1,141 @@
+package com.richardmogou.config.routing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Routing between two in-memory H2 databases standing in for the primary and the replica; each holds a
+ * single row naming itself.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(5);
+
+    private MutableClock clock;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        DataSource primary = database("primary");
+        DataSource replica = database("replica");
+        DataSource routing = DataSourceRoutingConfig.routingDataSource(primary, replica, new ReadYourWritesTracker(WINDOW, clock));
+
+        jdbcTemplate = new JdbcTemplate(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsUseTheReplica() {
+        assertEquals("replica", readOnly.execute(status -> server()));
+    }
+
+    @Test
+    void readWriteTransactionsAndAutoCommitUseThePrimary() {
+        assertEquals("primary", readWrite.execute(status -> server()));
+        assertEquals("primary", server());
+    }
+
+    @Test
+    void readsFollowingOwnWriteStayOnThePrimaryForTheWindow() {
+        authenticate("student@example.com");
+        readWrite.executeWithoutResult(status -> server());
+
+        assertEquals("primary", readOnly.execute(status -> server()));
+
+        authenticate("company@example.com");
+        assertEquals("replica", readOnly.execute(status -> server()));
+
+        authenticate("student@example.com");
+        clock.advance(WINDOW);
+        assertEquals("replica", readOnly.execute(status -> server()));
+    }
+
+    @Test
+    void rolledBackWritesDoNotPinTheUser() {
+        authenticate("student@example.com");
+        readWrite.executeWithoutResult(status -> {
+            server();
+            status.setRollbackOnly();
+        });
+
+        assertEquals("replica", readOnly.execute(status -> server()));
+    }
+
+    @Test
+    void anonymousWritesDoNotPinReads() {
+        readWrite.executeWithoutResult(status -> server());
+
+        assertEquals("replica", readOnly.execute(status -> server()));
+    }
+
+    private String server() {
+        return jdbcTemplate.queryForObject("SELECT name FROM server", String.class);
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate setup = new JdbcTemplate(dataSource);
+        setup.execute("CREATE TABLE IF NOT EXISTS server (name VARCHAR(20))");
+        setup.execute("DELETE FROM server");
+        setup.update("INSERT INTO server (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    private static void authenticate(String email) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(email, null, AuthorityUtils.NO_AUTHORITIES));
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
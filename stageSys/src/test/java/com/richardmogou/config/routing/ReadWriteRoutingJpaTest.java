@@ -0,0 +1,112 @@
+package com.richardmogou.config.routing;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Routing through JPA with the request-scoped EntityManager that open-in-view binds, configured with the
+ * Hibernate properties of application.properties: a read-write transaction that follows a read-only one in the
+ * same request must not inherit the replica connection.
+ */
+class ReadWriteRoutingJpaTest {
+
+    private static final String JPA_PROPERTY_PREFIX = "spring.jpa.properties.";
+
+    private LocalContainerEntityManagerFactoryBean factoryBean;
+    private EntityManagerFactory entityManagerFactory;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        DataSource routing = DataSourceRoutingConfig.routingDataSource(
+                database("primary"), database("replica"), new ReadYourWritesTracker(Duration.ZERO, Clock.systemUTC()));
+
+        Map<String, Object> jpaProperties = new HashMap<>();
+        jpaProperties.put("hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        jpaProperties.put("hibernate.boot.allow_jdbc_metadata_access", "false");
+        jpaProperties.put("hibernate.hbm2ddl.auto", "none");
+        String handlingMode = "hibernate.connection.handling_mode";
+        Properties application = PropertiesLoaderUtils.loadProperties(new ClassPathResource("application.properties"));
+        if (application.containsKey(JPA_PROPERTY_PREFIX + handlingMode)) {
+            jpaProperties.put(handlingMode, application.getProperty(JPA_PROPERTY_PREFIX + handlingMode));
+        }
+
+        factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(routing);
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setPackagesToScan(ReadWriteRoutingJpaTest.class.getPackageName());
+        factoryBean.setJpaPropertyMap(jpaProperties);
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        factoryBean.destroy();
+    }
+
+    @Test
+    void readWriteTransactionAfterReadOnlyOneInTheSameRequestUsesThePrimary() {
+        EntityManager requestEntityManager = openInView();
+        try {
+            assertEquals("replica", readOnly.execute(status -> server(requestEntityManager)));
+            assertEquals("primary", readWrite.execute(status -> server(requestEntityManager)));
+            assertEquals("replica", readOnly.execute(status -> server(requestEntityManager)));
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            requestEntityManager.close();
+        }
+    }
+
+    /**
+     * What OpenEntityManagerInViewInterceptor does at the start of a request.
+     */
+    private EntityManager openInView() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        return entityManager;
+    }
+
+    private static String server(EntityManager entityManager) {
+        return (String) entityManager.createNativeQuery("SELECT name FROM server").getSingleResult();
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:routing-jpa-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate setup = new JdbcTemplate(dataSource);
+        setup.execute("CREATE TABLE IF NOT EXISTS server (name VARCHAR(20))");
+        setup.execute("DELETE FROM server");
+        setup.update("INSERT INTO server (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,99 @@
+package com.richardmogou.config.security;
+
+import com.richardmogou.config.tenant.TenantUserDetails;
+import com.richardmogou.entity.User;
+import com.richardmogou.entity.enums.Role;
+import com.richardmogou.repository.UserRepository;
+import com.richardmogou.service.security.JwtService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Principal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * CONNECT frames with a valid token get a session user named after the user ID, which is what
+ * notification pushes are addressed to.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class StompAuthenticationInterceptorTest {
+
+    private static final String SIGNING_KEY = "c3RhZ2VTeXMtdGVzdC1zaWduaW5nLWtleS1mb3ItdGhlLXN0b21wLWludGVyY2VwdG9y";
+
+    @Autowired private TestEntityManager entityManager;
+    @Autowired private UserRepository userRepository;
+
+    private JwtService jwtService;
+    private StompAuthenticationInterceptor interceptor;
+    private User student;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKeyString", SIGNING_KEY);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 60_000L);
+        interceptor = new StompAuthenticationInterceptor(jwtService, this::userDetails, userRepository);
+
+        student = new User();
+        student.setFirstName("Stomp");
+        student.setLastName("Test");
+        student.setEmail("stomp@interceptor.test");
+        student.setPassword("{noop}password");
+        student.setRole(Role.STUDENT);
+        student = entityManager.persist(student);
+    }
+
+    @Test
+    void validTokenNamesTheSessionUserAfterTheUserId() {
+        String token = jwtService.generateToken(userDetails(student.getEmail()));
+
+        Principal user = connect("Bearer " + token);
+
+        assertEquals(student.getId().toString(), user.getName());
+    }
+
+    @Test
+    void connectWithoutTokenStaysAnonymous() {
+        assertNull(connect(null));
+    }
+
+    @Test
+    void invalidTokenIsRefused() {
+        assertThrows(BadCredentialsException.class, () -> connect("Bearer not-a-jwt"));
+    }
+
+    private Principal connect(String authorization) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setSessionId("session-1");
+        if (authorization != null) {
+            accessor.addNativeHeader("Authorization", authorization);
+        }
+        accessor.setLeaveMutable(true);
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        Message<?> sent = interceptor.preSend(message, new ExecutorSubscribableChannel());
+        return StompHeaderAccessor.wrap(sent).getUser();
+    }
+
+    private TenantUserDetails userDetails(String email) {
+        return new TenantUserDetails(email, "password", List.of(new SimpleGrantedAuthority("ROLE_STUDENT")), null);
+    }
+}
@@ -0,0 +1,72 @@
+package com.richardmogou.config.tenant;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class TenantRateLimitFilterTest {
+
+    private static final Long SCHOOL = 7L;
+
+    private final TenantRateLimiter limiter = new TenantRateLimiter(
+            new SimpleMeterRegistry(), true, 0.5, 1, 10, new TenantRateLimiterTest.MutableClock());
+    private final TenantRateLimitFilter filter = new TenantRateLimitFilter(limiter);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void overBudgetRequestsGet429WithRetryAfter() throws Exception {
+        authenticate(SCHOOL);
+
+        MockFilterChain admitted = new MockFilterChain();
+        MockHttpServletResponse ok = filter(admitted);
+        assertEquals(HttpServletResponse.SC_OK, ok.getStatus());
+        assertNotNull(admitted.getRequest());
+        assertEquals(0, limiter.inFlight(SCHOOL)); // released once the chain returned
+
+        MockFilterChain rejected = new MockFilterChain();
+        MockHttpServletResponse tooMany = filter(rejected);
+        assertEquals(429, tooMany.getStatus());
+        assertEquals("2", tooMany.getHeader(HttpHeaders.RETRY_AFTER));
+        assertNull(rejected.getRequest());
+        assertEquals(0, limiter.inFlight(SCHOOL));
+    }
+
+    @Test
+    void requestsWithoutSchoolPassThrough() throws Exception {
+        authenticate(null);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(HttpServletResponse.SC_OK, filter(new MockFilterChain()).getStatus());
+        }
+        SecurityContextHolder.clearContext();
+        assertEquals(HttpServletResponse.SC_OK, filter(new MockFilterChain()).getStatus());
+    }
+
+    private MockHttpServletResponse filter(MockFilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/offers"), response, chain);
+        return response;
+    }
+
+    private static void authenticate(Long schoolId) {
+        TenantUserDetails user = new TenantUserDetails("student@school.test", "password",
+                AuthorityUtils.createAuthorityList("ROLE_STUDENT"), schoolId);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+}
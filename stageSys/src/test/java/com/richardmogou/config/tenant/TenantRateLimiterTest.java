@@ -0,0 +1,130 @@
+package com.richardmogou.config.tenant;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class TenantRateLimiterTest {
+
+    private static final Long SCHOOL = 1L;
+    private static final Long OTHER_SCHOOL = 2L;
+
+    private final MutableClock clock = new MutableClock();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void burstIsAdmittedThenTheRateApplies() {
+        TenantRateLimiter limiter = limiter(10, 3, 100);
+
+        for (int i = 0; i < 3; i++) {
+            assertNull(acquireAndRelease(limiter, SCHOOL));
+        }
+        assertEquals(TenantRateLimiter.Rejection.RATE, limiter.tryAcquire(SCHOOL));
+        // Another school has its own bucket
+        assertNull(acquireAndRelease(limiter, OTHER_SCHOOL));
+        assertEquals(1.0, meterRegistry.counter("stagesys.tenant.requests.rejected", "reason", "rate").count());
+    }
+
+    @Test
+    void tokensRefillWithTimeUpToTheBurst() {
+        TenantRateLimiter limiter = limiter(10, 3, 100);
+        for (int i = 0; i < 3; i++) {
+            acquireAndRelease(limiter, SCHOOL);
+        }
+
+        clock.advance(Duration.ofMillis(100)); // one token at 10 per second
+        assertNull(acquireAndRelease(limiter, SCHOOL));
+        assertEquals(TenantRateLimiter.Rejection.RATE, limiter.tryAcquire(SCHOOL));
+
+        clock.advance(Duration.ofMinutes(1)); // refill is capped at the burst
+        for (int i = 0; i < 3; i++) {
+            assertNull(acquireAndRelease(limiter, SCHOOL));
+        }
+        assertEquals(TenantRateLimiter.Rejection.RATE, limiter.tryAcquire(SCHOOL));
+    }
+
+    @Test
+    void concurrencyCapBoundsInFlightRequests() {
+        TenantRateLimiter limiter = limiter(1000, 1000, 2);
+
+        assertNull(limiter.tryAcquire(SCHOOL));
+        assertNull(limiter.tryAcquire(SCHOOL));
+        assertEquals(TenantRateLimiter.Rejection.CONCURRENCY, limiter.tryAcquire(SCHOOL));
+        assertEquals(2, limiter.inFlight(SCHOOL));
+
+        limiter.release(SCHOOL);
+        assertNull(limiter.tryAcquire(SCHOOL));
+        assertEquals(2, limiter.inFlight(SCHOOL));
+    }
+
+    @Test
+    void rejectedRequestsDoNotHoldAConcurrencySlot() {
+        TenantRateLimiter limiter = limiter(10, 1, 1);
+
+        assertNull(acquireAndRelease(limiter, SCHOOL));
+        assertEquals(TenantRateLimiter.Rejection.RATE, limiter.tryAcquire(SCHOOL));
+        assertEquals(0, limiter.inFlight(SCHOOL));
+
+        clock.advance(Duration.ofSeconds(1));
+        assertNull(limiter.tryAcquire(SCHOOL));
+        assertEquals(TenantRateLimiter.Rejection.CONCURRENCY, limiter.tryAcquire(SCHOOL));
+        assertEquals(1, limiter.inFlight(SCHOOL));
+    }
+
+    @Test
+    void usersWithoutSchoolAndDisabledLimiterAreNotLimited() {
+        TenantRateLimiter limiter = limiter(1, 1, 1);
+        for (int i = 0; i < 5; i++) {
+            assertNull(limiter.tryAcquire(null));
+        }
+
+        TenantRateLimiter disabled = new TenantRateLimiter(meterRegistry, false, 1, 1, 1, clock);
+        for (int i = 0; i < 5; i++) {
+            assertNull(disabled.tryAcquire(SCHOOL));
+        }
+    }
+
+    private TenantRateLimiter limiter(double requestsPerSecond, double burst, int maxConcurrent) {
+        return new TenantRateLimiter(meterRegistry, true, requestsPerSecond, burst, maxConcurrent, clock);
+    }
+
+    private static TenantRateLimiter.Rejection acquireAndRelease(TenantRateLimiter limiter, Long schoolId) {
+        TenantRateLimiter.Rejection rejection = limiter.tryAcquire(schoolId);
+        if (rejection == null) {
+            limiter.release(schoolId);
+        }
+        return rejection;
+    }
+
+    static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2025-09-01T08:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
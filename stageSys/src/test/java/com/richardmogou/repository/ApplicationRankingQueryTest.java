@@ -0,0 +1,107 @@
+package com.richardmogou.repository;
+
+import com.richardmogou.entity.Application;
+import com.richardmogou.entity.ApplicationScore;
+import com.richardmogou.entity.Company;
+import com.richardmogou.entity.InternshipOffer;
+import com.richardmogou.entity.User;
+import com.richardmogou.entity.enums.ApplicationStatus;
+import com.richardmogou.entity.enums.InternshipOfferStatus;
+import com.richardmogou.entity.enums.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Score rankings in both directions, unscored applications last either way.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ApplicationRankingQueryTest {
+
+    @Autowired private ApplicationRepository applicationRepository;
+    @Autowired private TestEntityManager entityManager;
+
+    private Company company;
+    private InternshipOffer offer;
+    private Long low;
+    private Long high;
+    private Long unscored;
+
+    @BeforeEach
+    void setUp() {
+        User contact = entityManager.persist(user("contact", Role.COMPANY));
+        company = new Company();
+        company.setName("Ranking Corp");
+        company.setPrimaryContactUser(contact);
+        company = entityManager.persist(company);
+        offer = new InternshipOffer();
+        offer.setTitle("Ranked offer");
+        offer.setDescription("Ranking");
+        offer.setStatus(InternshipOfferStatus.OPEN);
+        offer.setCompany(company);
+        offer = entityManager.persist(offer);
+
+        low = application("low", 0.2);
+        high = application("high", 0.9);
+        unscored = application("unscored", null);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void companyRankingFollowsTheRequestedDirection() {
+        assertEquals(List.of(high, low, unscored), ids(applicationRepository.findRankedByCompanyId(company.getId(), PageRequest.of(0, 10))));
+        assertEquals(List.of(low, high, unscored), ids(applicationRepository.findRankedAscendingByCompanyId(company.getId(), PageRequest.of(0, 10))));
+    }
+
+    @Test
+    void offerRankingFollowsTheRequestedDirection() {
+        assertEquals(List.of(high, low, unscored), ids(applicationRepository.findRankedByOfferId(offer.getId(), PageRequest.of(0, 10))));
+        assertEquals(List.of(low, high, unscored), ids(applicationRepository.findRankedAscendingByOfferId(offer.getId(), PageRequest.of(0, 10))));
+    }
+
+    private Long application(String name, Double score) {
+        Application application = new Application();
+        application.setStudent(entityManager.persist(user(name, Role.STUDENT)));
+        application.setInternshipOffer(offer);
+        application.setCvPath(name + ".pdf");
+        application.setStatus(ApplicationStatus.PENDING);
+        application = entityManager.persist(application);
+        if (score != null) {
+            ApplicationScore applicationScore = new ApplicationScore();
+            applicationScore.setApplication(application);
+            applicationScore.setOfferId(offer.getId());
+            applicationScore.setScore(score);
+            applicationScore.setComputedAt(LocalDateTime.now());
+            entityManager.persist(applicationScore);
+        }
+        return application.getId();
+    }
+
+    private static List<Long> ids(Page<Application> page) {
+        return page.getContent().stream().map(Application::getId).toList();
+    }
+
+    private User user(String name, Role role) {
+        User user = new User();
+        user.setFirstName(name);
+        user.setLastName("Test");
+        user.setEmail(name + "@ranking.test");
+        user.setPassword("{noop}password");
+        user.setRole(role);
+        return user;
+    }
+}
@@ -0,0 +1,79 @@
+package com.richardmogou.repository;
+
+import com.richardmogou.entity.Faculty;
+import com.richardmogou.entity.FacultyWorkQueue;
+import com.richardmogou.entity.School;
+import com.richardmogou.entity.enums.InternshipAgreementStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The row-creation, locking and reconcile statements of the faculty work queue.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class FacultyWorkQueueRepositoryTest {
+
+    private static final long FACULTY_ID = 424242L;
+
+    @Autowired private FacultyWorkQueueRepository workQueueRepository;
+    @Autowired private TestEntityManager entityManager;
+
+    @Test
+    void insertIfAbsentKeepsAnExistingRow() {
+        LocalDateTime now = LocalDateTime.now();
+        assertEquals(1, workQueueRepository.insertIfAbsent(FACULTY_ID, now));
+        assertEquals(1, workQueueRepository.adjustPendingCount(FACULTY_ID, 3, now));
+
+        assertEquals(0, workQueueRepository.insertIfAbsent(FACULTY_ID, now));
+        entityManager.clear();
+        assertEquals(3, pendingCount());
+    }
+
+    @Test
+    void reconcileResetsDriftedCounts() {
+        LocalDateTime now = LocalDateTime.now();
+        workQueueRepository.insertIfAbsent(FACULTY_ID, now);
+        workQueueRepository.adjustPendingCount(FACULTY_ID, 5, now);
+
+        // No agreement of this faculty is pending
+        assertEquals(1, workQueueRepository.reconcilePendingCounts(InternshipAgreementStatus.PENDING_FACULTY_VALIDATION, now));
+        entityManager.clear();
+        assertEquals(0, pendingCount());
+        assertEquals(0, workQueueRepository.reconcilePendingCounts(InternshipAgreementStatus.PENDING_FACULTY_VALIDATION, now));
+    }
+
+    @Test
+    void insertMissingRowsCreatesEachFacultyRowOnce() {
+        School school = new School();
+        school.setName("Work Queue School");
+        school = entityManager.persist(school);
+        Faculty faculty = new Faculty();
+        faculty.setName("Work Queue Faculty");
+        faculty.setSchool(school);
+        Long facultyId = entityManager.persistAndFlush(faculty).getId();
+        LocalDateTime now = LocalDateTime.now();
+
+        assertTrue(workQueueRepository.insertMissingRows(now) >= 1);
+        workQueueRepository.adjustPendingCount(facultyId, 2, now);
+        assertEquals(0, workQueueRepository.insertMissingRows(now));
+
+        assertTrue(workQueueRepository.lockAllRows().contains(facultyId));
+        entityManager.clear();
+        assertEquals(2, workQueueRepository.findById(facultyId).map(FacultyWorkQueue::getPendingCount).orElseThrow());
+    }
+
+    private long pendingCount() {
+        return workQueueRepository.findById(FACULTY_ID).map(FacultyWorkQueue::getPendingCount).orElseThrow();
+    }
+}
@@ -0,0 +1,59 @@
+package com.richardmogou.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs every Flyway migration on an empty PostgreSQL database with the production settings
+ * ({@code ddl-auto=validate}), so a mapping that drifts from the migrations fails the build.
+ * The H2 profile generates its schema from the mappings and cannot catch that. The partition function of V6/V9
+ * is exercised here too, being PostgreSQL-only.
+ */
+@DataJpaTest
+@Testcontainers(disabledWithoutDocker = true)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class FlywayMigrationValidationTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void migrationsApplyAndMatchTheEntityMappings() {
+        // The context only starts once Flyway has migrated and Hibernate has validated the schema
+        List<String> versions = jdbcTemplate.queryForList(
+                "SELECT version FROM flyway_schema_history WHERE success AND version IS NOT NULL ORDER BY installed_rank", String.class);
+        assertEquals(List.of("1", "3", "4", "5", "6", "7", "8", "9"), versions);
+    }
+
+    @Test
+    void creatingAMonthMovesItsRowsOutOfTheDefaultPartition() {
+        Long userId = jdbcTemplate.queryForObject("INSERT INTO users (first_name, last_name, email, password, role, created_at, updated_at) " +
+                "VALUES ('Partition', 'Test', 'partition@flyway.test', 'x', 'STUDENT', now(), now()) RETURNING id", Long.class);
+        // No partition exists for that month yet, so the row lands in the default one
+        jdbcTemplate.update("INSERT INTO notifications (recipient_user_id, message, type, is_read, created_at) " +
+                "VALUES (?, 'far future', 'APPLICATION_UPDATE', FALSE, TIMESTAMP '2099-01-15 10:00:00')", userId);
+
+        assertEquals(Boolean.TRUE, jdbcTemplate.queryForObject(
+                "SELECT stagesys_ensure_month_partition('notifications', DATE '2099-01-01')", Boolean.class));
+
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notifications_y2099m01", Integer.class));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM notifications_default WHERE created_at >= DATE '2099-01-01'", Integer.class));
+        assertEquals(Boolean.TRUE, jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM pg_inherits " +
+                "WHERE inhparent = 'notifications'::regclass AND inhrelid = 'notifications_default'::regclass)", Boolean.class));
+    }
+}
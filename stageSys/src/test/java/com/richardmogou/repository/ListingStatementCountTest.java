@@ -0,0 +1,147 @@
+package com.richardmogou.repository;
+
+import com.richardmogou.dto.ApplicationResponse;
+import com.richardmogou.dto.InternshipOfferResponse;
+import com.richardmogou.entity.Application;
+import com.richardmogou.entity.Company;
+import com.richardmogou.entity.InternshipOffer;
+import com.richardmogou.entity.User;
+import com.richardmogou.entity.enums.ApplicationStatus;
+import com.richardmogou.entity.enums.InternshipOfferStatus;
+import com.richardmogou.entity.enums.Role;
+import com.richardmogou.service.specification.InternshipOfferSpecification;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Guards the listing pages against N+1 selects: whatever the page size, a page costs the page query and its count.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ListingStatementCountTest {
+
+    private static final int COMPANIES = 4;
+    private static final int OFFERS_PER_COMPANY = 6;
+
+    @Autowired private InternshipOfferRepository offerRepository;
+    @Autowired private ApplicationRepository applicationRepository;
+    @Autowired private TestEntityManager entityManager;
+
+    private SessionFactory sessionFactory;
+    private Statistics statistics;
+    private User student;
+
+    @BeforeEach
+    void setUp() {
+        student = entityManager.persist(user("student", Role.STUDENT));
+        List<InternshipOffer> offers = new ArrayList<>();
+        for (int c = 0; c < COMPANIES; c++) {
+            Company company = new Company();
+            company.setName("Company " + c);
+            company.setPrimaryContactUser(entityManager.persist(user("company" + c, Role.COMPANY)));
+            entityManager.persist(company);
+            for (int o = 0; o < OFFERS_PER_COMPANY; o++) {
+                InternshipOffer offer = new InternshipOffer();
+                offer.setTitle("Offer " + c + "-" + o);
+                offer.setDescription("Statement count");
+                offer.setStatus(InternshipOfferStatus.OPEN);
+                offer.setCompany(company);
+                offers.add(entityManager.persist(offer));
+            }
+        }
+        for (InternshipOffer offer : offers) {
+            Application application = new Application();
+            application.setStudent(student);
+            application.setInternshipOffer(offer);
+            application.setCvPath("cv-" + offer.getTitle() + ".pdf");
+            application.setStatus(ApplicationStatus.PENDING);
+            entityManager.persist(application);
+        }
+
+        entityManager.flush();
+        sessionFactory = entityManager.getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class);
+        statistics = sessionFactory.getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void publicOfferPageIsOneSelectPlusCount() {
+        for (int size : new int[]{5, 10, 20}) {
+            Map<String, String> filters = new HashMap<>(Map.of("status", InternshipOfferStatus.OPEN.name()));
+            Pageable pageable = PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+            Page<InternshipOfferResponse> page = countStatements(() -> offerRepository
+                    .findAll(InternshipOfferSpecification.filterBy(filters), pageable)
+                    .map(InternshipOfferResponse::fromEntity));
+
+            assertEquals(size, page.getNumberOfElements());
+            page.getContent().forEach(offer -> assertEquals(offer.getTitle().substring(6, 7), offer.getCompanyName().substring(8)));
+            assertEquals(2, statistics.getPrepareStatementCount(), "statements for an offer page of " + size);
+        }
+    }
+
+    @Test
+    void studentApplicationPageIsOneSelectPlusCount() {
+        for (int size : new int[]{5, 10, 20}) {
+            Pageable pageable = PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "applicationDate"));
+
+            Page<ApplicationResponse> page = countStatements(() -> applicationRepository.findResponsesByStudentId(student.getId(), pageable));
+
+            assertEquals(size, page.getNumberOfElements());
+            page.getContent().forEach(application -> {
+                assertEquals("student", application.getStudentFirstName());
+                assertEquals(application.getOfferTitle().substring(6, 7), application.getCompanyName().substring(8));
+            });
+            assertEquals(COMPANIES * OFFERS_PER_COMPANY, page.getTotalElements());
+            assertEquals(2, statistics.getPrepareStatementCount(), "statements for a student application page of " + size);
+        }
+    }
+
+    @Test
+    void adminApplicationPageIsOneSelectPlusCount() {
+        for (int size : new int[]{5, 10, 20}) {
+            Page<ApplicationResponse> page = countStatements(() -> applicationRepository.findAllResponses(PageRequest.of(0, size)));
+
+            assertEquals(size, page.getNumberOfElements());
+            assertEquals(2, statistics.getPrepareStatementCount(), "statements for an admin application page of " + size);
+        }
+    }
+
+    // Every page starts from an empty persistence context and second-level cache, so each association is a real load
+    private <T> Page<T> countStatements(Supplier<Page<T>> listing) {
+        entityManager.clear();
+        sessionFactory.getCache().evictAllRegions();
+        statistics.clear();
+        return listing.get();
+    }
+
+    private User user(String name, Role role) {
+        User user = new User();
+        user.setFirstName(name);
+        user.setLastName("Test");
+        user.setEmail(name + "@listing.test");
+        user.setPassword("{noop}password");
+        user.setRole(role);
+        return user;
+    }
+}
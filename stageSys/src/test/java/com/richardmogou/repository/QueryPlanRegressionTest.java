@@ -0,0 +1,114 @@
+package com.richardmogou.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Guards the hot query predicates against losing their index: each query's plan must name the index
+ * declared for it, and every non-partial index of the V5 migration must also be declared on the entities.
+ * Plans come from H2 (test profile), whose schema is generated from the mappings.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class QueryPlanRegressionTest {
+
+    private static final String INDEX_MIGRATION = "db/migration/V5__Hot_query_indexes.sql";
+
+    @Autowired private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    void applicationExistenceCheckUsesStudentOfferConstraint() {
+        // existsByStudentAndInternshipOffer
+        assertPlanUses("uk_applications_student_offer",
+                "SELECT a.id FROM applications a WHERE a.student_user_id = 1 AND a.internship_offer_id = 2 FETCH FIRST 1 ROWS ONLY");
+    }
+
+    @Test
+    void applicationsOfOfferUseOfferIndex() {
+        assertPlanUses("idx_applications_offer_created",
+                "SELECT a.id FROM applications a WHERE a.internship_offer_id = 2 ORDER BY a.created_at");
+    }
+
+    @Test
+    void unreadNotificationCountUsesRecipientReadIndex() {
+        // countByRecipientAndIsReadFalse
+        assertPlanUses("idx_notifications_recipient_read_created",
+                "SELECT COUNT(n.id) FROM notifications n WHERE n.recipient_user_id = 1 AND n.is_read = FALSE");
+    }
+
+    @Test
+    void conversationUsesSenderReceiverIndex() {
+        // One direction of findConversation; PostgreSQL combines both directions with a bitmap OR of this index
+        assertPlanUses("idx_messages_sender_receiver_timestamp",
+                "SELECT m.id FROM messages m WHERE m.sender_user_id = 1 AND m.receiver_user_id = 2 ORDER BY m.timestamp");
+    }
+
+    @Test
+    void offerListingByStatusUsesStatusCreatedIndex() {
+        assertPlanUses("idx_offers_status_created",
+                "SELECT o.id FROM internship_offers o WHERE o.status = 'OPEN' ORDER BY o.created_at DESC");
+    }
+
+    @Test
+    void agreementListingByStatusUsesStatusCreatedIndex() {
+        assertPlanUses("idx_agreements_status_created",
+                "SELECT ia.id FROM internship_agreements ia WHERE ia.status = 'PENDING_ADMIN_APPROVAL' ORDER BY ia.created_at");
+    }
+
+    @Test
+    void migrationIndexesAreDeclaredOnEntities() throws IOException {
+        String migration = new ClassPathResource(INDEX_MIGRATION).getContentAsString(StandardCharsets.UTF_8);
+        List<String> indexes = new ArrayList<>();
+        Matcher index = Pattern.compile("CREATE INDEX (\\w+) ON [^;]+;").matcher(migration);
+        while (index.find()) {
+            // Partial indexes cannot be declared through JPA and only exist in PostgreSQL
+            if (!index.group().contains(" WHERE ")) {
+                indexes.add(index.group(1));
+            }
+        }
+        Matcher constraint = Pattern.compile("ADD CONSTRAINT (\\w+) UNIQUE").matcher(migration);
+        assertTrue(constraint.find(), "No unique constraint found in " + INDEX_MIGRATION);
+        assertFalse(indexes.isEmpty(), "No index found in " + INDEX_MIGRATION);
+
+        for (String name : indexes) {
+            Integer count = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.indexes WHERE LOWER(index_name) = ?", Integer.class, name);
+            assertTrue(count != null && count > 0, "Index " + name + " is in the migration but not on the entities");
+        }
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.table_constraints WHERE LOWER(constraint_name) = ?",
+                Integer.class, constraint.group(1));
+        assertTrue(count != null && count > 0, "Constraint " + constraint.group(1) + " is in the migration but not on the entities");
+    }
+
+    private void assertPlanUses(String index, String query) {
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + query, String.class));
+        assertTrue(plan.toLowerCase(Locale.ROOT).contains(index), () -> "Expected " + index + " in plan:\n" + plan);
+    }
+}
@@ -0,0 +1,58 @@
+package com.richardmogou.service;
+
+import com.richardmogou.dto.AgreementSlaStats;
+import com.richardmogou.entity.Faculty;
+import com.richardmogou.entity.enums.InternshipAgreementStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * School percentiles come from the school-level timer, not from one of its faculties.
+ */
+class AgreementSlaTrackerTest {
+
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+    private static final long TEN_DAYS = Duration.ofDays(10).toMillis();
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void schoolStatsCoverEveryFacultyOfTheSchool() {
+        AgreementSlaTracker tracker = new AgreementSlaTracker(new SimpleMeterRegistry(), null);
+        ReflectionTestUtils.setField(tracker, "facultyValidationSla", Duration.ofDays(7));
+        ReflectionTestUtils.setField(tracker, "adminApprovalSla", Duration.ofDays(3));
+        ReflectionTestUtils.setField(tracker, "percentileWindow", Duration.ofHours(24));
+        // Both faculties belong to school 7; pre-resolved so no repository is needed
+        Map<Long, String> schoolByFaculty = (Map<Long, String>) ReflectionTestUtils.getField(tracker, "schoolByFaculty");
+        schoolByFaculty.put(1L, "7");
+        schoolByFaculty.put(2L, "7");
+
+        for (int i = 0; i < 50; i++) {
+            tracker.recordTimeInStatus(InternshipAgreementStatus.PENDING_FACULTY_VALIDATION, faculty(1L), HOUR);
+        }
+        tracker.recordTimeInStatus(InternshipAgreementStatus.PENDING_FACULTY_VALIDATION, faculty(2L), TEN_DAYS);
+
+        List<AgreementSlaStats> stats = tracker.snapshot();
+        AgreementSlaStats school = stats.stream().filter(s -> s.getFacultyId() == null).findFirst().orElseThrow();
+        AgreementSlaStats busyFaculty = stats.stream().filter(s -> "1".equals(s.getFacultyId())).findFirst().orElseThrow();
+
+        assertEquals("7", school.getSchoolId());
+        assertEquals(51, school.getCount());
+        assertTrue(school.getP99Millis() > Duration.ofDays(5).toMillis(), "school p99 includes the slow faculty");
+        assertTrue(busyFaculty.getP99Millis() < Duration.ofDays(1).toMillis(), "faculty p99 is its own");
+        assertEquals(3, stats.size());
+    }
+
+    private static Faculty faculty(Long id) {
+        Faculty faculty = new Faculty();
+        faculty.setId(id);
+        return faculty;
+    }
+}
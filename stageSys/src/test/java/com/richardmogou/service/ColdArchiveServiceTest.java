@@ -0,0 +1,221 @@
+package com.richardmogou.service;
+
+import com.richardmogou.dto.AgreementHistoryEntry;
+import com.richardmogou.dto.ArchiveRunReport;
+import com.richardmogou.entity.Application;
+import com.richardmogou.entity.Company;
+import com.richardmogou.entity.InternshipAgreement;
+import com.richardmogou.entity.InternshipOffer;
+import com.richardmogou.entity.User;
+import com.richardmogou.entity.enums.ApplicationStatus;
+import com.richardmogou.entity.enums.InternshipAgreementStatus;
+import com.richardmogou.entity.enums.InternshipOfferStatus;
+import com.richardmogou.entity.enums.Role;
+import com.richardmogou.repository.ApplicationCvTextRepository;
+import com.richardmogou.repository.ApplicationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Cutoff arithmetic, offer eligibility, the batch move and the cross-store history, on H2. The archive tables are
+ * derived from the generated hot tables here, the way V7 derives them on PostgreSQL.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ColdArchiveServiceTest {
+
+    @Autowired private TestEntityManager entityManager;
+    @Autowired private DataSource dataSource;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private ApplicationRepository applicationRepository;
+    @Autowired private ApplicationCvTextRepository cvTextRepository;
+
+    private JdbcTemplate jdbcTemplate;
+    private ColdArchiveService service;
+    private LocalDateTime cutoff;
+    private User student;
+    private Company company;
+    private int sequence;
+
+    /**
+     * Outside the test transaction: DDL would commit it on H2.
+     */
+    @BeforeAll
+    static void createArchiveTables(@Autowired DataSource dataSource) {
+        JdbcTemplate ddl = new JdbcTemplate(dataSource);
+        for (String table : List.of("internship_offers", "applications", "internship_agreements")) {
+            ddl.execute("CREATE TABLE IF NOT EXISTS " + table + "_archive AS SELECT * FROM " + table + " WITH NO DATA");
+            ddl.execute("ALTER TABLE " + table + "_archive ADD COLUMN IF NOT EXISTS archived_at TIMESTAMP(6) NOT NULL");
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        service = new ColdArchiveService(jdbcTemplate, new TransactionTemplate(transactionManager), new SimpleMeterRegistry(),
+                new ApplicantSearchIndex(applicationRepository, cvTextRepository));
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "academicYearStart", "09-01");
+        ReflectionTestUtils.setField(service, "keepAcademicYears", 2);
+        ReflectionTestUtils.setField(service, "batchSize", 100);
+        ReflectionTestUtils.setField(service, "maxBatchesPerRun", 10);
+        cutoff = service.cutoff(LocalDate.now());
+
+        student = entityManager.persist(user("student", Role.STUDENT));
+        company = new Company();
+        company.setName("Archive Corp");
+        company.setPrimaryContactUser(entityManager.persist(user("company", Role.COMPANY)));
+        company = entityManager.persist(company);
+    }
+
+    @Test
+    void cutoffIsTheStartOfTheOldestKeptAcademicYear() {
+        assertEquals(LocalDateTime.of(2023, 9, 1, 0, 0), service.cutoff(LocalDate.of(2025, 8, 31)));
+        assertEquals(LocalDateTime.of(2024, 9, 1, 0, 0), service.cutoff(LocalDate.of(2025, 9, 1)));
+        assertEquals(LocalDateTime.of(2024, 9, 1, 0, 0), service.cutoff(LocalDate.of(2026, 1, 15)));
+
+        ReflectionTestUtils.setField(service, "keepAcademicYears", 1);
+        assertEquals(LocalDateTime.of(2025, 9, 1, 0, 0), service.cutoff(LocalDate.of(2025, 9, 1)));
+        assertEquals(LocalDateTime.of(2024, 9, 1, 0, 0), service.cutoff(LocalDate.of(2025, 8, 31)));
+    }
+
+    @Test
+    void onlySettledOffersUntouchedSinceTheCutoffAreArchivable() {
+        LocalDateTime old = cutoff.minusMonths(3);
+        Long settled = offer(InternshipOfferStatus.CLOSED, old, ApplicationStatus.ACCEPTED, old, InternshipAgreementStatus.SIGNED, old);
+        Long filledWithoutAgreement = offer(InternshipOfferStatus.FILLED, old, ApplicationStatus.REJECTED, old, null, null);
+        offer(InternshipOfferStatus.OPEN, old, null, null, null, null);
+        offer(InternshipOfferStatus.CLOSED, cutoff.plusDays(1), null, null, null, null);
+        offer(InternshipOfferStatus.CLOSED, old, ApplicationStatus.ACCEPTED, cutoff.plusDays(1), null, null);
+        offer(InternshipOfferStatus.CLOSED, old, ApplicationStatus.ACCEPTED, old, InternshipAgreementStatus.APPROVED, old);
+        offer(InternshipOfferStatus.CLOSED, old, ApplicationStatus.ACCEPTED, old, InternshipAgreementStatus.REJECTED, cutoff.plusDays(1));
+
+        assertEquals(List.of(settled, filledWithoutAgreement), service.findArchivableOffers(cutoff, false));
+    }
+
+    @Test
+    void archiveMovesEligibleOffersAndHistoryPagesOverBothStores() {
+        LocalDateTime old = cutoff.minusMonths(3);
+        Long archived = offer(InternshipOfferStatus.CLOSED, old, ApplicationStatus.ACCEPTED, old, InternshipAgreementStatus.SIGNED, old);
+        Long pending = offer(InternshipOfferStatus.CLOSED, old, ApplicationStatus.ACCEPTED, old, InternshipAgreementStatus.APPROVED, old);
+        offer(InternshipOfferStatus.OPEN, LocalDateTime.now(), ApplicationStatus.ACCEPTED, LocalDateTime.now(),
+                InternshipAgreementStatus.PENDING_FACULTY_VALIDATION, LocalDateTime.now());
+        entityManager.clear();
+
+        service.initialize();
+        assertTrue(service.isAvailable());
+        ArchiveRunReport report = service.archive();
+
+        assertTrue(report.isCompleted());
+        assertEquals(1, report.getOffers());
+        assertEquals(1, report.getApplications());
+        assertEquals(1, report.getAgreements());
+        assertEquals(0, count("SELECT COUNT(*) FROM internship_offers WHERE id = ?", archived));
+        assertEquals(1, count("SELECT COUNT(*) FROM internship_offers_archive WHERE id = ?", archived));
+        assertEquals(1, count("SELECT COUNT(*) FROM internship_offers WHERE id = ?", pending));
+
+        Page<AgreementHistoryEntry> first = service.getAgreementHistory(null, null, null, PageRequest.of(0, 2));
+        assertEquals(3, first.getTotalElements());
+        assertEquals(2, first.getContent().size());
+        Page<AgreementHistoryEntry> second = service.getAgreementHistory(null, null, null, PageRequest.of(1, 2));
+        assertEquals(1, second.getContent().size());
+        assertFalse(first.getContent().get(0).isArchived()); // the current year's agreement is the newest
+        List<AgreementHistoryEntry> all = new ArrayList<>(first.getContent());
+        all.addAll(second.getContent());
+        assertEquals(1, all.stream().filter(AgreementHistoryEntry::isArchived).count());
+        assertEquals(3, all.stream().map(AgreementHistoryEntry::getAgreementId).distinct().count());
+
+        Page<AgreementHistoryEntry> signed = service.getAgreementHistory(InternshipAgreementStatus.SIGNED, null, null, PageRequest.of(0, 10));
+        assertEquals(1, signed.getTotalElements());
+        assertTrue(signed.getContent().get(0).isArchived());
+        assertEquals("student Test", signed.getContent().get(0).getStudentName());
+    }
+
+    /**
+     * Creates an offer with at most one application and agreement, then backdates their update times.
+     */
+    private Long offer(InternshipOfferStatus status, LocalDateTime offerUpdatedAt,
+                       ApplicationStatus applicationStatus, LocalDateTime applicationUpdatedAt,
+                       InternshipAgreementStatus agreementStatus, LocalDateTime agreementUpdatedAt) {
+        int n = ++sequence;
+        InternshipOffer offer = new InternshipOffer();
+        offer.setTitle("Offer " + n);
+        offer.setDescription("Archive test");
+        offer.setStatus(status);
+        offer.setCompany(company);
+        offer = entityManager.persist(offer);
+        Application application = null;
+        InternshipAgreement agreement = null;
+        if (applicationStatus != null) {
+            application = new Application();
+            application.setStudent(student);
+            application.setInternshipOffer(offer);
+            application.setCvPath("cv-" + n + ".pdf");
+            application.setStatus(applicationStatus);
+            application = entityManager.persist(application);
+        }
+        if (agreementStatus != null) {
+            agreement = new InternshipAgreement();
+            agreement.setApplication(application);
+            agreement.setAgreementPdfPath("agreement-" + n + ".pdf");
+            agreement.setStatus(agreementStatus);
+            agreement.setStatusChangedAt(agreementUpdatedAt);
+            agreement = entityManager.persist(agreement);
+        }
+        entityManager.flush();
+
+        backdate("internship_offers", offer.getId(), offerUpdatedAt);
+        if (application != null) {
+            backdate("applications", application.getId(), applicationUpdatedAt);
+        }
+        if (agreement != null) {
+            backdate("internship_agreements", agreement.getId(), agreementUpdatedAt);
+        }
+        return offer.getId();
+    }
+
+    private void backdate(String table, Long id, LocalDateTime updatedAt) {
+        Timestamp at = Timestamp.valueOf(updatedAt);
+        jdbcTemplate.update("UPDATE " + table + " SET created_at = ?, updated_at = ? WHERE id = ?", at, at, id);
+    }
+
+    private long count(String sql, Long id) {
+        Long count = jdbcTemplate.queryForObject(sql, Long.class, id);
+        return count != null ? count : 0;
+    }
+
+    private User user(String name, Role role) {
+        User user = new User();
+        user.setFirstName(name);
+        user.setLastName("Test");
+        user.setEmail(name + "@archive.test");
+        user.setPassword("{noop}password");
+        user.setRole(role);
+        return user;
+    }
+}
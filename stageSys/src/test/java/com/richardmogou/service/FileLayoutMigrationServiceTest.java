@@ -0,0 +1,52 @@
+package com.richardmogou.service;
+
+import com.richardmogou.dto.FileMigrationStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A file that cannot be moved is skipped for the rest of the run instead of stalling it.
+ */
+class FileLayoutMigrationServiceTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void unmovableFileIsSkippedAndTheRunFinishes() throws IOException {
+        FileStorageService storage = new FileStorageService(root.toString(), "sharded");
+        FileLayoutMigrationService migration = new FileLayoutMigrationService(storage);
+        ReflectionTestUtils.setField(migration, "batchSize", 1);
+
+        Files.writeString(storage.flatPath("stuck.pdf"), "stuck");
+        Files.writeString(storage.flatPath("moved.pdf"), "moved");
+        // A regular file where the second-level shard directory should be makes the move fail
+        Path blocker = storage.shardedPath("stuck.pdf").getParent();
+        if (blocker.equals(storage.shardedPath("moved.pdf").getParent())) {
+            throw new IllegalStateException("Test files must shard into different directories");
+        }
+        Files.createDirectories(blocker.getParent());
+        Files.writeString(blocker, "not a directory");
+
+        assertTrue(migration.start());
+        for (int tick = 0; tick < 10 && migration.getStatus().isRunning(); tick++) {
+            migration.migrateNextBatch();
+        }
+
+        FileMigrationStatus status = migration.getStatus();
+        assertFalse(status.isRunning());
+        assertEquals(1, status.getMigratedFiles());
+        assertEquals(1, status.getFailedFiles());
+        assertTrue(Files.exists(storage.shardedPath("moved.pdf")));
+        assertTrue(Files.exists(storage.flatPath("stuck.pdf")));
+    }
+}
@@ -0,0 +1,231 @@
+package com.richardmogou.service;
+
+import com.richardmogou.entity.AgreementTransition;
+import com.richardmogou.entity.Application;
+import com.richardmogou.entity.Company;
+import com.richardmogou.entity.InternshipAgreement;
+import com.richardmogou.entity.InternshipOffer;
+import com.richardmogou.entity.User;
+import com.richardmogou.entity.enums.AgreementEvent;
+import com.richardmogou.entity.enums.ApplicationStatus;
+import com.richardmogou.entity.enums.InternshipAgreementStatus;
+import com.richardmogou.entity.enums.InternshipOfferStatus;
+import com.richardmogou.entity.enums.Role;
+import com.richardmogou.repository.AgreementTransitionRepository;
+import com.richardmogou.repository.ApplicationRepository;
+import com.richardmogou.repository.CompanyRepository;
+import com.richardmogou.repository.FacultyRepository;
+import com.richardmogou.repository.FacultyWorkQueueRepository;
+import com.richardmogou.repository.InternshipAgreementRepository;
+import com.richardmogou.repository.InternshipOfferRepository;
+import com.richardmogou.repository.NotificationRepository;
+import com.richardmogou.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Reproduces the concurrent signing race: student, company and faculty sign the same approved agreement at the
+ * same moment through {@link InternshipAgreementService#signAgreement(Long)}. Each thread commits its own
+ * transaction, so the test itself runs outside one.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class InternshipAgreementConcurrentSigningTest {
+
+    private static final int ROUNDS = 25;
+
+    @Autowired private InternshipAgreementRepository agreementRepository;
+    @Autowired private ApplicationRepository applicationRepository;
+    @Autowired private InternshipOfferRepository offerRepository;
+    @Autowired private CompanyRepository companyRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private AgreementTransitionRepository transitionRepository;
+    @Autowired private FacultyRepository facultyRepository;
+    @Autowired private FacultyWorkQueueRepository workQueueRepository;
+    @Autowired private NotificationRepository notificationRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+    private ExecutorService signers;
+    private InternshipAgreementService agreementService;
+    private User student;
+    private User contact;
+    private User faculty;
+    private Company company;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        signers = Executors.newFixedThreadPool(3);
+        agreementService = agreementService();
+        tx.executeWithoutResult(status -> {
+            student = userRepository.save(user("student", Role.STUDENT));
+            faculty = userRepository.save(user("faculty", Role.FACULTY));
+            contact = userRepository.save(user("company", Role.COMPANY));
+            Company newCompany = new Company();
+            newCompany.setName("Concurrent Corp");
+            newCompany.setPrimaryContactUser(contact);
+            company = companyRepository.save(newCompany);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        signers.shutdownNow();
+        tx.executeWithoutResult(status -> {
+            transitionRepository.deleteAllInBatch();
+            agreementRepository.deleteAllInBatch();
+            applicationRepository.deleteAllInBatch();
+            offerRepository.deleteAllInBatch();
+            companyRepository.deleteAllInBatch();
+            userRepository.deleteAllInBatch();
+        });
+    }
+
+    @Test
+    void concurrentSignersNeverLoseASignatureAndCompleteExactlyOnce() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            Long agreementId = createApprovedAgreement(round);
+            long versionBefore = tx.execute(status -> agreementRepository.findById(agreementId).orElseThrow().getVersion());
+
+            CyclicBarrier start = new CyclicBarrier(3);
+            List<Future<Boolean>> completions = new ArrayList<>();
+            completions.add(signers.submit(sign(agreementId, student, start)));
+            completions.add(signers.submit(sign(agreementId, contact, start)));
+            completions.add(signers.submit(sign(agreementId, faculty, start)));
+            for (Future<Boolean> completion : completions) {
+                assertTrue(completion.get(30, TimeUnit.SECONDS));
+            }
+
+            InternshipAgreement signed = tx.execute(status -> agreementRepository.findById(agreementId).orElseThrow());
+            assertTrue(signed.getSignedByStudent(), "student signature lost in round " + round);
+            assertTrue(signed.getSignedByCompany(), "company signature lost in round " + round);
+            assertTrue(signed.getSignedByFaculty(), "faculty signature lost in round " + round);
+            assertEquals(InternshipAgreementStatus.SIGNED, signed.getStatus(), "SIGNED transition missed in round " + round);
+            List<AgreementTransition> log = transitionRepository.findByAgreementIdOrderByOccurredAtAscIdAsc(agreementId);
+            assertEquals(3, log.stream().filter(entry -> entry.getEvent() == AgreementEvent.SIGN).count(),
+                    "one SIGN entry per signer in round " + round);
+            assertEquals(1, log.stream().filter(entry -> entry.getEvent() == AgreementEvent.COMPLETE_SIGNATURES).count(),
+                    "SIGNED transition must be applied exactly once in round " + round);
+            assertEquals(versionBefore + 4, signed.getVersion());
+        }
+    }
+
+    @Test
+    void staleReadModifyWriteIsRejectedByVersionCheck() {
+        Long agreementId = createApprovedAgreement(0);
+
+        // Two signers read the same state, each sets its own flag and saves the whole entity
+        InternshipAgreement studentCopy = tx.execute(status -> agreementRepository.findById(agreementId).orElseThrow());
+        InternshipAgreement companyCopy = tx.execute(status -> agreementRepository.findById(agreementId).orElseThrow());
+        studentCopy.setSignedByStudent(true);
+        companyCopy.setSignedByCompany(true);
+
+        tx.executeWithoutResult(status -> agreementRepository.save(studentCopy));
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> tx.executeWithoutResult(status -> agreementRepository.save(companyCopy)));
+
+        InternshipAgreement current = tx.execute(status -> agreementRepository.findById(agreementId).orElseThrow());
+        assertTrue(current.getSignedByStudent());
+    }
+
+    private Callable<Boolean> sign(Long agreementId, User signer, CyclicBarrier start) {
+        return () -> {
+            start.await(10, TimeUnit.SECONDS);
+            SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                    signer.getEmail(), null, List.of(new SimpleGrantedAuthority("ROLE_" + signer.getRole().name()))));
+            try {
+                return tx.execute(status -> agreementService.signAgreement(agreementId) != null);
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        };
+    }
+
+    /**
+     * The service wired by hand over the slice's repositories; its transactions are the test's TransactionTemplate.
+     */
+    private InternshipAgreementService agreementService() {
+        UserService userService = new UserService(userRepository);
+        FacultyWorkQueueService workQueueService = new FacultyWorkQueueService(workQueueRepository, agreementRepository);
+        AgreementSlaTracker slaTracker = new AgreementSlaTracker(new SimpleMeterRegistry(), facultyRepository);
+        ReflectionTestUtils.setField(slaTracker, "facultyValidationSla", Duration.ofDays(7));
+        ReflectionTestUtils.setField(slaTracker, "adminApprovalSla", Duration.ofDays(3));
+        ReflectionTestUtils.setField(slaTracker, "percentileWindow", Duration.ofHours(24));
+        NotificationService notificationService = new NotificationService(notificationRepository, userService,
+                new SimpMessagingTemplate(new ExecutorSubscribableChannel()));
+        return new InternshipAgreementService(agreementRepository, applicationRepository, userRepository, userService,
+                new PdfGenerationService(), notificationService, workQueueService,
+                new AgreementStateMachine(transitionRepository, workQueueService, slaTracker), transitionRepository);
+    }
+
+    private Long createApprovedAgreement(int round) {
+        return tx.execute(status -> {
+            InternshipOffer offer = new InternshipOffer();
+            offer.setTitle("Offer " + round);
+            offer.setDescription("Concurrent signing");
+            offer.setStatus(InternshipOfferStatus.OPEN);
+            offer.setCompany(company);
+            offer = offerRepository.save(offer);
+
+            Application application = new Application();
+            application.setStudent(student);
+            application.setInternshipOffer(offer);
+            application.setCvPath("cv-" + round + ".pdf");
+            application.setStatus(ApplicationStatus.ACCEPTED);
+            application = applicationRepository.save(application);
+
+            InternshipAgreement agreement = new InternshipAgreement();
+            agreement.setApplication(application);
+            agreement.setAgreementPdfPath("agreement-" + round + ".pdf");
+            agreement.setFacultyValidator(faculty);
+            agreement.setStatus(InternshipAgreementStatus.APPROVED);
+            agreement.setStatusChangedAt(LocalDateTime.now());
+            return agreementRepository.save(agreement).getId();
+        });
+    }
+
+    private User user(String name, Role role) {
+        User user = new User();
+        user.setFirstName(name);
+        user.setLastName("Test");
+        user.setEmail(name + "@signing.test");
+        user.setPassword("{noop}password");
+        user.setRole(role);
+        return user;
+    }
+}
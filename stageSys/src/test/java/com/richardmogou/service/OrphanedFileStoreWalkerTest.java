@@ -0,0 +1,56 @@
+package com.richardmogou.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Walk order and cursor resumption of the orphaned-file sweep over a sharded store.
+ */
+class OrphanedFileStoreWalkerTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void walksFilesInPathOrderAndResumesAfterTheCursor() throws IOException {
+        for (String file : List.of("ab/cd/ab-2.pdf", "ab/cd/ab-1.pdf", "ab/ce/ab-3.pdf", "b0/00/b-1.pdf", "flat.pdf", "ab-x.pdf")) {
+            Files.createDirectories(root.resolve(file).getParent());
+            Files.writeString(root.resolve(file), file);
+        }
+
+        assertEquals(List.of("ab/cd/ab-1.pdf", "ab/cd/ab-2.pdf", "ab/ce/ab-3.pdf", "ab-x.pdf", "b0/00/b-1.pdf", "flat.pdf"),
+                walk(null));
+        assertEquals(List.of("ab/ce/ab-3.pdf", "ab-x.pdf", "b0/00/b-1.pdf", "flat.pdf"), walk(Path.of("ab/cd/ab-2.pdf")));
+        assertEquals(List.of("flat.pdf"), walk(Path.of("b0/00/b-1.pdf")));
+        assertEquals(List.of(), walk(Path.of("flat.pdf")));
+    }
+
+    @Test
+    void cursorOfADeletedFileStillResumesInPlace() throws IOException {
+        Files.createDirectories(root.resolve("ab/cd"));
+        Files.writeString(root.resolve("ab/cd/ab-3.pdf"), "x");
+        Files.createDirectories(root.resolve("ac/00"));
+        Files.writeString(root.resolve("ac/00/ac-1.pdf"), "x");
+
+        assertEquals(List.of("ab/cd/ab-3.pdf", "ac/00/ac-1.pdf"), walk(Path.of("ab/cd/ab-2.pdf")));
+        assertEquals(List.of("ac/00/ac-1.pdf"), walk(Path.of("ab/zz/gone.pdf")));
+    }
+
+    private List<String> walk(Path cursor) {
+        OrphanedFileCollectorService.StoreWalker walker = new OrphanedFileCollectorService.StoreWalker(root, cursor);
+        List<String> files = new ArrayList<>();
+        Path path;
+        while ((path = walker.next()) != null) {
+            files.add(root.relativize(path).toString().replace('\\', '/'));
+        }
+        return files;
+    }
+}